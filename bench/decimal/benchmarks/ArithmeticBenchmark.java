@@ -0,0 +1,74 @@
+package decimal.benchmarks;
+
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+
+/**
+ * Benchmarks for the four basic operations of {@link Decimal}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBenchmark {
+
+	/**
+	 * Working precision in digits; operands carry the same number of digits.
+	 */
+	@Param({"16", "34", "100", "1000", "10000"})
+	public int precision;
+
+	/**
+	 * Order of magnitude of the first operand; the second is always near one.
+	 */
+	@Param({"1e-20", "1", "1e20"})
+	public String magnitude;
+
+	private MathContext context;
+	private Decimal x;
+	private Decimal y;
+
+	@Setup
+	public void setup() {
+		context = new MathContext(precision);
+		x = Operands.operand(precision, magnitude, 0);
+		y = Operands.operand(precision, "1", 1);
+	}
+
+	@Benchmark
+	public Decimal add() {
+		return x.add(y, context);
+	}
+
+	@Benchmark
+	public Decimal subtract() {
+		return x.subtract(y, context);
+	}
+
+	@Benchmark
+	public Decimal multiply() {
+		return x.multiply(y, context);
+	}
+
+	@Benchmark
+	public Decimal divide() {
+		return x.divide(y, context);
+	}
+
+}
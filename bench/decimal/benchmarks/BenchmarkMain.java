@@ -0,0 +1,29 @@
+package decimal.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point running the benchmarks in this package with the GC profiler
+ * attached, so that every result reports the allocation rate alongside
+ * the throughput.
+ *
+ * <p>Any regular JMH command-line option is accepted and takes precedence,
+ * e.g. {@code -p precision=34 ArithmeticBenchmark}.</p>
+ */
+public class BenchmarkMain {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		OptionsBuilder options = new OptionsBuilder();
+		if (commandLine.getIncludes().isEmpty())
+			options.include(BenchmarkMain.class.getPackageName() + "\\..*Benchmark");
+		options.addProfiler(GCProfiler.class);
+		new Runner(options.parent(commandLine).build()).run();
+	}
+
+}
@@ -0,0 +1,63 @@
+package decimal.benchmarks;
+
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+import decimal.operations.elementaryExtensions.Trigonometry;
+import decimal.operations.elementaryExtensions.Trigonometry.PiAlgorithm;
+
+/**
+ * Benchmarks for {@link Trigonometry#pi}.
+ *
+ * <p>{@code pi} is measured both through the cache and with each algorithm
+ * evaluated from scratch.</p>
+ *
+ * @see FactorialBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantBenchmark {
+
+	@Param({"16", "34", "100", "1000", "10000"})
+	public int precision;
+
+	private MathContext context;
+
+	@Setup
+	public void setup() {
+		context = new MathContext(precision);
+	}
+
+	@Benchmark
+	public Decimal piCached() {
+		return Trigonometry.pi(context);
+	}
+
+	@Benchmark
+	public Decimal piBBP() {
+		return Trigonometry.pi(context, PiAlgorithm.BBP);
+	}
+
+	@Benchmark
+	public Decimal piChudnovsky() {
+		return Trigonometry.pi(context, PiAlgorithm.CHUDNOVSKY);
+	}
+
+}
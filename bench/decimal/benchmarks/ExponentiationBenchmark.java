@@ -0,0 +1,76 @@
+package decimal.benchmarks;
+
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+
+/**
+ * Benchmarks for {@link Decimal#pow}, {@link Decimal#root} and
+ * {@link Decimal#sqrt}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExponentiationBenchmark {
+
+	@Param({"16", "34", "100", "1000", "10000"})
+	public int precision;
+
+	/**
+	 * Order of magnitude of the base / radicand.
+	 */
+	@Param({"1e-20", "1", "1e20"})
+	public String magnitude;
+
+	private MathContext context;
+	private Decimal x;
+	private Decimal integerExponent;
+	private Decimal realExponent;
+	private Decimal degree;
+
+	@Setup
+	public void setup() {
+		context = new MathContext(precision);
+		x = Operands.operand(precision, magnitude, 0);
+		integerExponent = new Decimal(37);
+		realExponent = Operands.operand(precision, "1", 1);
+		degree = new Decimal(3);
+	}
+
+	@Benchmark
+	public Decimal powInteger() {
+		return x.pow(integerExponent, context);
+	}
+
+	@Benchmark
+	public Decimal powReal() {
+		return x.pow(realExponent, context);
+	}
+
+	@Benchmark
+	public Decimal root() {
+		return x.root(degree, context);
+	}
+
+	@Benchmark
+	public Decimal sqrt() {
+		return x.sqrt(context);
+	}
+
+}
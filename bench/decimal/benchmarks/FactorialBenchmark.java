@@ -0,0 +1,49 @@
+package decimal.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+
+/**
+ * Benchmarks for {@link Decimal#factorial()}, which is exact and therefore
+ * independent of any precision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactorialBenchmark {
+
+	/**
+	 * Argument of the factorial.
+	 */
+	@Param({"20", "1000", "100000"})
+	public int n;
+
+	private Decimal argument;
+
+	@Setup
+	public void setup() {
+		argument = new Decimal(n);
+	}
+
+	@Benchmark
+	public Decimal factorial() {
+		return argument.factorial();
+	}
+
+}
@@ -0,0 +1,72 @@
+package decimal.benchmarks;
+
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+
+/**
+ * Benchmarks for {@link Decimal#isInteger()} and {@link Decimal#isEven()}.
+ *
+ * <p>The {@code floorEquals} and {@code remainderParity} benchmarks reproduce
+ * the previous implementations ({@code equals(floor())} and
+ * {@code remainder(TWO).equals(ZERO)}) as a baseline; run with
+ * {@code -prof gc} to compare allocation per operation as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntegralityBenchmark {
+
+	/**
+	 * The operand: a small or large integer written with a positive scale
+	 * (e.g. {@code 42.000}), or a small or large non-integer.
+	 */
+	@Param({"12345.000", "1234.5", "1e30", "123456789012345678901234567890.5"})
+	public String operand;
+
+	private Decimal value;
+
+	@Setup
+	public void setup() {
+		value = new Decimal(operand);
+		if (value.scale() < 0) // keep the digits of large integers behind a positive scale
+			value = value.setScale(3, RoundingMode.UNNECESSARY);
+	}
+
+	@Benchmark
+	public boolean isInteger() {
+		return value.isInteger();
+	}
+
+	@Benchmark
+	public boolean floorEquals() {
+		return value.equals(value.floor());
+	}
+
+	@Benchmark
+	public boolean isEven() {
+		return value.isInteger() && value.isEven();
+	}
+
+	@Benchmark
+	public boolean remainderParity() {
+		return value.equals(value.floor()) && value.remainder(Decimal.TWO).equals(Decimal.ZERO);
+	}
+
+}
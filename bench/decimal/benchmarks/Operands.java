@@ -0,0 +1,63 @@
+package decimal.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import decimal.Decimal;
+
+/**
+ * Deterministic operand generation shared by the benchmarks.
+ *
+ * <p>Operands are generated from a fixed seed so that runs are comparable
+ * across changes.</p>
+ */
+final class Operands {
+
+	/**
+	 * Seed used for every generated operand.
+	 */
+	private static final long SEED = 0x5DEECE66DL;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private Operands() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns a value with {@code digits} random significant digits whose
+	 * order of magnitude is {@code magnitude}, i.e. a value in
+	 * {@code [magnitude, 10 × magnitude)}.
+	 *
+	 * @param digits    the number of significant digits
+	 * @param magnitude the order of magnitude, as a string such as {@code "1e-20"}
+	 * @param salt      distinguishes operands generated for the same benchmark
+	 * @return the generated operand
+	 */
+	static Decimal operand(int digits, String magnitude, int salt) {
+		Random random = new Random(SEED + salt);
+		StringBuilder builder = new StringBuilder(digits);
+		builder.append((char) ('1' + random.nextInt(9)));
+		for (int i = 1; i < digits; i++)
+			builder.append((char) ('0' + random.nextInt(10)));
+		BigDecimal unit = new BigDecimal(new BigInteger(builder.toString()), digits - 1);
+		return new Decimal(unit.multiply(new BigDecimal(magnitude)));
+	}
+
+	/**
+	 * Returns a value in {@code (0, 1)} with {@code digits} random significant
+	 * digits, for functions restricted to {@code [-1, 1]}.
+	 *
+	 * @param digits the number of significant digits
+	 * @param salt   distinguishes operands generated for the same benchmark
+	 * @return the generated operand
+	 */
+	static Decimal unitOperand(int digits, int salt) {
+		return operand(digits, "0.1", salt);
+	}
+
+}
@@ -0,0 +1,86 @@
+package decimal.benchmarks;
+
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import decimal.Decimal;
+import decimal.operations.elementaryExtensions.Trigonometry;
+
+/**
+ * Benchmarks for the forward and inverse trigonometric functions.
+ *
+ * <p>The forward functions take an angle of the given magnitude; the
+ * inverse functions take a value in {@code (0, 1)} so that every one of
+ * them is inside its domain.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigonometryBenchmark {
+
+	@Param({"16", "34", "100", "1000", "10000"})
+	public int precision;
+
+	/**
+	 * Order of magnitude of the angle passed to the forward functions.
+	 */
+	@Param({"1e-20", "1", "1e20"})
+	public String magnitude;
+
+	private MathContext context;
+	private Decimal angle;
+	private Decimal unit;
+
+	@Setup
+	public void setup() {
+		context = new MathContext(precision);
+		angle = Operands.operand(precision, magnitude, 0);
+		unit = Operands.unitOperand(precision, 1);
+	}
+
+	@Benchmark
+	public Decimal sin() {
+		return Trigonometry.sin(angle, context);
+	}
+
+	@Benchmark
+	public Decimal cos() {
+		return Trigonometry.cos(angle, context);
+	}
+
+	@Benchmark
+	public Decimal tan() {
+		return Trigonometry.tan(angle, context);
+	}
+
+	@Benchmark
+	public Decimal arcsin() {
+		return Trigonometry.arcsin(unit, context);
+	}
+
+	@Benchmark
+	public Decimal arccos() {
+		return Trigonometry.arccos(unit, context);
+	}
+
+	@Benchmark
+	public Decimal arctan() {
+		return Trigonometry.arctan(unit, context);
+	}
+
+}
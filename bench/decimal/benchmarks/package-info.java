@@ -0,0 +1,26 @@
+/**
+ * JMH benchmarks for the public {@link decimal.Decimal} operations.
+ *
+ * <p>This source folder is kept separate from {@code src} so that the
+ * library itself does not depend on JMH. To run it, compile it together
+ * with {@code src} against {@code jmh-core} and
+ * {@code jmh-generator-annprocess} (the annotation processor generates
+ * the benchmark stubs), then either:</p>
+ * <ul>
+ *   <li>run {@link decimal.benchmarks.BenchmarkMain}, which runs every
+ *       benchmark with the GC profiler attached, or</li>
+ *   <li>run {@code org.openjdk.jmh.Main} directly, e.g.
+ *       {@code -prof gc -p precision=34,100 TrigonometryBenchmark}.</li>
+ * </ul>
+ *
+ * <p>Every benchmark is parameterized over the working precision
+ * ({@code 16, 34, 100, 1000, 10000} digits) and, where the operation
+ * accepts an arbitrary operand, over the operand magnitude. The
+ * transcendental functions are slow at the highest precisions, so it is
+ * usually worth narrowing the {@code precision} parameter with {@code -p}.</p>
+ *
+ * <p>Throughput is reported in operations per second; with
+ * {@code -prof gc} JMH additionally reports the allocation rate
+ * ({@code gc.alloc.rate.norm} is bytes allocated per operation).</p>
+ */
+package decimal.benchmarks;
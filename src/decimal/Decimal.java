@@ -1,5 +1,14 @@
 package decimal;
 
+import static decimal.helpers.CompactArithmetic.INFLATED;
+import static decimal.helpers.CompactArithmetic.MAX_TEN_EXPONENT;
+import static decimal.helpers.CompactArithmetic.scaleUp;
+import static decimal.helpers.CompactArithmetic.tenPower;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -8,7 +17,10 @@ import java.math.RoundingMode;
 import java.util.Objects;
 import java.util.function.Function;
 
+import decimal.helpers.CompactArithmetic;
 import decimal.operations.ArithmeticBasics;
+import decimal.operations.Factorial;
+import decimal.operations.ModularArithmetic;
 import decimal.operations.elementaryExtensions.Exponentiation;
 import decimal.operations.elementaryExtensions.RootExtraction;
 
@@ -85,14 +97,51 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * object maintain binary compatibility.
 	 */
 	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The unscaled value if it fits in a {@code long}, otherwise
+	 * {@link CompactArithmetic#INFLATED}.
+	 *
+	 * <p><strong>Developer note:</strong> Together with {@link #scale} this is
+	 * the compact form of the value ({@code compact × 10^-scale}). Most values
+	 * in practice (indices, counters, amounts with fewer than 19 digits) are
+	 * compact, and the operations with fast paths for them never touch a
+	 * {@code BigDecimal}. The field is transient because {@code Decimal} is
+	 * serialized through {@link DecimalCodec.SerialForm}, and the original
+	 * serialized form holds only {@link #value}; see {@link #readResolve()}.</p>
+	 */
+	private final transient long compact;
+
 	/**
-	 * The underlying {@link BigDecimal} value that this {@code Decimal}
-	 * instance wraps.
+	 * The scale of the value, meaningful only while {@link #compact} is not
+	 * {@link CompactArithmetic#INFLATED}.
+	 */
+	private final transient int scale;
+
+	/**
+	 * The {@link BigDecimal} form of this {@code Decimal}, if it was
+	 * constructed from one or is inflated.
 	 * <p>
-	 * This field is immutable and never {@code null}.
+	 * Never {@code null} for inflated values. The field is final so that a
+	 * {@code Decimal} shared through a data race is still seen with its
+	 * value; compact values created without a {@code BigDecimal} leave it
+	 * {@code null} and use {@link #inflatedCompact} instead.
 	 */
 	private final BigDecimal value;
 
+	/**
+	 * The {@link BigDecimal} form of a compact value whose {@link #value} is
+	 * {@code null}, created on first use by {@link #toBigDecimal()} and then
+	 * reused.
+	 * <p>
+	 * <strong>Developer note:</strong> Unlike {@link #value} this field is
+	 * written lazily and without synchronization. A thread that does not see
+	 * the write finds {@code null} and rebuilds an equal, immutable value
+	 * from the final {@link #compact} and {@link #scale}, so the race is
+	 * benign.
+	 */
+	private transient BigDecimal inflatedCompact;
+
 	/**
 	 * Creates a new {@code Decimal} instance wrapping the specified
 	 * {@link BigDecimal} value.
@@ -106,6 +155,8 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	public Decimal(BigDecimal value) {
 		this.value = Objects.requireNonNull(value, "value must not be null");
+		this.compact = compactOf(value);
+		this.scale = value.scale();
 	}
 
 	/**
@@ -117,7 +168,15 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @param value the {@code BigInteger} to wrap (must not be {@code null})
 	 */
 	public Decimal(BigInteger value) {
-		this.value = new BigDecimal(Objects.requireNonNull(value, "value must not be null"));
+		Objects.requireNonNull(value, "value must not be null");
+		if (value.bitLength() < Long.SIZE && value.longValue() != INFLATED) {
+			this.compact = value.longValue();
+			this.value = null;
+		} else {
+			this.compact = INFLATED;
+			this.value = new BigDecimal(value);
+		}
+		this.scale = 0;
 	}
 
 	/**
@@ -132,19 +191,33 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * a {@link NumberFormatException} is thrown. This constructor
 	 * re-throws the exception so that the stack trace originates
 	 * from {@code Decimal}, rather than {@code BigDecimal}, making
-	 * the wrapper feel more self-contained.</p>
+	 * the wrapper feel more self-contained. Plain strings with at most 18
+	 * digits (such as {@code "-1234.56"}) are parsed directly into the
+	 * compact form without creating a {@code BigDecimal}.</p>
 	 *
 	 * @param value the string representation of the decimal value
 	 * @throws NumberFormatException if {@code value} is not a valid
 	 *         representation of a {@code BigDecimal}
 	 */
 	public Decimal(String value) {
+		long unscaled = parseCompact(Objects.requireNonNull(value, "value must not be null"));
+		if (unscaled != INFLATED) {
+			int point = value.indexOf('.');
+			this.compact = unscaled;
+			this.scale = point < 0 ? 0 : value.length() - point - 1;
+			this.value = null;
+			return;
+		}
+		BigDecimal parsed;
 		try {
-			this.value = new BigDecimal(Objects.requireNonNull(value, "value must not be null"));
+			parsed = new BigDecimal(value);
 		} catch (NumberFormatException e) {
 			// Re-throw so the exception appears to come from Decimal
 			throw new NumberFormatException(e.toString());
 		}
+		this.value = parsed;
+		this.compact = compactOf(parsed);
+		this.scale = parsed.scale();
 	}
 
 	/**
@@ -163,6 +236,8 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	public Decimal(double value) {
 		this.value = new BigDecimal(Objects.requireNonNull(value, "value must not be null"));
+		this.compact = compactOf(this.value);
+		this.scale = this.value.scale();
 	}
 
 	/**
@@ -173,7 +248,9 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @param value the {@code int} value to wrap
 	 */
 	public Decimal(int value) {
-		this.value = new BigDecimal(Objects.requireNonNull(value, "value must not be null"));
+		this.compact = value;
+		this.scale = 0;
+		this.value = null;
 	}
 
 	/**
@@ -184,7 +261,278 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @param value the {@code long} value to wrap
 	 */
 	public Decimal(long value) {
-		this.value = new BigDecimal(Objects.requireNonNull(value, "value must not be null"));
+		this(value, 0);
+	}
+
+	/**
+	 * Creates a new {@code Decimal} equal to {@code unscaled × 10^-scale}.
+	 *
+	 * @param unscaled the unscaled value
+	 * @param scale    the scale
+	 */
+	private Decimal(long unscaled, int scale) {
+		if (unscaled == INFLATED) {
+			this.compact = INFLATED;
+			this.value = BigDecimal.valueOf(unscaled, scale);
+		} else {
+			this.compact = unscaled;
+			this.value = null;
+		}
+		this.scale = scale;
+	}
+
+	/**
+	 * Returns a {@code Decimal} equal to {@code unscaled × 10^-scale}.
+	 *
+	 * <p>Equivalent to {@link BigDecimal#valueOf(long, int)}, but the result
+	 * is held in the compact form and does not allocate a
+	 * {@code BigDecimal}.</p>
+	 *
+	 * @param unscaled the unscaled value
+	 * @param scale    the scale
+	 * @return a {@code Decimal} equal to {@code unscaled × 10^-scale}
+	 */
+	public static Decimal valueOf(long unscaled, int scale) {
+		return new Decimal(unscaled, scale);
+	}
+
+	/**
+	 * Returns a {@code Decimal} equal to {@code value} with scale 0.
+	 *
+	 * <p>Like {@link Long#valueOf(long)}, integers in a small range are
+	 * served from a shared table, so calling this in a loop (series indices,
+	 * counters) does not allocate. Values outside the range are created as by
+	 * {@link #Decimal(long)}.</p>
+	 *
+	 * <p><strong>Developer note:</strong> The range defaults to
+	 * {@code [-1024, 65535]} and can be changed with the system properties
+	 * {@code decimal.Decimal.IntegerCache.low} and
+	 * {@code decimal.Decimal.IntegerCache.high}, read once when the table is
+	 * first used. Code that needs a distinct instance should keep using the
+	 * constructor.</p>
+	 *
+	 * @param value the value
+	 * @return a {@code Decimal} equal to {@code value}
+	 */
+	public static Decimal valueOf(long value) {
+		if (value >= IntegerCache.LOW && value <= IntegerCache.HIGH) {
+			int index = (int) (value - IntegerCache.LOW);
+			Decimal cached = IntegerCache.TABLE[index];
+			if (cached == null)
+				IntegerCache.TABLE[index] = cached = new Decimal(value, 0);
+			return cached;
+		}
+		return new Decimal(value, 0);
+	}
+
+	/**
+	 * Table behind {@link #valueOf(long)}, in a holder class so it is only
+	 * set up when first used.
+	 *
+	 * <p><strong>Developer note:</strong> The table is allocated up front but
+	 * its entries are created on first request. Two threads racing on the same
+	 * entry may both create it; that is harmless because the compact fields of
+	 * {@code Decimal} are final, so either instance is safely published and
+	 * equal to the other.</p>
+	 */
+	private static final class IntegerCache {
+
+		/**
+		 * Default lowest cached value.
+		 */
+		private static final long DEFAULT_LOW = -1024;
+
+		/**
+		 * Default highest cached value.
+		 */
+		private static final long DEFAULT_HIGH = 65535;
+
+		/**
+		 * Largest number of entries the table may hold, whatever the
+		 * configured range.
+		 */
+		private static final long MAX_SIZE = 1 << 24;
+
+		/**
+		 * The lowest cached value.
+		 */
+		private static final long LOW;
+
+		/**
+		 * The highest cached value.
+		 */
+		private static final long HIGH;
+
+		/**
+		 * The cached values, indexed by {@code value - LOW}.
+		 */
+		private static final Decimal[] TABLE;
+
+		static {
+			long low = Long.getLong("decimal.Decimal.IntegerCache.low", DEFAULT_LOW);
+			long high = Long.getLong("decimal.Decimal.IntegerCache.high", DEFAULT_HIGH);
+			if (high < low || high - low >= MAX_SIZE || high - low < 0) { // invalid or overflowing range
+				low = DEFAULT_LOW;
+				high = DEFAULT_HIGH;
+			}
+			LOW = low;
+			HIGH = high;
+			TABLE = new Decimal[(int) (high - low + 1)];
+			for (Decimal constant : new Decimal[] {ZERO, ONE, TWO})
+				if (constant.compact >= low && constant.compact <= high)
+					TABLE[(int) (constant.compact - low)] = constant;
+		}
+
+		/**
+		 * Private constructor to prevent instantiation.
+		 *
+		 * @throws AssertionError always, since this class is not meant to be instantiated
+		 */
+		private IntegerCache() {
+			throw new AssertionError("No instances for you!");
+		}
+	}
+
+	/**
+	 * Returns the unscaled value of a {@link BigDecimal} if it can be read
+	 * without allocating, otherwise {@link CompactArithmetic#INFLATED}.
+	 *
+	 * <p><strong>Developer note:</strong> {@code BigDecimal} does not expose
+	 * its own compact field, and {@link BigDecimal#unscaledValue()} allocates
+	 * a {@code BigInteger}. Integers are read through
+	 * {@link BigDecimal#longValueExact()}, which does not; fractional values
+	 * stay inflated, which is no worse than before the compact form existed.</p>
+	 *
+	 * @param value the value to read
+	 * @return the unscaled value, or {@link CompactArithmetic#INFLATED}
+	 */
+	private static long compactOf(BigDecimal value) {
+		if (value.scale() != 0 || value.precision() > MAX_TEN_EXPONENT)
+			return INFLATED;
+		return value.longValueExact();
+	}
+
+	/**
+	 * Parses a plain decimal string of the form {@code [+-]digits[.digits]}
+	 * with at most 18 digits into its unscaled value.
+	 *
+	 * @param value the string to parse
+	 * @return the unscaled value, or {@link CompactArithmetic#INFLATED} if
+	 *         the string has any other form (left to
+	 *         {@link BigDecimal#BigDecimal(String)})
+	 */
+	private static long parseCompact(String value) {
+		int length = value.length();
+		int index = 0;
+		boolean negative = false;
+		if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+			negative = value.charAt(0) == '-';
+			index++;
+		}
+		long unscaled = 0;
+		int digits = 0;
+		boolean point = false;
+		for (; index < length; index++) {
+			char c = value.charAt(index);
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_TEN_EXPONENT)
+					return INFLATED;
+				unscaled = unscaled * 10 + (c - '0');
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				return INFLATED;
+			}
+		}
+		if (digits == 0)
+			return INFLATED;
+		return negative ? -unscaled : unscaled;
+	}
+
+	/**
+	 * Returns {@code true} if this {@code Decimal} is held in the compact
+	 * form, i.e. its unscaled value fits in a {@code long}.
+	 *
+	 * <p><strong>Developer note:</strong> This is a representation detail,
+	 * exposed so the operation classes in {@code decimal.operations} can take
+	 * primitive fast paths. Whether a value is compact never changes its
+	 * numeric behavior.</p>
+	 *
+	 * @return {@code true} if {@link #compactUnscaledValue()} is meaningful
+	 */
+	public boolean isCompact() {
+		return compact != INFLATED;
+	}
+
+	/**
+	 * Returns the unscaled value of this {@code Decimal} if it is held in the
+	 * compact form, otherwise {@link Long#MIN_VALUE}.
+	 *
+	 * @return the unscaled value, or {@code Long.MIN_VALUE} if not compact
+	 * @see #isCompact()
+	 */
+	public long compactUnscaledValue() {
+		return compact;
+	}
+
+	/**
+	 * Returns the scale of this {@code Decimal}, i.e. the number of digits
+	 * to the right of the decimal point.
+	 *
+	 * <p>Equivalent to {@link BigDecimal#scale()}.</p>
+	 *
+	 * @return the scale of this {@code Decimal}
+	 */
+	public int scale() {
+		return compact != INFLATED ? scale : value.scale();
+	}
+
+	/**
+	 * Writes this {@code Decimal} to {@code out} in the compact binary
+	 * format of {@link DecimalCodec}.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if an I/O error occurs
+	 * @see #readFrom(DataInput)
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		DecimalCodec.write(this, out);
+	}
+
+	/**
+	 * Reads a {@code Decimal} written by {@link #writeTo(DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the decoded value, with the value and scale of the one written
+	 * @throws java.io.EOFException if the input ends before the value does
+	 * @throws IOException          if the encoding is malformed or an I/O
+	 *                              error occurs
+	 */
+	public static Decimal readFrom(DataInput in) throws IOException {
+		return DecimalCodec.read(in);
+	}
+
+	/**
+	 * Serializes this {@code Decimal} as a {@link DecimalCodec.SerialForm},
+	 * in the compact binary format, instead of as its {@link BigDecimal}.
+	 *
+	 * @return the serialized form of this value
+	 */
+	private Object writeReplace() {
+		return new DecimalCodec.SerialForm(this);
+	}
+
+	/**
+	 * Rebuilds the compact form of a {@code Decimal} serialized in the
+	 * original format, in which only {@link #value} was written.
+	 *
+	 * @return an equal {@code Decimal} with its compact form restored
+	 * @throws InvalidObjectException if the serialized value is missing
+	 */
+	private Object readResolve() throws InvalidObjectException {
+		if (value == null)
+			throw new InvalidObjectException("value must not be null");
+		return new Decimal(value);
 	}
 
 
@@ -193,12 +541,18 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * {@code Decimal}.
 	 *
 	 * <p><strong>Developer note:</strong> This is a direct accessor for
-	 * interoperability with APIs that require {@code BigDecimal}.
+	 * interoperability with APIs that require {@code BigDecimal}. Compact
+	 * values create their {@code BigDecimal} on the first call.
 	 *
 	 * @return the underlying {@code BigDecimal}
 	 */
 	public BigDecimal toBigDecimal() {
-		return value;
+		if (value != null)
+			return value;
+		BigDecimal result = inflatedCompact;
+		if (result == null)
+			inflatedCompact = result = BigDecimal.valueOf(compact, scale);
+		return result;
 	}
 
 	/**
@@ -211,7 +565,9 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @return a {@code BigInteger} representation of this {@code Decimal}
 	 */
 	public BigInteger toBigInteger() {
-		return value.toBigInteger();
+		if (compact != INFLATED && scale == 0)
+			return BigInteger.valueOf(compact);
+		return toBigDecimal().toBigInteger();
 	}
 
 	/**
@@ -228,7 +584,9 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @return a {@code double} approximation of this {@code Decimal}
 	 */
 	public double toDouble() {
-		return value.doubleValue();
+		if (compact != INFLATED && scale == 0)
+			return compact; // correctly rounded, like BigDecimal.doubleValue()
+		return toBigDecimal().doubleValue();
 	}
 
 	/**
@@ -243,8 +601,10 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @throws ArithmeticException if the value cannot be represented as an exact {@code int}
 	 */
 	public int toInt() {
+		if (compact != INFLATED && scale == 0 && compact == (int) compact)
+			return (int) compact;
 		try {
-			return value.intValueExact();
+			return toBigDecimal().intValueExact();
 		} catch (ArithmeticException e) {
 			throw new ArithmeticException(e.toString());
 		}
@@ -262,8 +622,10 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @throws ArithmeticException if the value cannot be represented as an exact {@code long}
 	 */
 	public long toLong() {
+		if (compact != INFLATED && scale == 0)
+			return compact;
 		try {
-			return value.longValueExact();
+			return toBigDecimal().longValueExact();
 		} catch (ArithmeticException e) {
 			throw new ArithmeticException(e.toString());
 		}
@@ -311,11 +673,11 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	public String format(DecimalStringFormat format) {
 		return switch (format) {
-		case DEFAULT, STRIPPED 	-> value.stripTrailingZeros().toPlainString();
-		case PLAIN 				-> value.toPlainString();
-		case ENGINEERING 		-> value.toEngineeringString();
+		case DEFAULT, STRIPPED 	-> toBigDecimal().stripTrailingZeros().toPlainString();
+		case PLAIN 				-> toBigDecimal().toPlainString();
+		case ENGINEERING 		-> toBigDecimal().toEngineeringString();
 		case SCIENTIFIC 		-> toScientificString();
-		case PRESERVE_SCALE 	-> value.toString();
+		case PRESERVE_SCALE 	-> toBigDecimal().toString();
 		};
 	}
 
@@ -342,7 +704,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 		// rough implementation
 
 		// making the coefficient
-		BigDecimal stripTrailingZeros = value.stripTrailingZeros();
+		BigDecimal stripTrailingZeros = toBigDecimal().stripTrailingZeros();
 		BigInteger unscaledValue = stripTrailingZeros.unscaledValue();
 		StringBuilder builder = new StringBuilder(unscaledValue.toString());
 		builder.insert(1, '.').toString();
@@ -391,6 +753,23 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 		return ArithmeticBasics.multiplication(this, multiplicand, context);
 	}
 
+	/**
+	 * Returns a new {@code Decimal} whose value is
+	 * {@code (this × multiplicand) + addend}, rounded once using the supplied
+	 * {@link MathContext} (fused multiply-add).
+	 *
+	 * <p>Unlike {@code multiply(multiplicand, context).add(addend, context)},
+	 * the product is not rounded before the addition.</p>
+	 *
+	 * @param multiplicand the value to multiply this {@code Decimal} by
+	 * @param addend       the value to add to the product
+	 * @param context      the {@link MathContext} specifying precision and rounding
+	 * @return a {@code Decimal} representing {@code this × multiplicand + addend}
+	 */
+	public Decimal fma(Decimal multiplicand, Decimal addend, MathContext context) {
+		return ArithmeticBasics.fusedMultiplyAdd(this, multiplicand, addend, context);
+	}
+
 	/**
 	 * Returns a new {@code Decimal} whose value is
 	 * {@code (this ÷ divisor)}, using the supplied {@link MathContext}.
@@ -417,7 +796,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @throws ArithmeticException if {@code divisor} is zero
 	 */
 	public Decimal remainder(Decimal divisor, MathContext context) {
-		return new Decimal(value.remainder(divisor.value, context));
+		return new Decimal(toBigDecimal().remainder(divisor.toBigDecimal(), context));
 	}
 
 	/**
@@ -438,7 +817,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	@Deprecated
 	public Decimal round(MathContext context) {
-		return new Decimal(value.round(context));
+		return new Decimal(toBigDecimal().round(context));
 	}
 
 	/**
@@ -461,8 +840,15 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 *         mode is {@link RoundingMode#UNNECESSARY}
 	 */
 	public Decimal setScale(int newScale, RoundingMode mode) {
+		if (compact != INFLATED && newScale >= scale) {
+			if (newScale == scale)
+				return this;
+			long rescaled = scaleUp(compact, (long) newScale - scale);
+			if (rescaled != INFLATED)
+				return new Decimal(rescaled, newScale);
+		}
 		try {
-			return new Decimal(value.setScale(newScale, mode));
+			return new Decimal(toBigDecimal().setScale(newScale, mode));
 		} catch (ArithmeticException e) {
 			throw new ArithmeticException(e.toString());
 		}
@@ -525,7 +911,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @throws ArithmeticException if {@code divisor} is zero
 	 */
 	public Decimal remainder(Decimal divisor) {
-		return new Decimal(value.remainder(divisor.value));
+		return new Decimal(toBigDecimal().remainder(divisor.toBigDecimal()));
 	}
 
 	/**
@@ -537,6 +923,8 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @return a {@code Decimal} representing {@code -this}
 	 */
 	public Decimal negate() {
+		if (compact != INFLATED)
+			return new Decimal(-compact, scale);
 		return new Decimal(value.negate());
 	}
 
@@ -569,7 +957,18 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	@Override
 	public int compareTo(Decimal other) {
-		return value.compareTo(other.value);
+		if (compact != INFLATED && other.compact != INFLATED) {
+			if (scale == other.scale)
+				return Long.compare(compact, other.compact);
+			int signum = Long.signum(compact);
+			if (signum != Long.signum(other.compact))
+				return Integer.compare(signum, Long.signum(other.compact));
+			long left = scale < other.scale ? scaleUp(compact, (long) other.scale - scale) : compact;
+			long right = other.scale < scale ? scaleUp(other.compact, (long) scale - other.scale) : other.compact;
+			if (left != INFLATED && right != INFLATED)
+				return Long.compare(left, right);
+		}
+		return toBigDecimal().compareTo(other.toBigDecimal());
 	}
 
 	/**
@@ -702,7 +1101,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 */
 	@Override
 	public boolean equals(Object other) {
-		return value.equals(other);
+		return toBigDecimal().equals(other);
 	}
 
 	/**
@@ -714,16 +1113,40 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @return the signum of this value
 	 */
 	public int signum() {
+		if (compact != INFLATED)
+			return Long.signum(compact);
 		return value.signum();
 	}
 
 	/**
 	 * Returns {@code true} if this {@code Decimal} has no fractional part.
 	 *
+	 * <p><strong>Developer note:</strong> The value is {@code unscaled × 10^-scale},
+	 * so it is an integer exactly when the scale is not positive or the
+	 * unscaled value ends in at least {@code scale} zero digits. Compact values
+	 * are checked with one {@code long} remainder. Inflated values are first
+	 * screened with the cheap necessary conditions (a non-zero value with
+	 * fewer digits than its scale lies strictly between -1 and 1, and the
+	 * unscaled value must be divisible by {@code 2^scale}); only values
+	 * passing both need a {@code BigInteger} remainder.</p>
+	 *
 	 * @return {@code true} if this value is an integer, {@code false} otherwise
 	 */
 	public boolean isInteger() {
-		return this.equals(floor());
+		if (compact != INFLATED) {
+			if (scale <= 0 || compact == 0)
+				return true;
+			return scale <= MAX_TEN_EXPONENT && compact % tenPower(scale) == 0;
+		}
+		int scale = value.scale();
+		if (scale <= 0 || value.signum() == 0)
+			return true;
+		if (value.precision() <= scale)
+			return false;
+		BigInteger unscaled = value.unscaledValue();
+		if (unscaled.getLowestSetBit() < scale)
+			return false;
+		return unscaled.remainder(BigInteger.TEN.pow(scale)).signum() == 0;
 	}
 
 	/**
@@ -750,13 +1173,24 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * <p>An even number is defined as an integer divisible by 2 with no remainder.
 	 * If this value is not an integer, an {@link IllegalStateException} is thrown.</p>
 	 *
+	 * <p><strong>Developer note:</strong> For an integer
+	 * {@code unscaled × 10^-scale} with a positive scale, the integer is
+	 * {@code unscaled / (2^scale × 5^scale)}, and since {@code 5^scale} is odd
+	 * it is even exactly when {@code unscaled} has more than {@code scale}
+	 * trailing zero bits. A non-positive scale makes any non-zero value a
+	 * multiple of ten (or leaves it as is when the scale is zero). Either
+	 * way only the lowest bits of the unscaled value are inspected.</p>
+	 *
 	 * @return {@code true} if this value is even
 	 * @throws IllegalStateException if this value is not an integer
 	 */
 	public boolean isEven() {
 		if (!isInteger())
 			throw new IllegalStateException("Non-integers are neither even or odd");
-		return remainder(TWO).equals(ZERO);
+		if (compact != INFLATED)
+			return compact == 0 || scale < 0 || Long.numberOfTrailingZeros(compact) > scale;
+		int scale = value.scale();
+		return value.signum() == 0 || scale < 0 || value.unscaledValue().getLowestSetBit() > scale;
 	}
 
 	/**
@@ -940,17 +1374,21 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * or is negative, an {@link ArithmeticException} is thrown.</p>
 	 *
 	 * <p><strong>Developer note:</strong> This version avoids {@link MathContext}
-	 * overhead by delegating to a pure {@link BigInteger} divide-and-conquer
-	 * multiplication strategy, which is more efficient for large values.</p>
+	 * overhead by delegating to {@link Factorial#factorial(int)}, which uses a
+	 * fork/join product tree for moderate values and the prime swing algorithm
+	 * for large ones.</p>
 	 *
 	 * @return the factorial of this value
-	 * @throws ArithmeticException if the value is not a non-negative integer
+	 * @throws ArithmeticException if the value is not a non-negative integer,
+	 *                             or is larger than {@link Integer#MAX_VALUE}
 	 */
 	public Decimal factorial() {
 		if (!isInteger() || isNegative())
 			throw new ArithmeticException("value must be a non-negative integer");
 		if (lessThan(TWO)) return ONE;
-		return new Decimal(factorialHelper(BigInteger.TWO, this.toBigInteger()));
+		if (greaterThan(valueOf(Integer.MAX_VALUE)))
+			throw new ArithmeticException("value too large for factorial");
+		return new Decimal(Factorial.factorial(toInt()));
 	}
 
 	/**
@@ -966,7 +1404,7 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @param high  the upper bound of the multiplication range
 	 * @param context the math context specifying precision and rounding
 	 * @return the product of all integers in the range [low, high]
-	 * @deprecated use the {@link BigInteger}-based factorial helper instead
+	 * @deprecated use {@link #factorial()} instead
 	 */
 	@Deprecated
 	private static Decimal factorialHelper(Decimal low, Decimal high, MathContext context) {
@@ -978,27 +1416,6 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 		return left.multiply(right);
 	}
 
-	/**
-	 * Helper method for computing factorial recursively using
-	 * a divide-and-conquer approach, with {@link BigInteger} arithmetic.
-	 *
-	 * <p><strong>Developer note:</strong> This implementation avoids
-	 * precision contexts entirely and is significantly faster and more
-	 * memory-efficient than the {@code Decimal}-based version.</p>
-	 *
-	 * @param low  the lower bound of the multiplication range
-	 * @param high the upper bound of the multiplication range
-	 * @return the product of all integers in the range [low, high]
-	 */
-	private static BigInteger factorialHelper(BigInteger low, BigInteger high) {
-		if (low.compareTo(high) > 0) 	return BigInteger.ONE;
-		if (low.compareTo(high) == 0) 	return low;
-		BigInteger mid 		= low.add(high).shiftRight(1);
-		BigInteger left 	= factorialHelper(low, mid);
-		BigInteger right 	= factorialHelper(mid.add(BigInteger.ONE), high);
-		return left.multiply(right);
-	}
-
 	/**
 	 * Returns a new {@code Decimal} whose value is this {@code Decimal}
 	 * shifted left by the specified number of bits.
@@ -1190,11 +1607,18 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * Computes the remainder of this value divided by the given {@code divisor},
 	 * using floor division.
 	 *
+	 * <p><strong>Developer note:</strong> When both values are integers the
+	 * remainder is computed exactly on the integer values by
+	 * {@link ModularArithmetic#modulo(Decimal, Decimal)} and {@code context}
+	 * is not used, so large integers are not limited by its precision.</p>
+	 *
 	 * @param divisor the divisor
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the remainder after division
 	 */
 	public Decimal mod(Decimal divisor, MathContext context) {
+		if (isInteger() && divisor.isInteger())
+			return ModularArithmetic.modulo(this, divisor);
 		return subtract(divisor.multiply(divide(divisor, context).floor(), context), context);
 	}
 
@@ -1209,6 +1633,54 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 		return mod(divisor, DEFAULT_CONTEXT);
 	}
 
+	/**
+	 * Returns {@code (this × multiplicand) mod modulus} for integers.
+	 *
+	 * @param multiplicand the integer to multiply by
+	 * @param modulus      the positive integer modulus
+	 * @return the product reduced into {@code [0, modulus)}
+	 * @throws IllegalArgumentException if any operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive
+	 * @see ModularArithmetic#modMultiply(Decimal, Decimal, Decimal)
+	 */
+	public Decimal modMultiply(Decimal multiplicand, Decimal modulus) {
+		return ModularArithmetic.modMultiply(this, multiplicand, modulus);
+	}
+
+	/**
+	 * Returns {@code this^exponent mod modulus} for integers.
+	 *
+	 * <p>A negative exponent raises the modular inverse of this value. To
+	 * raise many values with the same modulus, create a
+	 * {@link ModularArithmetic.Montgomery} context once instead.</p>
+	 *
+	 * @param exponent the integer exponent
+	 * @param modulus  the positive integer modulus
+	 * @return the power reduced into {@code [0, modulus)}
+	 * @throws IllegalArgumentException if any operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive, or
+	 *                                  {@code exponent} is negative and this
+	 *                                  value is not invertible
+	 * @see ModularArithmetic#modPow(Decimal, Decimal, Decimal)
+	 */
+	public Decimal modPow(Decimal exponent, Decimal modulus) {
+		return ModularArithmetic.modPow(this, exponent, modulus);
+	}
+
+	/**
+	 * Returns {@code this^-1 mod modulus} for integers.
+	 *
+	 * @param modulus the positive integer modulus
+	 * @return the inverse in {@code [0, modulus)}
+	 * @throws IllegalArgumentException if either operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive or
+	 *                                  this value is not invertible
+	 * @see ModularArithmetic#modInverse(Decimal, Decimal)
+	 */
+	public Decimal modInverse(Decimal modulus) {
+		return ModularArithmetic.modInverse(this, modulus);
+	}
+
 	/**
 	 * Raises this value to the power of the given {@code exponent}.
 	 *
@@ -1248,11 +1720,16 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	/**
 	 * Computes the square root of this value.
 	 *
+	 * <p><strong>Developer note:</strong> Uses the dedicated
+	 * {@link RootExtraction#squareRoot(Decimal, MathContext)} engine rather
+	 * than the generic n-th root iteration behind {@link #root(Decimal, MathContext)}.</p>
+	 *
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the square root of this value
+	 * @throws IllegalArgumentException if this value is negative
 	 */
 	public Decimal sqrt(MathContext context) {
-		return root(TWO, context);
+		return RootExtraction.squareRoot(this, context);
 	}
 
 	/**
@@ -1344,6 +1821,8 @@ public class Decimal implements Comparable<Decimal>, Serializable{
 	 * @return a new {@code Decimal} representing {@code |this|}
 	 */
 	public Decimal abs() {
+		if (compact != INFLATED)
+			return compact < 0 ? new Decimal(-compact, scale) : this;
 		return new Decimal(value.abs());
 	}
 
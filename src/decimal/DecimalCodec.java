@@ -0,0 +1,548 @@
+package decimal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of {@link Decimal} values.
+ *
+ * <p>A value is written as one unsigned LEB128 varint <em>tag</em>, whose
+ * two low bits give the kind of encoding, optionally followed by a body:</p>
+ * <ul>
+ *   <li>kind {@code 2}, <em>small integer</em>: scale {@code 0} and an
+ *       unscaled value below {@code 2^61} in magnitude. The rest of the tag
+ *       is the sign-magnitude unscaled value ({@code |u| << 1 | sign}); there
+ *       is no body, so integers from {@code -15} to {@code 15} take a single
+ *       byte.</li>
+ *   <li>kind {@code 0}, <em>compact</em>: the rest of the tag is the
+ *       zig-zag encoded scale, and the body is the sign-magnitude unscaled
+ *       value as a varint.</li>
+ *   <li>kind {@code 1}, <em>inflated</em>: the rest of the tag is the
+ *       zig-zag encoded scale, and the body is a varint
+ *       {@code length << 1 | sign} followed by {@code length} bytes of
+ *       big-endian magnitude.</li>
+ * </ul>
+ * <p>Kind {@code 3} is reserved. Values round-trip exactly, including their
+ * scale: the decoded value has the same {@link Decimal#toBigDecimal()} as
+ * the encoded one.</p>
+ *
+ * <p>The same format is used by {@link Decimal#writeTo(DataOutput)},
+ * {@link Decimal#readFrom(DataInput)}, the {@link ByteBuffer} methods of this
+ * class, and Java serialization of {@code Decimal}, which goes through
+ * {@link SerialForm}.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Compact values (see {@link Decimal#isCompact()}) are encoded from
+ *       their {@code long} form without creating a {@link BigDecimal}, and
+ *       decoded through {@link Decimal#valueOf(long, int)}.</li>
+ *   <li>Malformed input is reported as an {@link IOException} by the
+ *       {@code DataInput} methods and as an {@link IllegalArgumentException}
+ *       by the {@code ByteBuffer} ones. Truncated input throws
+ *       {@link java.io.EOFException} and {@link BufferUnderflowException}
+ *       respectively.</li>
+ * </ul>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class DecimalCodec {
+
+	/**
+	 * Kind of a compact value with its scale in the tag.
+	 */
+	private static final int COMPACT = 0;
+
+	/**
+	 * Kind of an inflated value with its scale in the tag.
+	 */
+	private static final int INFLATED = 1;
+
+	/**
+	 * Kind of a small integer held in the tag itself.
+	 */
+	private static final int SMALL = 2;
+
+	/**
+	 * Bound on the magnitude of the unscaled values encoded as {@link #SMALL},
+	 * so that the tag fits in 64 bits.
+	 */
+	private static final long SMALL_LIMIT = 1L << 61;
+
+	/**
+	 * Largest magnitude length accepted when decoding, the byte length of
+	 * the largest {@link BigInteger}.
+	 */
+	private static final int MAX_MAGNITUDE_BYTES = Integer.MAX_VALUE / Byte.SIZE + 1;
+
+	/**
+	 * Initial size of the buffer a magnitude of unknown availability is read
+	 * into, see {@link #getMagnitude(Source, int)}.
+	 */
+	private static final int MAGNITUDE_CHUNK = 8 << 10;
+
+	/**
+	 * Largest number of bytes a {@code long} varint takes.
+	 */
+	private static final int MAX_VARINT_BYTES = 10;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private DecimalCodec() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns the number of bytes {@code value} is encoded into.
+	 *
+	 * @param value the value to measure
+	 * @return the encoded size in bytes
+	 */
+	public static int encodedSize(Decimal value) {
+		if (value.isCompact()) {
+			long unscaled = value.compactUnscaledValue();
+			if (value.scale() == 0 && Math.abs(unscaled) < SMALL_LIMIT)
+				return varintSize(signMagnitude(unscaled) << 2 | SMALL);
+			return varintSize(scaleTag(value.scale(), COMPACT)) + varintSize(signMagnitude(unscaled));
+		}
+		BigDecimal big = value.toBigDecimal();
+		int length = magnitudeLength(big.unscaledValue());
+		return varintSize(scaleTag(big.scale(), INFLATED)) + varintSize((long) length << 1) + length;
+	}
+
+	/**
+	 * Writes {@code value} to {@code out}.
+	 *
+	 * @param value the value to write
+	 * @param out   the output to write to
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(Decimal value, DataOutput out) throws IOException {
+		encode(value, new Sink() {
+			@Override
+			public void put(int b) throws IOException {
+				out.writeByte(b);
+			}
+
+			@Override
+			public void put(byte[] bytes, int offset, int length) throws IOException {
+				out.write(bytes, offset, length);
+			}
+		});
+	}
+
+	/**
+	 * Reads a value written by {@link #write(Decimal, DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the decoded value
+	 * @throws java.io.EOFException if the input ends before the value does
+	 * @throws IOException          if the encoding is malformed or an I/O
+	 *                              error occurs
+	 */
+	public static Decimal read(DataInput in) throws IOException {
+		return decode(new Source() {
+			@Override
+			public int get() throws IOException {
+				return in.readUnsignedByte();
+			}
+
+			@Override
+			public void get(byte[] bytes, int offset, int length) throws IOException {
+				in.readFully(bytes, offset, length);
+			}
+		});
+	}
+
+	/**
+	 * Writes {@code value} into {@code buffer} at its position, advancing
+	 * the position by {@link #encodedSize(Decimal)} bytes.
+	 *
+	 * @param value  the value to write
+	 * @param buffer the buffer to write into
+	 * @return {@code buffer}
+	 * @throws java.nio.BufferOverflowException if {@code buffer} has too
+	 *                                          little space remaining
+	 */
+	public static ByteBuffer encode(Decimal value, ByteBuffer buffer) {
+		try {
+			encode(value, new Sink() {
+				@Override
+				public void put(int b) {
+					buffer.put((byte) b);
+				}
+
+				@Override
+				public void put(byte[] bytes, int offset, int length) {
+					buffer.put(bytes, offset, length);
+				}
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // not thrown by the buffer sink
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns the encoding of {@code value} as a new array.
+	 *
+	 * @param value the value to encode
+	 * @return the encoded bytes
+	 */
+	public static byte[] encode(Decimal value) {
+		byte[] bytes = new byte[encodedSize(value)];
+		encode(value, ByteBuffer.wrap(bytes));
+		return bytes;
+	}
+
+	/**
+	 * Reads a value from {@code buffer} at its position, advancing the
+	 * position past it.
+	 *
+	 * @param buffer the buffer to read from
+	 * @return the decoded value
+	 * @throws BufferUnderflowException if the buffer ends before the value does
+	 * @throws IllegalArgumentException if the encoding is malformed
+	 */
+	public static Decimal decode(ByteBuffer buffer) {
+		try {
+			return decode(new Source() {
+				@Override
+				public int get() {
+					return buffer.get() & 0xFF;
+				}
+
+				@Override
+				public void get(byte[] bytes, int offset, int length) {
+					buffer.get(bytes, offset, length);
+				}
+
+				@Override
+				public boolean require(int length) {
+					if (buffer.remaining() < length)
+						throw new BufferUnderflowException();
+					return true;
+				}
+			});
+		} catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Decodes a value from the start of {@code bytes}.
+	 *
+	 * @param bytes the encoded bytes
+	 * @return the decoded value
+	 * @throws BufferUnderflowException if {@code bytes} ends before the value does
+	 * @throws IllegalArgumentException if the encoding is malformed
+	 */
+	public static Decimal decode(byte[] bytes) {
+		return decode(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Destination of encoded bytes.
+	 */
+	private static interface Sink {
+
+		/**
+		 * Writes the low eight bits of {@code b}.
+		 *
+		 * @param b the byte to write
+		 * @throws IOException if an I/O error occurs
+		 */
+		void put(int b) throws IOException;
+
+		/**
+		 * Writes {@code bytes[offset, offset + length)}.
+		 *
+		 * @param bytes  the bytes to write
+		 * @param offset the first byte to write
+		 * @param length the number of bytes to write
+		 * @throws IOException if an I/O error occurs
+		 */
+		void put(byte[] bytes, int offset, int length) throws IOException;
+	}
+
+	/**
+	 * Origin of encoded bytes.
+	 */
+	private static interface Source {
+
+		/**
+		 * Reads one byte.
+		 *
+		 * @return the byte, as an unsigned value
+		 * @throws IOException if an I/O error occurs or the input has ended
+		 */
+		int get() throws IOException;
+
+		/**
+		 * Fills {@code bytes[offset, offset + length)}.
+		 *
+		 * @param bytes  the array to fill
+		 * @param offset the first byte to fill
+		 * @param length the number of bytes to read
+		 * @throws IOException if an I/O error occurs or the input has ended
+		 */
+		void get(byte[] bytes, int offset, int length) throws IOException;
+
+		/**
+		 * Fails early if fewer than {@code length} bytes remain, where that
+		 * is known, before an array of that length is allocated.
+		 *
+		 * @param length the number of bytes about to be read
+		 * @return {@code true} if the bytes are known to be available,
+		 *         {@code false} if the source cannot tell
+		 */
+		default boolean require(int length) {
+			return false;
+		}
+	}
+
+	/**
+	 * Encodes {@code value} into {@code sink}.
+	 *
+	 * @param value the value to encode
+	 * @param sink  the destination
+	 * @throws IOException if the sink fails
+	 */
+	private static void encode(Decimal value, Sink sink) throws IOException {
+		if (value.isCompact()) {
+			long unscaled = value.compactUnscaledValue();
+			if (value.scale() == 0 && Math.abs(unscaled) < SMALL_LIMIT) {
+				putVarint(sink, signMagnitude(unscaled) << 2 | SMALL);
+			} else {
+				putVarint(sink, scaleTag(value.scale(), COMPACT));
+				putVarint(sink, signMagnitude(unscaled));
+			}
+			return;
+		}
+		BigDecimal big = value.toBigDecimal();
+		BigInteger unscaled = big.unscaledValue();
+		byte[] magnitude = unscaled.abs().toByteArray();
+		int offset = magnitude[0] == 0 ? 1 : 0; // toByteArray adds a sign byte when the top bit is set
+		int length = magnitude.length - offset;
+		putVarint(sink, scaleTag(big.scale(), INFLATED));
+		putVarint(sink, (long) length << 1 | (unscaled.signum() < 0 ? 1 : 0));
+		sink.put(magnitude, offset, length);
+	}
+
+	/**
+	 * Decodes a value from {@code source}.
+	 *
+	 * @param source the origin of the bytes
+	 * @return the decoded value
+	 * @throws IOException if the encoding is malformed or the source fails
+	 */
+	private static Decimal decode(Source source) throws IOException {
+		long tag = getVarint(source);
+		int kind = (int) (tag & 3);
+		if (kind == SMALL)
+			return Decimal.valueOf(fromSignMagnitude(tag >>> 2));
+		long zigzag = tag >>> 2;
+		if (zigzag >>> Integer.SIZE != 0)
+			throw new IOException("malformed Decimal encoding: scale out of range");
+		int scale = (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+		if (kind == COMPACT)
+			return Decimal.valueOf(fromSignMagnitude(getVarint(source)), scale);
+		if (kind != INFLATED)
+			throw new IOException("malformed Decimal encoding: unknown kind " + kind);
+		long header = getVarint(source);
+		long length = header >>> 1;
+		if (length > MAX_MAGNITUDE_BYTES)
+			throw new IOException("malformed Decimal encoding: magnitude of " + length + " bytes");
+		byte[] magnitude = getMagnitude(source, (int) length);
+		BigInteger unscaled = new BigInteger((header & 1) == 1 ? -1 : 1, magnitude);
+		return new Decimal(new BigDecimal(unscaled, scale));
+	}
+
+	/**
+	 * Reads the {@code length} bytes of an inflated magnitude.
+	 *
+	 * <p>The length comes from the input, so unless the source confirms that
+	 * the bytes are there, the buffer starts at {@link #MAGNITUDE_CHUNK}
+	 * bytes and doubles only once it is full. A short header claiming a huge
+	 * magnitude then fails with end of input instead of first allocating up
+	 * to {@link #MAX_MAGNITUDE_BYTES}; what is allocated stays within twice
+	 * the bytes actually read.</p>
+	 *
+	 * @param source the origin of the bytes
+	 * @param length the number of bytes of the magnitude
+	 * @return the magnitude
+	 * @throws IOException if the source fails or ends early
+	 */
+	private static byte[] getMagnitude(Source source, int length) throws IOException {
+		if (source.require(length) || length <= MAGNITUDE_CHUNK) {
+			byte[] magnitude = new byte[length];
+			source.get(magnitude, 0, length);
+			return magnitude;
+		}
+		byte[] magnitude = new byte[MAGNITUDE_CHUNK];
+		int read = 0;
+		while (true) {
+			source.get(magnitude, read, magnitude.length - read);
+			read = magnitude.length;
+			if (read == length)
+				return magnitude;
+			magnitude = Arrays.copyOf(magnitude, (int) Math.min(length, 2L * read));
+		}
+	}
+
+	/**
+	 * Returns the tag of a scaled value of the given kind.
+	 *
+	 * @param scale the scale
+	 * @param kind  {@link #COMPACT} or {@link #INFLATED}
+	 * @return the zig-zag encoded scale followed by the kind
+	 */
+	private static long scaleTag(int scale, int kind) {
+		return Integer.toUnsignedLong(scale << 1 ^ scale >> 31) << 2 | kind;
+	}
+
+	/**
+	 * Returns {@code |value| << 1 | sign}.
+	 *
+	 * @param value a value other than {@code Long.MIN_VALUE}
+	 * @return the sign-magnitude form of {@code value}
+	 */
+	private static long signMagnitude(long value) {
+		return value < 0 ? -value << 1 | 1 : value << 1;
+	}
+
+	/**
+	 * Inverts {@link #signMagnitude(long)}.
+	 *
+	 * @param encoded the sign-magnitude form
+	 * @return the value
+	 */
+	private static long fromSignMagnitude(long encoded) {
+		long magnitude = encoded >>> 1;
+		return (encoded & 1) == 1 ? -magnitude : magnitude;
+	}
+
+	/**
+	 * Returns the number of bytes of the magnitude of {@code value}, without
+	 * a sign bit.
+	 *
+	 * @param value the value
+	 * @return the byte length of {@code |value|}
+	 */
+	private static int magnitudeLength(BigInteger value) {
+		return (value.abs().bitLength() + Byte.SIZE - 1) / Byte.SIZE;
+	}
+
+	/**
+	 * Returns the number of bytes of the varint encoding of {@code value}.
+	 *
+	 * @param value the value, as an unsigned {@code long}
+	 * @return the encoded size, from 1 to {@link #MAX_VARINT_BYTES}
+	 */
+	private static int varintSize(long value) {
+		return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+	}
+
+	/**
+	 * Writes {@code value} as an unsigned LEB128 varint.
+	 *
+	 * @param sink  the destination
+	 * @param value the value, as an unsigned {@code long}
+	 * @throws IOException if the sink fails
+	 */
+	private static void putVarint(Sink sink, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			sink.put((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		sink.put((int) value);
+	}
+
+	/**
+	 * Reads an unsigned LEB128 varint.
+	 *
+	 * @param source the origin of the bytes
+	 * @return the value, as an unsigned {@code long}
+	 * @throws IOException if the varint is longer than 64 bits or the source fails
+	 */
+	private static long getVarint(Source source) throws IOException {
+		long value = 0;
+		for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+			int b = source.get();
+			if (i == MAX_VARINT_BYTES - 1 && b > 1)
+				break;
+			value |= (long) (b & 0x7F) << (7 * i);
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("malformed Decimal encoding: varint overflow");
+	}
+
+	/**
+	 * Serialized form of {@link Decimal}, written in the format of this
+	 * class instead of as a default-serialized {@link BigDecimal}.
+	 *
+	 * <p>{@code Decimal} replaces itself with an instance of this class when
+	 * serialized, and the instance resolves back to a {@code Decimal} when
+	 * deserialized, so applications never see it.</p>
+	 */
+	public static final class SerialForm implements Externalizable {
+
+		/**
+		 * Serial version identifier of this form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The value being serialized or deserialized.
+		 */
+		private Decimal value;
+
+		/**
+		 * Creates an empty form, for deserialization only.
+		 */
+		public SerialForm() {
+		}
+
+		/**
+		 * Creates the form of {@code value}.
+		 *
+		 * @param value the value to serialize
+		 */
+		SerialForm(Decimal value) {
+			this.value = value;
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput out) throws IOException {
+			write(value, out);
+		}
+
+		@Override
+		public void readExternal(ObjectInput in) throws IOException {
+			value = read(in);
+		}
+
+		/**
+		 * Returns the deserialized {@code Decimal}.
+		 *
+		 * @return the value read by {@link #readExternal(ObjectInput)}
+		 */
+		private Object readResolve() {
+			return value;
+		}
+	}
+
+}
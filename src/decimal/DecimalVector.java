@@ -0,0 +1,680 @@
+package decimal;
+
+import static decimal.helpers.CompactArithmetic.INFLATED;
+import static decimal.helpers.CompactArithmetic.scaleUp;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import decimal.helpers.CompactArithmetic;
+import decimal.operations.ArithmeticBasics;
+
+/**
+ * Immutable, fixed-length vector of {@link Decimal} values sharing one
+ * {@link MathContext}, for column-wise arithmetic.
+ *
+ * <p>Element-wise operations ({@link #add(DecimalVector)},
+ * {@link #multiply(Decimal)}, {@link #map(BiFunction)}, ...) round every
+ * element with the vector's context, exactly as the corresponding
+ * {@code Decimal} method would. The reductions {@link #sum()} and
+ * {@link #dot(DecimalVector)} are accumulated exactly and rounded once, so
+ * their result does not depend on the order or grouping of the elements.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Elements are stored like {@code Decimal} itself, in dense arrays of
+ *       unscaled {@code long}s and scales, with a {@link BigInteger} only for
+ *       unscaled values that do not fit in a {@code long}
+ *       ({@code Long.MIN_VALUE} marks those). Addition, subtraction and
+ *       multiplication of two compact elements run on primitives and
+ *       allocate nothing when the exact result fits the context; anything
+ *       else goes through {@link ArithmeticBasics}.</li>
+ *   <li>Vectors of at least {@link #PARALLEL_THRESHOLD} elements are
+ *       processed on the common fork/join pool. Element-wise results are
+ *       the same either way, and reductions are exact until the final
+ *       rounding, so parallelism never changes a result.</li>
+ *   <li>Functions passed to {@code map} may be called concurrently and in
+ *       any order.</li>
+ * </ul>
+ */
+public final class DecimalVector {
+
+	/**
+	 * Number of elements from which operations run in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/**
+	 * Number of elements each parallel reduction task accumulates.
+	 */
+	private static final int REDUCTION_CHUNK = 1 << 12;
+
+	/**
+	 * The unscaled values, or {@link CompactArithmetic#INFLATED} where
+	 * {@link #inflated} holds them.
+	 */
+	private final long[] compact;
+
+	/**
+	 * The unscaled values that do not fit in a {@code long}, {@code null}
+	 * elsewhere.
+	 */
+	private final BigInteger[] inflated;
+
+	/**
+	 * The scales of the elements.
+	 */
+	private final int[] scales;
+
+	/**
+	 * The context used by every operation on this vector.
+	 */
+	private final MathContext context;
+
+	/**
+	 * Creates a vector of {@code size} zero-initialized slots.
+	 *
+	 * @param size    the number of elements
+	 * @param context the shared context
+	 */
+	private DecimalVector(int size, MathContext context) {
+		this(new long[size], new BigInteger[size], new int[size], context);
+	}
+
+	/**
+	 * Creates a vector over the given arrays, without copying them.
+	 *
+	 * @param compact  the unscaled values
+	 * @param inflated the inflated unscaled values
+	 * @param scales   the scales
+	 * @param context  the shared context
+	 */
+	private DecimalVector(long[] compact, BigInteger[] inflated, int[] scales, MathContext context) {
+		this.compact = compact;
+		this.inflated = inflated;
+		this.scales = scales;
+		this.context = Objects.requireNonNull(context, "context");
+	}
+
+	/**
+	 * Returns a vector holding the given values.
+	 *
+	 * @param context the context shared by operations on the vector
+	 * @param values  the elements
+	 * @return a vector of {@code values}
+	 */
+	public static DecimalVector of(MathContext context, Decimal... values) {
+		return generate(values.length, i -> values[i], context);
+	}
+
+	/**
+	 * Returns a vector holding the given values.
+	 *
+	 * @param context the context shared by operations on the vector
+	 * @param values  the elements
+	 * @return a vector of {@code values}
+	 */
+	public static DecimalVector of(MathContext context, List<Decimal> values) {
+		return generate(values.size(), values::get, context);
+	}
+
+	/**
+	 * Returns a vector holding the given integers.
+	 *
+	 * @param context the context shared by operations on the vector
+	 * @param values  the elements
+	 * @return a vector of {@code values}, each with scale 0
+	 */
+	public static DecimalVector of(MathContext context, long... values) {
+		DecimalVector vector = new DecimalVector(values.length, context);
+		for (int i = 0; i < values.length; i++)
+			vector.store(i, values[i], null, 0);
+		return vector;
+	}
+
+	/**
+	 * Returns a vector whose element {@code i} is {@code generator.apply(i)}.
+	 *
+	 * @param size      the number of elements
+	 * @param generator computes each element; may be called concurrently
+	 * @param context   the context shared by operations on the vector
+	 * @return the generated vector
+	 * @throws IllegalArgumentException if {@code size} is negative
+	 */
+	public static DecimalVector generate(int size, IntFunction<Decimal> generator, MathContext context) {
+		if (size < 0)
+			throw new IllegalArgumentException("size must be non-negative: " + size);
+		DecimalVector vector = new DecimalVector(size, context);
+		forEachIndex(size, i -> vector.store(i, generator.apply(i)));
+		return vector;
+	}
+
+	/**
+	 * Returns the number of elements.
+	 *
+	 * @return the size of this vector
+	 */
+	public int size() {
+		return compact.length;
+	}
+
+	/**
+	 * Returns the context shared by operations on this vector.
+	 *
+	 * @return the context
+	 */
+	public MathContext context() {
+		return context;
+	}
+
+	/**
+	 * Returns a vector with the same elements and another context. The
+	 * elements are shared, not copied or rounded.
+	 *
+	 * @param context the new context
+	 * @return this vector under {@code context}
+	 */
+	public DecimalVector withContext(MathContext context) {
+		return new DecimalVector(compact, inflated, scales, context);
+	}
+
+	/**
+	 * Returns the element at {@code index}.
+	 *
+	 * @param index the index
+	 * @return the element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range
+	 */
+	public Decimal get(int index) {
+		long unscaled = compact[index];
+		if (unscaled != INFLATED)
+			return Decimal.valueOf(unscaled, scales[index]);
+		return new Decimal(new BigDecimal(inflated[index], scales[index]));
+	}
+
+	/**
+	 * Returns the element-wise sum of this vector and {@code other}.
+	 *
+	 * @param other a vector of the same size
+	 * @return {@code this[i] + other[i]} for every {@code i}
+	 * @throws IllegalArgumentException if the sizes differ
+	 */
+	public DecimalVector add(DecimalVector other) {
+		return combine(Operation.ADD, requireSameSize(other));
+	}
+
+	/**
+	 * Returns {@code scalar} added to every element.
+	 *
+	 * @param scalar the value to add
+	 * @return {@code this[i] + scalar} for every {@code i}
+	 */
+	public DecimalVector add(Decimal scalar) {
+		return combine(Operation.ADD, broadcast(scalar));
+	}
+
+	/**
+	 * Returns the element-wise difference of this vector and {@code other}.
+	 *
+	 * @param other a vector of the same size
+	 * @return {@code this[i] - other[i]} for every {@code i}
+	 * @throws IllegalArgumentException if the sizes differ
+	 */
+	public DecimalVector subtract(DecimalVector other) {
+		return combine(Operation.SUBTRACT, requireSameSize(other));
+	}
+
+	/**
+	 * Returns {@code scalar} subtracted from every element.
+	 *
+	 * @param scalar the value to subtract
+	 * @return {@code this[i] - scalar} for every {@code i}
+	 */
+	public DecimalVector subtract(Decimal scalar) {
+		return combine(Operation.SUBTRACT, broadcast(scalar));
+	}
+
+	/**
+	 * Returns the element-wise product of this vector and {@code other}.
+	 *
+	 * @param other a vector of the same size
+	 * @return {@code this[i] × other[i]} for every {@code i}
+	 * @throws IllegalArgumentException if the sizes differ
+	 */
+	public DecimalVector multiply(DecimalVector other) {
+		return combine(Operation.MULTIPLY, requireSameSize(other));
+	}
+
+	/**
+	 * Returns every element multiplied by {@code scalar}.
+	 *
+	 * @param scalar the value to multiply by
+	 * @return {@code this[i] × scalar} for every {@code i}
+	 */
+	public DecimalVector multiply(Decimal scalar) {
+		return combine(Operation.MULTIPLY, broadcast(scalar));
+	}
+
+	/**
+	 * Returns the element-wise quotient of this vector and {@code other}.
+	 *
+	 * @param other a vector of the same size
+	 * @return {@code this[i] ÷ other[i]} for every {@code i}
+	 * @throws IllegalArgumentException if the sizes differ
+	 * @throws ArithmeticException      if an element of {@code other} is zero
+	 */
+	public DecimalVector divide(DecimalVector other) {
+		return combine(Operation.DIVIDE, requireSameSize(other));
+	}
+
+	/**
+	 * Returns every element divided by {@code scalar}.
+	 *
+	 * @param scalar the value to divide by
+	 * @return {@code this[i] ÷ scalar} for every {@code i}
+	 * @throws ArithmeticException if {@code scalar} is zero
+	 */
+	public DecimalVector divide(Decimal scalar) {
+		return combine(Operation.DIVIDE, broadcast(scalar));
+	}
+
+	/**
+	 * Returns the vector of {@code function} applied to every element.
+	 *
+	 * @param function the function to apply; may be called concurrently
+	 * @return {@code function(this[i])} for every {@code i}
+	 */
+	public DecimalVector map(UnaryOperator<Decimal> function) {
+		return generate(size(), i -> function.apply(get(i)), context);
+	}
+
+	/**
+	 * Returns the vector of {@code function} applied to every element with
+	 * the vector's context, e.g. {@code vector.map(Trigonometry::sin)}.
+	 *
+	 * @param function the function to apply; may be called concurrently
+	 * @return {@code function(this[i], context())} for every {@code i}
+	 */
+	public DecimalVector map(BiFunction<Decimal, MathContext, Decimal> function) {
+		return generate(size(), i -> function.apply(get(i), context), context);
+	}
+
+	/**
+	 * Returns the sum of the elements, accumulated exactly and rounded once
+	 * with the vector's context.
+	 *
+	 * @return the rounded sum, or zero for an empty vector
+	 */
+	public Decimal sum() {
+		return reduce(i -> new MutableDecimal(get(i)),
+				(accumulator, i) -> accumulator.addInPlace(compact[i], inflated[i], scales[i]));
+	}
+
+	/**
+	 * Returns the dot product of this vector and {@code other}, accumulated
+	 * exactly and rounded once with this vector's context.
+	 *
+	 * @param other a vector of the same size
+	 * @return {@code Σ this[i] × other[i]}, rounded
+	 * @throws IllegalArgumentException if the sizes differ
+	 */
+	public Decimal dot(DecimalVector other) {
+		requireSameSize(other);
+		return reduce(i -> new MutableDecimal(get(i)).multiplyInPlace(other.get(i)),
+				(accumulator, i) -> accumulator.fmaInPlace(
+						compact[i], inflated[i], scales[i],
+						other.compact[i], other.inflated[i], other.scales[i]));
+	}
+
+	/**
+	 * Returns the elements as a new array.
+	 *
+	 * @return the elements
+	 */
+	public Decimal[] toArray() {
+		Decimal[] values = new Decimal[size()];
+		for (int i = 0; i < values.length; i++)
+			values[i] = get(i);
+		return values;
+	}
+
+	/**
+	 * Returns a sequential stream of the elements.
+	 *
+	 * @return the elements, in order
+	 */
+	public Stream<Decimal> stream() {
+		return IntStream.range(0, size()).mapToObj(this::get);
+	}
+
+	/**
+	 * Returns the elements, as {@link Decimal#toString()} would print them,
+	 * in square brackets.
+	 *
+	 * @return the string representation of this vector
+	 */
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "[", "]");
+		for (int i = 0; i < size(); i++)
+			joiner.add(get(i).toString());
+		return joiner.toString();
+	}
+
+	/**
+	 * An element-wise operation, with a primitive fast path for compact
+	 * operands.
+	 */
+	private static enum Operation {
+		ADD {
+			@Override
+			Decimal apply(Decimal first, Decimal second, MathContext context) {
+				return ArithmeticBasics.addition(first, second, context);
+			}
+
+			@Override
+			boolean tryCompact(DecimalVector target, int index, long first, int firstScale, long second, int secondScale) {
+				return target.storeSum(index, first, firstScale, second, secondScale);
+			}
+		},
+		SUBTRACT {
+			@Override
+			Decimal apply(Decimal first, Decimal second, MathContext context) {
+				return ArithmeticBasics.subtraction(first, second, context);
+			}
+
+			@Override
+			boolean tryCompact(DecimalVector target, int index, long first, int firstScale, long second, int secondScale) {
+				return second != INFLATED && target.storeSum(index, first, firstScale, -second, secondScale);
+			}
+		},
+		MULTIPLY {
+			@Override
+			Decimal apply(Decimal first, Decimal second, MathContext context) {
+				return ArithmeticBasics.multiplication(first, second, context);
+			}
+
+			@Override
+			boolean tryCompact(DecimalVector target, int index, long first, int firstScale, long second, int secondScale) {
+				long product = first * second;
+				long scale = (long) firstScale + secondScale;
+				if (Math.multiplyHigh(first, second) != (product >> 63) || scale != (int) scale || !target.fits(product))
+					return false;
+				target.store(index, product, null, (int) scale);
+				return true;
+			}
+		},
+		DIVIDE {
+			@Override
+			Decimal apply(Decimal first, Decimal second, MathContext context) {
+				return ArithmeticBasics.division(first, second, context);
+			}
+
+			@Override
+			boolean tryCompact(DecimalVector target, int index, long first, int firstScale, long second, int secondScale) {
+				return false;
+			}
+		};
+
+		/**
+		 * Applies the operation to two elements.
+		 *
+		 * @param first   the left operand
+		 * @param second  the right operand
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the rounded result
+		 */
+		abstract Decimal apply(Decimal first, Decimal second, MathContext context);
+
+		/**
+		 * Applies the operation to two compact elements with primitive
+		 * arithmetic and stores the result, if it is exact and fits the
+		 * target's context.
+		 *
+		 * @param target      the vector receiving the result
+		 * @param index       the index of the result
+		 * @param first       the unscaled left operand
+		 * @param firstScale  the scale of the left operand
+		 * @param second      the unscaled right operand
+		 * @param secondScale the scale of the right operand
+		 * @return {@code true} if the result was stored
+		 */
+		abstract boolean tryCompact(DecimalVector target, int index, long first, int firstScale, long second, int secondScale);
+	}
+
+	/**
+	 * Applies an element-wise operation between this vector and
+	 * {@code other}, which is either a vector of the same size or a single
+	 * broadcast element.
+	 *
+	 * @param operation the operation
+	 * @param other     the right operands
+	 * @return the vector of results
+	 */
+	private DecimalVector combine(Operation operation, DecimalVector other) {
+		boolean broadcast = other.size() == 1 && size() != 1;
+		DecimalVector result = new DecimalVector(size(), context);
+		forEachIndex(size(), i -> {
+			int j = broadcast ? 0 : i;
+			long first = compact[i];
+			long second = other.compact[j];
+			if (first == INFLATED || second == INFLATED
+					|| !operation.tryCompact(result, i, first, scales[i], second, other.scales[j]))
+				result.store(i, operation.apply(get(i), other.get(j), context));
+		});
+		return result;
+	}
+
+	/**
+	 * Accumulates {@code accumulate} over every index exactly, in parallel
+	 * chunks for large vectors, and rounds the total once.
+	 *
+	 * <p>Every accumulator is seeded with the contribution of its first
+	 * index rather than with zero, so that the total keeps the preferred
+	 * scale of {@link BigDecimal} addition, as
+	 * {@link ArithmeticBasics#dotProduct(Decimal[], Decimal[], MathContext)}
+	 * does.</p>
+	 *
+	 * @param seed       returns an accumulator holding the contribution of index {@code i}
+	 * @param accumulate adds the contribution of index {@code i} to an accumulator
+	 * @return the rounded total, or zero for an empty vector
+	 */
+	private Decimal reduce(IntFunction<MutableDecimal> seed, Accumulation accumulate) {
+		int size = size();
+		if (size == 0)
+			return Decimal.ZERO;
+		if (size < PARALLEL_THRESHOLD)
+			return accumulate(seed, accumulate, 0, size).toDecimal(context);
+		int chunks = (size + REDUCTION_CHUNK - 1) / REDUCTION_CHUNK;
+		List<Decimal> partials = IntStream.range(0, chunks).parallel()
+				.mapToObj(chunk -> {
+					int from = chunk * REDUCTION_CHUNK;
+					return accumulate(seed, accumulate, from, Math.min(size, from + REDUCTION_CHUNK)).toDecimal();
+				})
+				.toList();
+		MutableDecimal total = new MutableDecimal(partials.get(0));
+		for (int chunk = 1; chunk < chunks; chunk++)
+			total.addInPlace(partials.get(chunk));
+		return total.toDecimal(context);
+	}
+
+	/**
+	 * Accumulates the contributions of the indices {@code [from, to)}
+	 * exactly.
+	 *
+	 * @param seed       returns an accumulator holding the contribution of index {@code i}
+	 * @param accumulate adds the contribution of index {@code i} to an accumulator
+	 * @param from       the first index, inclusive
+	 * @param to         the last index, exclusive, greater than {@code from}
+	 * @return the exact total
+	 */
+	private static MutableDecimal accumulate(IntFunction<MutableDecimal> seed, Accumulation accumulate, int from, int to) {
+		MutableDecimal total = seed.apply(from);
+		for (int i = from + 1; i < to; i++)
+			accumulate.accept(total, i);
+		return total;
+	}
+
+	/**
+	 * Adds the contribution of one index to an exact accumulator.
+	 */
+	@FunctionalInterface
+	private static interface Accumulation {
+
+		/**
+		 * Adds the contribution of index {@code i} to {@code accumulator}.
+		 *
+		 * @param accumulator the accumulator
+		 * @param i           the index
+		 */
+		void accept(MutableDecimal accumulator, int i);
+	}
+
+	/**
+	 * Runs {@code action} for every index in {@code [0, size)}, in parallel
+	 * from {@link #PARALLEL_THRESHOLD} indices.
+	 *
+	 * @param size   the number of indices
+	 * @param action the action to run for each index
+	 */
+	private static void forEachIndex(int size, IntConsumer action) {
+		if (size >= PARALLEL_THRESHOLD)
+			IntStream.range(0, size).parallel().forEach(action);
+		else
+			for (int i = 0; i < size; i++)
+				action.accept(i);
+	}
+
+	/**
+	 * Checks that {@code other} has the size of this vector.
+	 *
+	 * @param other the other vector
+	 * @return {@code other}
+	 * @throws IllegalArgumentException if the sizes differ
+	 */
+	private DecimalVector requireSameSize(DecimalVector other) {
+		if (other.size() != size())
+			throw new IllegalArgumentException(String.format("size mismatch: %d and %d", size(), other.size()));
+		return other;
+	}
+
+	/**
+	 * Returns a one-element vector holding {@code scalar}, to be broadcast
+	 * by {@link #combine(Operation, DecimalVector)}.
+	 *
+	 * @param scalar the scalar operand
+	 * @return a vector of {@code scalar}
+	 */
+	private DecimalVector broadcast(Decimal scalar) {
+		DecimalVector vector = new DecimalVector(1, context);
+		vector.store(0, scalar);
+		return vector;
+	}
+
+	/**
+	 * Stores a value at {@code index}.
+	 *
+	 * @param index the index
+	 * @param value the value
+	 */
+	private void store(int index, Decimal value) {
+		if (value.isCompact()) {
+			store(index, value.compactUnscaledValue(), null, value.scale());
+		} else {
+			BigDecimal big = value.toBigDecimal();
+			store(index, INFLATED, big.unscaledValue(), big.scale());
+		}
+	}
+
+	/**
+	 * Stores an unscaled value and scale at {@code index}. The value is
+	 * {@code big} if it is not {@code null}, otherwise {@code unscaled}.
+	 *
+	 * @param index    the index
+	 * @param unscaled the unscaled value if {@code big} is {@code null}
+	 * @param big      the unscaled value, or {@code null}
+	 * @param scale    the scale
+	 */
+	private void store(int index, long unscaled, BigInteger big, int scale) {
+		if (big == null && unscaled == INFLATED)
+			big = BigInteger.valueOf(unscaled);
+		else if (big != null && big.bitLength() < Long.SIZE && big.longValue() != INFLATED) {
+			unscaled = big.longValue();
+			big = null;
+		}
+		compact[index] = big == null ? unscaled : INFLATED;
+		inflated[index] = big;
+		scales[index] = scale;
+	}
+
+	/**
+	 * Stores the sum of two compact values at {@code index}, if it is exact
+	 * and fits the context; mirrors the fast path of
+	 * {@link ArithmeticBasics#addition(Decimal, Decimal, MathContext)}.
+	 *
+	 * @param index       the index
+	 * @param first       the unscaled first addend
+	 * @param firstScale  the scale of the first addend
+	 * @param second      the unscaled second addend
+	 * @param secondScale the scale of the second addend
+	 * @return {@code true} if the sum was stored
+	 */
+	private boolean storeSum(int index, long first, int firstScale, long second, int secondScale) {
+		int scale = Math.max(firstScale, secondScale);
+		if (firstScale < scale && (first = scaleUp(first, (long) scale - firstScale)) == INFLATED)
+			return false;
+		if (secondScale < scale && (second = scaleUp(second, (long) scale - secondScale)) == INFLATED)
+			return false;
+		long sum = first + second;
+		if (((first ^ sum) & (second ^ sum)) < 0 || !fits(sum))
+			return false;
+		store(index, sum, null, scale);
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if an exact unscaled result needs no rounding
+	 * under this vector's context.
+	 *
+	 * @param unscaled the unscaled result
+	 * @return {@code true} if {@code unscaled} is compact and has at most as
+	 *         many digits as the precision
+	 */
+	private boolean fits(long unscaled) {
+		return CompactArithmetic.fits(unscaled, context);
+	}
+
+	/**
+	 * Returns {@code true} if {@code other} has the same elements, with the
+	 * same scales (as {@link Decimal#equals(Object)} compares them), and the
+	 * same context.
+	 *
+	 * @param other the object to compare with
+	 * @return {@code true} if equal
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof DecimalVector vector
+				&& context.equals(vector.context)
+				&& Arrays.equals(compact, vector.compact)
+				&& Arrays.equals(inflated, vector.inflated)
+				&& Arrays.equals(scales, vector.scales);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(context, Arrays.hashCode(compact), Arrays.hashCode(inflated), Arrays.hashCode(scales));
+	}
+
+}
@@ -1,6 +1,9 @@
 package decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import decimal.operations.ArithmeticBasics;
 
 /**
  * Utility class for {@link Decimal}-related helper methods.
@@ -34,5 +37,20 @@ public class Decimals {
 		return decimal;
 	}
 
+	/**
+	 * Returns the dot product {@code Σ first[i] × second[i]}, accumulated
+	 * exactly and rounded once according to {@code context}.
+	 *
+	 * @param first   the first vector
+	 * @param second  the second vector
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the rounded dot product, or zero if the vectors are empty
+	 * @throws IllegalArgumentException if the vectors differ in length
+	 * @see ArithmeticBasics#dotProduct(Decimal[], Decimal[], MathContext)
+	 */
+	public static Decimal dot(Decimal[] first, Decimal[] second, MathContext context) {
+		return ArithmeticBasics.dotProduct(first, second, context);
+	}
+
 }
 
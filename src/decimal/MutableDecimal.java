@@ -0,0 +1,569 @@
+package decimal;
+
+import static decimal.helpers.CompactArithmetic.INFLATED;
+import static decimal.helpers.CompactArithmetic.MAX_TEN_EXPONENT;
+import static decimal.helpers.CompactArithmetic.scaleUp;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import decimal.helpers.CompactArithmetic;
+
+/**
+ * Mutable accumulator for {@link Decimal} arithmetic in hot loops.
+ *
+ * <p>Every {@code Decimal} operation allocates a new {@code Decimal} and a
+ * new {@link BigDecimal}. Loops that only need the final value (running sums,
+ * running products, series evaluation) can instead keep a
+ * {@code MutableDecimal} and update it in place, converting to an immutable
+ * {@code Decimal} once at the end via {@link #toDecimal()}.</p>
+ *
+ * <p>The value is held as {@code unscaled × 10^-scale}, like
+ * {@code BigDecimal}. While the unscaled value fits in a {@code long} it is
+ * kept in a primitive field and operations with {@code long} operands
+ * (see {@link #addInPlace(long)} and {@link #multiplyInPlace(long)}) do not
+ * allocate at all. Larger values fall back to a {@link BigInteger}, which is
+ * immutable, so those operations still allocate the new magnitude but skip the
+ * intermediate {@code BigDecimal}/{@code Decimal} wrappers.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Operations without a {@link MathContext} are exact. Operations with
+ *       one round the exact result once, so {@code addInPlace(x, context)}
+ *       gives the same value as {@code Decimal.add(x, context)}.</li>
+ *   <li>Instances are <em>not</em> thread-safe and are meant to be confined
+ *       to the loop that owns them.</li>
+ *   <li>{@code Long.MIN_VALUE} is reserved as the marker for an inflated
+ *       value (the same trick {@code BigDecimal} uses), so it is never stored
+ *       as a compact value.</li>
+ * </ul>
+ */
+public final class MutableDecimal {
+
+	/**
+	 * Upper bound of {@code log10(2)}, used to bound the decimal digits of a
+	 * value from above by its bit length.
+	 */
+	private static final double LOG10_2 = 0.30103;
+
+	/**
+	 * Scale differences above which a rounded addition is delegated to
+	 * {@link BigDecimal#add(BigDecimal, MathContext)}, which avoids building
+	 * the exact (and possibly huge) aligned sum.
+	 */
+	private static final int ALIGNMENT_SLACK = 18;
+
+	/**
+	 * The unscaled value, or {@link CompactArithmetic#INFLATED} if it does
+	 * not fit in a {@code long}.
+	 */
+	private long compact;
+
+	/**
+	 * The unscaled value when {@link #compact} is
+	 * {@link CompactArithmetic#INFLATED}, otherwise unused.
+	 */
+	private BigInteger inflated;
+
+	/**
+	 * The number of digits to the right of the decimal point.
+	 */
+	private int scale;
+
+	/**
+	 * Creates an accumulator holding zero.
+	 */
+	public MutableDecimal() {
+		set(0L);
+	}
+
+	/**
+	 * Creates an accumulator holding the given value.
+	 *
+	 * @param value the initial value
+	 */
+	public MutableDecimal(long value) {
+		set(value);
+	}
+
+	/**
+	 * Creates an accumulator holding the given value.
+	 *
+	 * @param value the initial value
+	 */
+	public MutableDecimal(Decimal value) {
+		set(value);
+	}
+
+	/**
+	 * Replaces the held value.
+	 *
+	 * @param value the new value
+	 * @return this accumulator
+	 */
+	public MutableDecimal set(long value) {
+		setUnscaled(value, 0);
+		return this;
+	}
+
+	/**
+	 * Replaces the held value.
+	 *
+	 * @param value the new value
+	 * @return this accumulator
+	 */
+	public MutableDecimal set(Decimal value) {
+		if (value.isCompact()) {
+			setUnscaled(value.compactUnscaledValue(), value.scale());
+			return this;
+		}
+		return set(value.toBigDecimal());
+	}
+
+	/**
+	 * Replaces the held value.
+	 *
+	 * @param value the new value
+	 * @return this accumulator
+	 */
+	private MutableDecimal set(BigDecimal value) {
+		if (value.scale() == 0 && value.precision() <= MAX_TEN_EXPONENT)
+			setUnscaled(value.longValueExact(), 0); // does not allocate for compact values
+		else
+			setUnscaled(value.unscaledValue(), value.scale());
+		return this;
+	}
+
+	/**
+	 * Adds {@code addend} to the held value, exactly.
+	 *
+	 * @param addend the value to add
+	 * @return this accumulator
+	 */
+	public MutableDecimal addInPlace(long addend) {
+		if (addend != INFLATED)
+			addUnscaled(addend, null, 0);
+		else
+			addUnscaled(INFLATED, BigInteger.valueOf(addend), 0);
+		return this;
+	}
+
+	/**
+	 * Adds {@code addend} to the held value, exactly.
+	 *
+	 * @param addend the value to add
+	 * @return this accumulator
+	 */
+	public MutableDecimal addInPlace(Decimal addend) {
+		if (addend.isCompact()) {
+			addUnscaled(addend.compactUnscaledValue(), null, addend.scale());
+			return this;
+		}
+		BigDecimal other = addend.toBigDecimal();
+		addUnscaled(other.unscaledValue(), other.scale());
+		return this;
+	}
+
+	/**
+	 * Adds the value held by another accumulator to this one, exactly.
+	 *
+	 * @param addend the accumulator whose value to add; not modified unless
+	 *               it is this accumulator
+	 * @return this accumulator
+	 */
+	public MutableDecimal addInPlace(MutableDecimal addend) {
+		addUnscaled(addend.compact, addend.compact != INFLATED ? null : addend.inflated, addend.scale);
+		return this;
+	}
+
+	/**
+	 * Adds {@code addend} to the held value and rounds the sum according to
+	 * {@code context}.
+	 *
+	 * @param addend  the value to add
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return this accumulator
+	 */
+	public MutableDecimal addInPlace(Decimal addend, MathContext context) {
+		int precision = context.getPrecision();
+		if (precision > 0 && Math.abs((long) addend.scale() - scale) > (long) precision + ALIGNMENT_SLACK)
+			return set(toBigDecimal().add(addend.toBigDecimal(), context));
+		addInPlace(addend);
+		return roundInPlace(context);
+	}
+
+	/**
+	 * Multiplies the held value by {@code multiplicand}, exactly.
+	 *
+	 * @param multiplicand the value to multiply by
+	 * @return this accumulator
+	 */
+	public MutableDecimal multiplyInPlace(long multiplicand) {
+		if (multiplicand != INFLATED)
+			multiplyUnscaled(multiplicand, null, 0);
+		else
+			multiplyUnscaled(INFLATED, BigInteger.valueOf(multiplicand), 0);
+		return this;
+	}
+
+	/**
+	 * Multiplies the held value by {@code multiplicand} and rounds the
+	 * product according to {@code context}.
+	 *
+	 * @param multiplicand the value to multiply by
+	 * @param context      the {@link MathContext} specifying precision and rounding
+	 * @return this accumulator
+	 */
+	public MutableDecimal multiplyInPlace(long multiplicand, MathContext context) {
+		multiplyInPlace(multiplicand);
+		return roundInPlace(context);
+	}
+
+	/**
+	 * Multiplies the held value by {@code multiplicand}, exactly.
+	 *
+	 * @param multiplicand the value to multiply by
+	 * @return this accumulator
+	 */
+	public MutableDecimal multiplyInPlace(Decimal multiplicand) {
+		if (multiplicand.isCompact()) {
+			multiplyUnscaled(multiplicand.compactUnscaledValue(), null, multiplicand.scale());
+			return this;
+		}
+		BigDecimal other = multiplicand.toBigDecimal();
+		BigInteger unscaled = other.unscaledValue();
+		if (unscaled.bitLength() < Long.SIZE && unscaled.longValue() != INFLATED)
+			multiplyUnscaled(unscaled.longValue(), null, other.scale());
+		else
+			multiplyUnscaled(INFLATED, unscaled, other.scale());
+		return this;
+	}
+
+	/**
+	 * Multiplies the held value by {@code multiplicand} and rounds the
+	 * product according to {@code context}.
+	 *
+	 * @param multiplicand the value to multiply by
+	 * @param context      the {@link MathContext} specifying precision and rounding
+	 * @return this accumulator
+	 */
+	public MutableDecimal multiplyInPlace(Decimal multiplicand, MathContext context) {
+		multiplyInPlace(multiplicand);
+		return roundInPlace(context);
+	}
+
+	/**
+	 * Adds the exact product {@code first × second} to the held value
+	 * (fused multiply-add), exactly.
+	 *
+	 * <p>When both factors are compact and their product fits in a
+	 * {@code long}, nothing is allocated.</p>
+	 *
+	 * @param first  the first factor
+	 * @param second the second factor
+	 * @return this accumulator
+	 */
+	public MutableDecimal fmaInPlace(Decimal first, Decimal second) {
+		if (first.isCompact() && second.isCompact())
+			return fmaInPlace(first.compactUnscaledValue(), null, first.scale(), second.compactUnscaledValue(), null, second.scale());
+		BigDecimal a = first.toBigDecimal();
+		BigDecimal b = second.toBigDecimal();
+		addUnscaled(a.unscaledValue().multiply(b.unscaledValue()), Math.addExact(a.scale(), b.scale()));
+		return this;
+	}
+
+	/**
+	 * Adds the exact product {@code first × second} to the held value
+	 * (fused multiply-add) and rounds only the final sum according to
+	 * {@code context}.
+	 *
+	 * @param first   the first factor
+	 * @param second  the second factor
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return this accumulator
+	 */
+	public MutableDecimal fmaInPlace(Decimal first, Decimal second, MathContext context) {
+		fmaInPlace(first, second);
+		return roundInPlace(context);
+	}
+
+	/**
+	 * Adds {@code unscaled × 10^-scale} to the held value, exactly. The addend
+	 * is {@code compactAddend} unless that is {@link CompactArithmetic#INFLATED},
+	 * in which case it is {@code inflatedAddend}, which is {@code null}
+	 * otherwise.
+	 *
+	 * <p>Package-private entry point for {@link DecimalVector}, which stores
+	 * its elements in this split form.</p>
+	 *
+	 * @param compactAddend  the unscaled addend, or {@link CompactArithmetic#INFLATED}
+	 * @param inflatedAddend the unscaled addend if {@code compactAddend} is
+	 *                       {@link CompactArithmetic#INFLATED}, otherwise {@code null}
+	 * @param addendScale    the scale of the addend
+	 * @return this accumulator
+	 */
+	MutableDecimal addInPlace(long compactAddend, BigInteger inflatedAddend, int addendScale) {
+		addUnscaled(compactAddend, inflatedAddend, addendScale);
+		return this;
+	}
+
+	/**
+	 * Adds the exact product of two values in split form (see
+	 * {@link #addInPlace(long, BigInteger, int)}) to the held value.
+	 *
+	 * <p>Package-private entry point for {@link DecimalVector}; also the fast
+	 * path of {@link #fmaInPlace(Decimal, Decimal)}.</p>
+	 *
+	 * @param compactFirst   the unscaled first factor, or {@link CompactArithmetic#INFLATED}
+	 * @param inflatedFirst  the unscaled first factor if {@code compactFirst} is
+	 *                       {@link CompactArithmetic#INFLATED}, otherwise {@code null}
+	 * @param firstScale     the scale of the first factor
+	 * @param compactSecond  the unscaled second factor, or {@link CompactArithmetic#INFLATED}
+	 * @param inflatedSecond the unscaled second factor if {@code compactSecond} is
+	 *                       {@link CompactArithmetic#INFLATED}, otherwise {@code null}
+	 * @param secondScale    the scale of the second factor
+	 * @return this accumulator
+	 */
+	MutableDecimal fmaInPlace(long compactFirst, BigInteger inflatedFirst, int firstScale,
+			long compactSecond, BigInteger inflatedSecond, int secondScale) {
+		int productScale = Math.addExact(firstScale, secondScale);
+		if (compactFirst != INFLATED && compactSecond != INFLATED) {
+			long product = compactFirst * compactSecond;
+			if (Math.multiplyHigh(compactFirst, compactSecond) == (product >> 63) && product != INFLATED) {
+				addUnscaled(product, null, productScale);
+				return this;
+			}
+		}
+		BigInteger first = compactFirst != INFLATED ? BigInteger.valueOf(compactFirst) : inflatedFirst;
+		BigInteger second = compactSecond != INFLATED ? BigInteger.valueOf(compactSecond) : inflatedSecond;
+		addUnscaled(first.multiply(second), productScale);
+		return this;
+	}
+
+	/**
+	 * Negates the held value.
+	 *
+	 * @return this accumulator
+	 */
+	public MutableDecimal negateInPlace() {
+		if (compact != INFLATED)
+			compact = -compact;
+		else
+			setUnscaled(inflated.negate(), scale);
+		return this;
+	}
+
+	/**
+	 * Rounds the held value according to {@code context}. Does nothing if the
+	 * value already fits in the requested precision.
+	 *
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return this accumulator
+	 */
+	public MutableDecimal roundInPlace(MathContext context) {
+		int precision = context.getPrecision();
+		if (precision == 0 || maximumDigits() <= precision)
+			return this;
+		return set(toBigDecimal().round(context));
+	}
+
+	/**
+	 * Returns the signum of the held value.
+	 *
+	 * @return -1, 0, or 1 as the value is negative, zero, or positive
+	 */
+	public int signum() {
+		return compact != INFLATED ? Long.signum(compact) : inflated.signum();
+	}
+
+	/**
+	 * Returns the held value as a {@link BigDecimal}.
+	 *
+	 * @return the held value
+	 */
+	public BigDecimal toBigDecimal() {
+		return compact != INFLATED ? BigDecimal.valueOf(compact, scale) : new BigDecimal(inflated, scale);
+	}
+
+	/**
+	 * Returns the held value as an immutable {@link Decimal}.
+	 *
+	 * @return the held value
+	 */
+	public Decimal toDecimal() {
+		return new Decimal(toBigDecimal());
+	}
+
+	/**
+	 * Returns the held value rounded according to {@code context}, leaving
+	 * this accumulator unchanged.
+	 *
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the rounded value
+	 */
+	public Decimal toDecimal(MathContext context) {
+		return new Decimal(toBigDecimal().round(context));
+	}
+
+	/**
+	 * Returns the string representation of the held value, as
+	 * {@link BigDecimal#toString()} would.
+	 *
+	 * @return the held value as a string
+	 */
+	@Override
+	public String toString() {
+		return toBigDecimal().toString();
+	}
+
+	/**
+	 * Stores an unscaled {@code long} value and scale.
+	 *
+	 * @param unscaled the unscaled value
+	 * @param newScale the scale
+	 */
+	private void setUnscaled(long unscaled, int newScale) {
+		if (unscaled == INFLATED) {
+			setUnscaled(BigInteger.valueOf(unscaled), newScale);
+			return;
+		}
+		compact = unscaled;
+		inflated = null;
+		scale = newScale;
+	}
+
+	/**
+	 * Stores an unscaled {@link BigInteger} value and scale, switching back
+	 * to the compact form if it fits.
+	 *
+	 * @param unscaled the unscaled value
+	 * @param newScale the scale
+	 */
+	private void setUnscaled(BigInteger unscaled, int newScale) {
+		if (unscaled.bitLength() < Long.SIZE && unscaled.longValue() != INFLATED) {
+			compact = unscaled.longValue();
+			inflated = null;
+		} else {
+			compact = INFLATED;
+			inflated = unscaled;
+		}
+		scale = newScale;
+	}
+
+	/**
+	 * Returns the held unscaled value as a {@link BigInteger}.
+	 *
+	 * @return the unscaled value
+	 */
+	private BigInteger unscaled() {
+		return compact != INFLATED ? BigInteger.valueOf(compact) : inflated;
+	}
+
+	/**
+	 * Returns an upper bound of the number of digits of the unscaled value.
+	 *
+	 * @return at least the number of decimal digits of the unscaled value
+	 */
+	private long maximumDigits() {
+		long bits = compact != INFLATED ? Long.SIZE - Long.numberOfLeadingZeros(Math.abs(compact)) : inflated.bitLength();
+		return (long) (bits * LOG10_2) + 1;
+	}
+
+	/**
+	 * Rescales the held value to a larger scale without changing it.
+	 *
+	 * @param newScale the new scale, not smaller than the current one
+	 */
+	private void upscale(int newScale) {
+		int shift = newScale - scale;
+		if (compact != INFLATED) {
+			long product = scaleUp(compact, shift);
+			if (product != INFLATED) {
+				compact = product;
+				scale = newScale;
+				return;
+			}
+		}
+		setUnscaled(unscaled().multiply(BigInteger.TEN.pow(shift)), newScale);
+	}
+
+	/**
+	 * Adds {@code unscaled × 10^-otherScale} to the held value, exactly.
+	 *
+	 * @param unscaled   the unscaled addend
+	 * @param otherScale the scale of the addend
+	 */
+	private void addUnscaled(BigInteger unscaled, int otherScale) {
+		if (unscaled.bitLength() < Long.SIZE && unscaled.longValue() != INFLATED)
+			addUnscaled(unscaled.longValue(), null, otherScale);
+		else
+			addUnscaled(INFLATED, unscaled, otherScale);
+	}
+
+	/**
+	 * Adds {@code unscaled × 10^-otherScale} to the held value, exactly. The
+	 * addend is {@code compactAddend} unless that is
+	 * {@link CompactArithmetic#INFLATED}, in which case it is
+	 * {@code inflatedAddend}, which is {@code null} otherwise. Only compact
+	 * addends take the {@code long} fast path.
+	 *
+	 * @param compactAddend  the unscaled addend, or {@link CompactArithmetic#INFLATED}
+	 * @param inflatedAddend the unscaled addend if {@code compactAddend} is
+	 *                       {@link CompactArithmetic#INFLATED}, otherwise {@code null}
+	 * @param otherScale     the scale of the addend
+	 */
+	private void addUnscaled(long compactAddend, BigInteger inflatedAddend, int otherScale) {
+		if (otherScale > scale)
+			upscale(otherScale);
+		else if (otherScale < scale) {
+			int shift = scale - otherScale;
+			if (compactAddend != INFLATED) {
+				long product = scaleUp(compactAddend, shift);
+				if (product != INFLATED) {
+					addUnscaled(product, null, scale);
+					return;
+				}
+			}
+			BigInteger addend = compactAddend != INFLATED ? BigInteger.valueOf(compactAddend) : inflatedAddend;
+			addUnscaled(INFLATED, addend.multiply(BigInteger.TEN.pow(shift)), scale);
+			return;
+		}
+
+		if (compact != INFLATED && compactAddend != INFLATED) {
+			long sum = compact + compactAddend;
+			if (((compact ^ sum) & (compactAddend ^ sum)) >= 0 && sum != INFLATED) {
+				compact = sum;
+				return;
+			}
+		}
+		BigInteger addend = compactAddend != INFLATED ? BigInteger.valueOf(compactAddend) : inflatedAddend;
+		setUnscaled(unscaled().add(addend), scale);
+	}
+
+	/**
+	 * Multiplies the held value by {@code unscaled × 10^-otherScale}, exactly.
+	 * The factor is {@code compactFactor} unless that is
+	 * {@link CompactArithmetic#INFLATED}, in which case it is
+	 * {@code inflatedFactor}, which is {@code null} otherwise.
+	 *
+	 * @param compactFactor  the unscaled factor, or {@link CompactArithmetic#INFLATED}
+	 * @param inflatedFactor the unscaled factor if {@code compactFactor} is
+	 *                       {@link CompactArithmetic#INFLATED}, otherwise {@code null}
+	 * @param otherScale     the scale of the factor
+	 */
+	private void multiplyUnscaled(long compactFactor, BigInteger inflatedFactor, int otherScale) {
+		int newScale = Math.addExact(scale, otherScale);
+		if (compact != INFLATED && compactFactor != INFLATED) {
+			long product = compact * compactFactor;
+			if (Math.multiplyHigh(compact, compactFactor) == (product >> 63) && product != INFLATED) {
+				compact = product;
+				scale = newScale;
+				return;
+			}
+		}
+		BigInteger factor = compactFactor != INFLATED ? BigInteger.valueOf(compactFactor) : inflatedFactor;
+		setUnscaled(unscaled().multiply(factor), newScale);
+	}
+
+}
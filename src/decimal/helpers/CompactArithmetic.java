@@ -0,0 +1,96 @@
+package decimal.helpers;
+
+import java.math.MathContext;
+
+/**
+ * Primitive helpers shared by the compact ({@code long}-backed) fast paths
+ * of the library.
+ *
+ * <p>These paths hold a value as {@code unscaled × 10^-scale} with an
+ * unscaled {@code long}, and reserve {@link #INFLATED} to mark values that do
+ * not fit in one.</p>
+ *
+ * <p><strong>Developer note:</strong> This class is an implementation
+ * detail of the library. It is public only because its users live in
+ * different packages.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class CompactArithmetic {
+
+	/**
+	 * Marker for an unscaled value that does not fit in a {@code long}; never
+	 * a valid compact value itself.
+	 */
+	public static final long INFLATED = Long.MIN_VALUE;
+
+	/**
+	 * Largest exponent {@code e} for which {@code 10^e} fits in a
+	 * {@code long}; every integer of at most this many digits is compact.
+	 */
+	public static final int MAX_TEN_EXPONENT = 18;
+
+	/**
+	 * Powers of ten that fit in a {@code long}, indexed by exponent.
+	 */
+	private static final long[] TEN_POWERS = {
+			1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+			100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+			1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+			1_000_000_000_000_000L, 10_000_000_000_000_000L,
+			100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+	};
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private CompactArithmetic() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns {@code 10^exponent}.
+	 *
+	 * @param exponent an exponent from {@code 0} to {@link #MAX_TEN_EXPONENT}
+	 * @return the power of ten
+	 * @throws ArrayIndexOutOfBoundsException if {@code exponent} is out of range
+	 */
+	public static long tenPower(int exponent) {
+		return TEN_POWERS[exponent];
+	}
+
+	/**
+	 * Rescales a compact unscaled value to a larger scale.
+	 *
+	 * @param unscaled the unscaled value
+	 * @param shift    the non-negative number of digits to add to the scale
+	 * @return {@code unscaled × 10^shift}, or {@link #INFLATED} if that does
+	 *         not fit in a {@code long}
+	 */
+	public static long scaleUp(long unscaled, long shift) {
+		if (shift > MAX_TEN_EXPONENT)
+			return unscaled == 0 ? 0 : INFLATED;
+		long power = TEN_POWERS[(int) shift];
+		long product = unscaled * power;
+		return Math.multiplyHigh(unscaled, power) == (product >> 63) ? product : INFLATED;
+	}
+
+	/**
+	 * Returns {@code true} if an exact unscaled result is compact and needs
+	 * no rounding under {@code context}.
+	 *
+	 * @param unscaled the unscaled result
+	 * @param context  the {@link MathContext} specifying precision and rounding
+	 * @return {@code true} if {@code unscaled} is not {@link #INFLATED} and
+	 *         has at most as many digits as the precision of {@code context}
+	 */
+	public static boolean fits(long unscaled, MathContext context) {
+		if (unscaled == INFLATED)
+			return false;
+		int precision = context.getPrecision();
+		return precision == 0 || precision > MAX_TEN_EXPONENT || Math.abs(unscaled) < TEN_POWERS[precision];
+	}
+
+}
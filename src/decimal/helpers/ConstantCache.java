@@ -0,0 +1,222 @@
+package decimal.helpers;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import decimal.Decimal;
+
+/**
+ * Thread-safe cache for mathematical constants whose value depends only on
+ * the requested {@link MathContext} (e.g. {@code π} or {@code ln(2)}).
+ *
+ * <p>The cache keeps a single <em>master</em> value computed at the highest
+ * precision requested so far (plus {@link #GUARD_DIGITS} guard digits and
+ * some headroom), and
+ * serves every request at an equal or lower precision by rounding that master
+ * value with the requested {@link RoundingMode}. Rounded results are memoized
+ * per {@code MathContext}, so repeated requests under the same context are a
+ * single map lookup.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>{@code MathContext} implements {@code equals}/{@code hashCode} over
+ *       precision and rounding mode, so it is used directly as the key.</li>
+ *   <li>The supplier is never invoked while holding a map lock, so suppliers
+ *       are free to use other caches.</li>
+ *   <li>{@link MathContext#UNLIMITED} cannot be cached (a transcendental
+ *       constant has no finite exact value) and is forwarded to the supplier.</li>
+ *   <li>Hit and miss counters are approximate under contention and intended
+ *       for monitoring only.</li>
+ * </ul>
+ */
+public class ConstantCache {
+
+	/**
+	 * Number of extra digits the master value is computed with, so that
+	 * rounding it down to a requested precision is not affected by the
+	 * rounding error of the supplier in its last digits.
+	 */
+	public static final int GUARD_DIGITS = 10;
+
+	/**
+	 * When the master value has to be recomputed, it is computed with an
+	 * extra {@code 1 / HEADROOM_DIVISOR} of the requested precision, so that
+	 * callers asking for a few more digits than last time (e.g. to cover
+	 * their own guard digits) do not trigger another computation.
+	 */
+	private static final int HEADROOM_DIVISOR = 8;
+
+	/**
+	 * Computes the constant at a given precision.
+	 */
+	private final Function<MathContext, Decimal> supplier;
+
+	/**
+	 * Rounded values already served, keyed by the requested context.
+	 */
+	private final Map<MathContext, Decimal> rounded = new ConcurrentHashMap<>();
+
+	/**
+	 * A computed value together with the precision it was computed at.
+	 *
+	 * @param value     the computed constant
+	 * @param precision the precision used to compute {@code value}
+	 */
+	private static record Master(Decimal value, int precision) {}
+
+	/**
+	 * The highest-precision value computed so far, or {@code null}.
+	 */
+	private volatile Master master;
+
+	/**
+	 * Number of requests answered without invoking the supplier.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of requests that required invoking the supplier.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a cache around the given supplier.
+	 *
+	 * @param supplier computes the constant to the precision of the given context
+	 */
+	public ConstantCache(Function<MathContext, Decimal> supplier) {
+		this.supplier = supplier;
+	}
+
+	/**
+	 * Returns the constant rounded according to {@code context}.
+	 *
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the constant to the requested precision
+	 */
+	public Decimal get(MathContext context) {
+		if (context.getPrecision() == 0) {
+			misses.increment();
+			return supplier.apply(context);
+		}
+
+		Decimal value = rounded.get(context);
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+
+		value = roundMaster(context);
+		Decimal previous = rounded.putIfAbsent(context, value);
+		return previous != null ? previous : value;
+	}
+
+	/**
+	 * Returns the constant rounded according to {@code context}, without
+	 * memoizing the rounded value.
+	 *
+	 * <p>Meant for internal working precisions that vary from call to call
+	 * (e.g. with the size of an argument), which would otherwise add an
+	 * entry to the per-context memo for every distinct precision. The
+	 * master value is still extended and reused.</p>
+	 *
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the constant to the requested precision
+	 */
+	public Decimal getUnmemoized(MathContext context) {
+		if (context.getPrecision() == 0) {
+			misses.increment();
+			return supplier.apply(context);
+		}
+		return roundMaster(context);
+	}
+
+	/**
+	 * Rounds the master value according to {@code context}, extending it
+	 * first if it has too few digits.
+	 *
+	 * @param context a {@link MathContext} with limited precision
+	 * @return the constant to the requested precision
+	 */
+	private Decimal roundMaster(MathContext context) {
+		Master source = master;
+		if (source != null && source.precision() >= context.getPrecision() + GUARD_DIGITS)
+			hits.increment();
+		else
+			source = extend(context.getPrecision() + GUARD_DIGITS);
+		return new Decimal(source.value().toBigDecimal().round(context));
+	}
+
+	/**
+	 * Ensures the master value has at least the given precision,
+	 * recomputing it if necessary.
+	 *
+	 * @param precision the minimum precision required
+	 * @return a master value with at least {@code precision} digits
+	 */
+	private synchronized Master extend(int precision) {
+		Master current = master;
+		if (current != null && current.precision() >= precision) {
+			hits.increment();
+			return current;
+		}
+		misses.increment();
+		precision += precision / HEADROOM_DIVISOR;
+		current = new Master(supplier.apply(new MathContext(precision, RoundingMode.HALF_EVEN)), precision);
+		master = current;
+		return current;
+	}
+
+	/**
+	 * Returns the number of requests served without invoking the supplier.
+	 *
+	 * @return the hit count
+	 */
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of requests that invoked the supplier.
+	 *
+	 * @return the miss count
+	 */
+	public long missCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the precision of the highest-precision value currently held,
+	 * or {@code 0} if nothing has been computed yet.
+	 *
+	 * @return the cached master precision
+	 */
+	public int cachedPrecision() {
+		Master current = master;
+		return current == null ? 0 : current.precision();
+	}
+
+	/**
+	 * Returns the number of contexts whose rounded value is memoized.
+	 *
+	 * @return the number of memoized contexts
+	 */
+	public int memoizedContexts() {
+		return rounded.size();
+	}
+
+	/**
+	 * Discards every cached value and resets the counters.
+	 */
+	public synchronized void clear() {
+		master = null;
+		rounded.clear();
+		hits.reset();
+		misses.reset();
+	}
+
+}
@@ -3,6 +3,7 @@ package decimal.helpers;
 import java.math.MathContext;
 
 import decimal.Decimal;
+import decimal.MutableDecimal;
 
 /**
  * Utility class for supplying successive factorial values of {@link Decimal}.
@@ -18,14 +19,28 @@ import decimal.Decimal;
  *   <li>If the start is 3, the initial value is {@code 3! = 6}.</li>
  *   <li>Designed as a helper for computing series expansions that require
  *       successive factorial terms.</li>
+ *   <li>The starting value, and every value up to
+ *       {@link FactorialTable#DENSE_LIMIT} reached while advancing, is read
+ *       from the process-wide {@link FactorialTable}, so suppliers share one
+ *       computation of those factorials. Past that limit each step
+ *       multiplies the running product.</li>
+ *   <li>Values read from the table are rounded once to the supplier's
+ *       {@link MathContext}; values past the limit are rounded after every
+ *       multiplication.</li>
  * </ul>
  */
 public class FactorialSupplier implements NumberSupplier {
 
 	/**
-	 * The current factorial value.
+	 * The running factorial, updated in place.
 	 * <p>Initialized to {@code start!} in the constructor.</p>
 	 */
+	private final MutableDecimal product;
+
+	/**
+	 * The current factorial value, or {@code null} if {@link #product} has
+	 * advanced since it was last materialized.
+	 */
 	private Decimal value;
 
 	/**
@@ -35,12 +50,20 @@ public class FactorialSupplier implements NumberSupplier {
 	 */
 	@Override
 	public Decimal currentValue() {
+		if (value == null)
+			value = product.toDecimal();
 		return value;
 	}
 
 	/**
 	 * The current {@code n} associated with {@code n!}.
 	 */
+	private long index;
+
+	/**
+	 * The current {@code n} as a {@code Decimal}, or {@code null} if
+	 * {@link #index} has advanced since it was last materialized.
+	 */
 	private Decimal n;
 
 	/**
@@ -50,6 +73,8 @@ public class FactorialSupplier implements NumberSupplier {
 	 */
 	@Override
 	public Decimal currentN() {
+		if (n == null)
+			n = Decimal.valueOf(index);
 		return n;
 	}
 
@@ -68,13 +93,16 @@ public class FactorialSupplier implements NumberSupplier {
 	 * @param start   the starting {@code n}
 	 * @param context the math context to use for multiplications
 	 * @throws IllegalArgumentException if {@code start} is negative or not an integer
+	 * @throws ArithmeticException      if {@code start} does not fit in an {@code int}
 	 */
 	public FactorialSupplier(Decimal start, MathContext context) {
 		if (!start.isInteger() || start.isNegative())
 			throw new IllegalArgumentException("start must be an non-negative integer");
+		index = start.toLong();
 		n = start;
 		this.context = context;
-		value = n.factorial(); // uses Decimal.factorial()
+		value = FactorialTable.factorial(Math.toIntExact(index));
+		product = new MutableDecimal(value);
 	}
 
 	/**
@@ -86,7 +114,7 @@ public class FactorialSupplier implements NumberSupplier {
 	 * @throws IllegalArgumentException if {@code start} is negative
 	 */
 	public FactorialSupplier(int start, MathContext context) {
-		this(new Decimal(start), context);
+		this(Decimal.valueOf(start), context);
 	}
 
 	/**
@@ -98,7 +126,7 @@ public class FactorialSupplier implements NumberSupplier {
 	 * @throws IllegalArgumentException if {@code start} is negative
 	 */
 	public FactorialSupplier(long start, MathContext context) {
-		this(new Decimal(start), context);
+		this(Decimal.valueOf(start), context);
 	}
 
 	/**
@@ -120,7 +148,7 @@ public class FactorialSupplier implements NumberSupplier {
 	 * @throws IllegalArgumentException if {@code start} is negative
 	 */
 	public FactorialSupplier(int start) {
-		this(new Decimal(start), MathContext.UNLIMITED);
+		this(Decimal.valueOf(start), MathContext.UNLIMITED);
 	}
 
 	/**
@@ -131,19 +159,32 @@ public class FactorialSupplier implements NumberSupplier {
 	 * @throws IllegalArgumentException if {@code start} is negative
 	 */
 	public FactorialSupplier(long start) {
-		this(new Decimal(start), MathContext.UNLIMITED);
+		this(Decimal.valueOf(start), MathContext.UNLIMITED);
 	}
 
 	/**
-	 * Increments {@code n} by one and multiplies {@code value} by the new {@code n}.
+	 * Increments {@code n} by one and updates {@code value} to the new {@code n!},
+	 * from the {@link FactorialTable} up to {@link FactorialTable#DENSE_LIMIT}
+	 * and by multiplying by the new {@code n} beyond it.
 	 *
 	 * <p><strong>Developer note:</strong> This helper method exists only to bundle
 	 * the logic of advancing {@code n} and updating the factorial value. It is used
-	 * internally by {@code nextPre} and {@code nextPost} methods.</p>
+	 * internally by {@code nextPre} and {@code nextPost} methods. The product is
+	 * updated in place and the {@code Decimal} views are only rebuilt when
+	 * requested, so advancing several steps at once allocates nothing while the
+	 * factorial fits in a {@code long}.</p>
 	 */
 	private void factorialIncrement() {
-		n = n.add(Decimal.ONE); // could be optimized with a dedicated increment
-		value = value.multiply(n, context);
+		index = Math.addExact(index, 1);
+		n = null;
+		if (index <= FactorialTable.DENSE_LIMIT) {
+			Decimal exact = FactorialTable.factorial((int) index);
+			product.set(exact).roundInPlace(context);
+			value = context.getPrecision() == 0 ? exact : null;
+			return;
+		}
+		product.multiplyInPlace(index, context);
+		value = null;
 	}
 
 	/**
@@ -155,7 +196,7 @@ public class FactorialSupplier implements NumberSupplier {
 	 */
 	@Override
 	public Decimal nextPre() {
-		Decimal toReturn = value;
+		Decimal toReturn = currentValue();
 		factorialIncrement();
 		return toReturn;
 	}
@@ -168,7 +209,7 @@ public class FactorialSupplier implements NumberSupplier {
 	 */
 	@Override
 	public Decimal nextPre(int steps) {
-		Decimal toReturn = value;
+		Decimal toReturn = currentValue();
 		for (int i = 0; i < steps; i++) {
 			factorialIncrement();
 		}
@@ -185,7 +226,7 @@ public class FactorialSupplier implements NumberSupplier {
 	@Override
 	public Decimal nextPost() {
 		factorialIncrement();
-		return value;
+		return currentValue();
 	}
 
 	/**
@@ -199,7 +240,7 @@ public class FactorialSupplier implements NumberSupplier {
 		for (int i = 0; i < steps; i++) {
 			factorialIncrement();
 		}
-		return value;
+		return currentValue();
 	}
 
 }
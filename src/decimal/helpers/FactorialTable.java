@@ -0,0 +1,318 @@
+package decimal.helpers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import decimal.Decimal;
+import decimal.operations.Factorial;
+
+/**
+ * Process-wide, thread-safe table of exact factorials, with optional
+ * reciprocal factorials {@code 1/n!} at a given precision.
+ *
+ * <p>Factorials up to {@link #DENSE_LIMIT} are kept in a dense array that
+ * grows on demand and is never evicted; each new entry costs one
+ * multiplication by its predecessor. Larger factorials are computed with
+ * {@link Factorial#factorial(int)} and kept in a least-recently-used map
+ * whose total size is bounded by {@link #MAX_BITS} bits of unscaled value,
+ * so memory stays bounded however many distinct arguments are requested.</p>
+ *
+ * <p>Reciprocals are cached per {@link MathContext} for the dense range only,
+ * and only for the {@link #MAX_RECIPROCAL_CONTEXTS} most recently used
+ * contexts.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>The dense array is replaced (copy-on-write) under the class lock and
+ *       read through a volatile field, so lookups in the dense range take no
+ *       lock.</li>
+ *   <li>Factorials and reciprocals are never computed while holding a map
+ *       lock. Two threads missing on the same entry may both compute it; the
+ *       first one stored wins.</li>
+ *   <li>Entries of a reciprocal row are filled without a lock, through an
+ *       {@link AtomicReferenceArray}, so a reader that finds an entry also
+ *       sees it fully constructed. Racing threads compute equal values and
+ *       the first one stored wins.</li>
+ *   <li>The bit budget can be set with the system property
+ *       {@code decimal.helpers.FactorialTable.maxBits}, read once when the
+ *       class is initialized. A factorial larger than the whole budget is
+ *       returned but not stored.</li>
+ *   <li>Hit and miss counters are approximate under contention and intended
+ *       for monitoring only.</li>
+ * </ul>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public class FactorialTable {
+
+	/**
+	 * Largest argument kept in the dense, never-evicted part of the table.
+	 */
+	public static final int DENSE_LIMIT = 512;
+
+	/**
+	 * Default bound on the total bit length of the evictable entries
+	 * (16 MiB of magnitude).
+	 */
+	private static final long DEFAULT_MAX_BITS = 1L << 27;
+
+	/**
+	 * Bound on the total bit length of the evictable entries.
+	 */
+	public static final long MAX_BITS;
+
+	static {
+		long maxBits = Long.getLong("decimal.helpers.FactorialTable.maxBits", DEFAULT_MAX_BITS);
+		MAX_BITS = maxBits < 0 ? DEFAULT_MAX_BITS : maxBits;
+	}
+
+	/**
+	 * Number of contexts whose reciprocal rows are kept.
+	 */
+	public static final int MAX_RECIPROCAL_CONTEXTS = 8;
+
+	/**
+	 * Factorials {@code 0!} to {@code (dense.length - 1)!}.
+	 */
+	private static volatile Decimal[] dense = { Decimal.ONE, Decimal.ONE };
+
+	/**
+	 * Factorials above {@link #DENSE_LIMIT}, in access order.
+	 * Guarded by itself.
+	 */
+	private static final LinkedHashMap<Integer, Decimal> large = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Total bit length of the values in {@link #large}.
+	 * Guarded by {@link #large}.
+	 */
+	private static long largeBits;
+
+	/**
+	 * Bound applied to {@link #largeBits}; {@link #MAX_BITS} unless changed
+	 * by {@link #maxBits(long)}. Guarded by {@link #large}.
+	 */
+	private static long maxBits = MAX_BITS;
+
+	/**
+	 * Reciprocal factorials per context, indexed by {@code n}, in access
+	 * order. Guarded by itself.
+	 */
+	private static final LinkedHashMap<MathContext, AtomicReferenceArray<Decimal>> reciprocals = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<MathContext, AtomicReferenceArray<Decimal>> eldest) {
+			return size() > MAX_RECIPROCAL_CONTEXTS;
+		}
+	};
+
+	/**
+	 * Number of requests answered from the table.
+	 */
+	private static final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of requests that required a computation.
+	 */
+	private static final LongAdder misses = new LongAdder();
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private FactorialTable() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns {@code n!}, from the table if possible.
+	 *
+	 * @param n the argument
+	 * @return the exact factorial of {@code n}
+	 * @throws IllegalArgumentException if {@code n} is negative
+	 */
+	public static Decimal factorial(int n) {
+		if (n < 0)
+			throw new IllegalArgumentException("n must be non-negative: " + n);
+		if (n <= DENSE_LIMIT) {
+			Decimal[] table = dense;
+			if (n < table.length) {
+				hits.increment();
+				return table[n];
+			}
+			misses.increment();
+			return grow(n)[n];
+		}
+
+		synchronized (large) {
+			Decimal cached = large.get(n);
+			if (cached != null) {
+				hits.increment();
+				return cached;
+			}
+		}
+		misses.increment();
+		Decimal value = new Decimal(Factorial.factorial(n));
+		long bits = value.toBigDecimal().unscaledValue().bitLength();
+		synchronized (large) {
+			if (bits > maxBits)
+				return value;
+			Decimal previous = large.putIfAbsent(n, value);
+			if (previous != null)
+				return previous;
+			largeBits += bits;
+			evict();
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the least recently used evictable entries until their total
+	 * bit length is within the budget. Must be called holding the lock of
+	 * {@link #large}.
+	 */
+	private static void evict() {
+		Iterator<Decimal> eldest = large.values().iterator();
+		while (largeBits > maxBits) {
+			largeBits -= eldest.next().toBigDecimal().unscaledValue().bitLength();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * Replaces the bound on the total bit length of the evictable entries,
+	 * evicting entries as needed.
+	 *
+	 * <p>Package-private so that tests can exercise eviction with a small
+	 * budget; {@link #MAX_BITS} keeps the configured value.</p>
+	 *
+	 * @param bits the new bound, not negative
+	 */
+	static void maxBits(long bits) {
+		synchronized (large) {
+			maxBits = bits;
+			evict();
+		}
+	}
+
+	/**
+	 * Returns {@code 1/n!} rounded according to {@code context}.
+	 *
+	 * @param n       the argument
+	 * @param context the math context specifying precision and rounding
+	 * @return the reciprocal of {@code n!}
+	 * @throws IllegalArgumentException if {@code n} is negative, or if
+	 *                                  {@code context} has unlimited precision
+	 */
+	public static Decimal reciprocal(int n, MathContext context) {
+		if (n < 0)
+			throw new IllegalArgumentException("n must be non-negative: " + n);
+		if (context.getPrecision() == 0)
+			throw new IllegalArgumentException("reciprocal factorials need a limited precision");
+		if (n > DENSE_LIMIT)
+			return reciprocalOf(factorial(n), context);
+		AtomicReferenceArray<Decimal> row;
+		synchronized (reciprocals) {
+			row = reciprocals.get(context);
+			if (row == null)
+				reciprocals.put(context, row = new AtomicReferenceArray<>(DENSE_LIMIT + 1));
+		}
+		Decimal value = row.get(n);
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+		misses.increment();
+		Decimal[] table = dense; // read directly, so this request is counted once
+		value = reciprocalOf(n < table.length ? table[n] : grow(n)[n], context);
+		Decimal previous = row.compareAndExchange(n, null, value);
+		return previous != null ? previous : value;
+	}
+
+	/**
+	 * Extends the dense table so it covers {@code n}.
+	 *
+	 * @param n an argument up to {@link #DENSE_LIMIT}
+	 * @return a dense table covering {@code n}
+	 */
+	private static synchronized Decimal[] grow(int n) {
+		Decimal[] table = dense;
+		if (n < table.length)
+			return table;
+		Decimal[] grown = Arrays.copyOf(table, Math.min(DENSE_LIMIT + 1, Math.max(n + 1, 2 * table.length)));
+		BigInteger product = grown[table.length - 1].toBigInteger();
+		for (int i = table.length; i < grown.length; i++) {
+			product = product.multiply(BigInteger.valueOf(i));
+			grown[i] = new Decimal(product);
+		}
+		dense = grown;
+		return grown;
+	}
+
+	/**
+	 * Returns {@code 1/factorial} rounded according to {@code context}.
+	 *
+	 * @param factorial the factorial to invert
+	 * @param context   the math context specifying precision and rounding
+	 * @return the rounded reciprocal
+	 */
+	private static Decimal reciprocalOf(Decimal factorial, MathContext context) {
+		return new Decimal(BigDecimal.ONE.divide(factorial.toBigDecimal(), context));
+	}
+
+	/**
+	 * Returns the number of requests answered from the table.
+	 *
+	 * @return the hit count
+	 */
+	public static long hitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of requests that required a computation.
+	 *
+	 * @return the miss count
+	 */
+	public static long missCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the total bit length of the evictable entries currently held.
+	 *
+	 * @return the bits held above {@link #DENSE_LIMIT}
+	 */
+	public static long cachedBits() {
+		synchronized (large) {
+			return largeBits;
+		}
+	}
+
+	/**
+	 * Discards every evictable entry and reciprocal row, and resets the
+	 * counters. The dense part of the table is kept.
+	 */
+	public static void clear() {
+		synchronized (large) {
+			large.clear();
+			largeBits = 0;
+		}
+		synchronized (reciprocals) {
+			reciprocals.clear();
+		}
+		hits.reset();
+		misses.reset();
+	}
+
+}
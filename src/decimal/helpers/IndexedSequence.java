@@ -0,0 +1,151 @@
+package decimal.helpers;
+
+import java.math.MathContext;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import decimal.Decimal;
+
+/**
+ * A sequence of {@link Decimal} values with random access by index.
+ *
+ * <p>Unlike a {@link NumberSupplier}, which carries a cursor and must not be
+ * shared, an {@code IndexedSequence} holds no per-caller state: its
+ * {@link #get(long)} method may be called from any thread, in any order.
+ * Sequential consumers obtain a private cursor with {@link #supplier(long)},
+ * and parallel consumers a splittable view with {@link #stream(long, long)}.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Implementations must be thread-safe. The factories in this interface
+ *       are either stateless or memoize through thread-safe tables.</li>
+ *   <li>The element at index {@code n} must not depend on which elements
+ *       were requested before it, so that parallel consumers see the same
+ *       values as sequential ones.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface IndexedSequence {
+
+	/**
+	 * Returns the element at index {@code n}.
+	 *
+	 * @param n the index
+	 * @return the element at {@code n}
+	 * @throws IllegalArgumentException if {@code n} is outside the sequence
+	 */
+	Decimal get(long n);
+
+	/**
+	 * Returns a new cursor over this sequence, positioned at {@code start}.
+	 *
+	 * <p>The cursor itself is not thread-safe; each thread should create
+	 * its own. Cursors over the same sequence share its memo.</p>
+	 *
+	 * @param start the initial index
+	 * @return a {@link NumberSupplier} reading this sequence from {@code start}
+	 */
+	default NumberSupplier supplier(long start) {
+		return new IndexedSupplier(this, start);
+	}
+
+	/**
+	 * Returns a splittable view of the elements at indices {@code [from, to)}.
+	 *
+	 * @param from the first index (inclusive)
+	 * @param to   the last index (exclusive)
+	 * @return a sized spliterator over the range
+	 * @throws IllegalArgumentException if {@code to < from}
+	 */
+	default Spliterator<Decimal> spliterator(long from, long to) {
+		if (to < from)
+			throw new IllegalArgumentException("empty range must have to >= from");
+		return new IndexedSpliterator(this, from, to);
+	}
+
+	/**
+	 * Returns a sequential stream of the elements at indices {@code [from, to)}.
+	 *
+	 * <p>Call {@link Stream#parallel()} on the result to evaluate the
+	 * elements on several threads; each split reads its own index range.</p>
+	 *
+	 * @param from the first index (inclusive)
+	 * @param to   the last index (exclusive)
+	 * @return a stream over the range, in index order
+	 * @throws IllegalArgumentException if {@code to < from}
+	 */
+	default Stream<Decimal> stream(long from, long to) {
+		return StreamSupport.stream(spliterator(from, to), false);
+	}
+
+	/**
+	 * Returns a sequence with the same elements whose first {@code size}
+	 * elements are computed once and then shared by every caller.
+	 *
+	 * <p><strong>Developer note:</strong> Entries are filled without a lock.
+	 * Threads racing on the same entry may both compute it; either result is
+	 * kept, which is harmless because the element at an index is fixed.
+	 * Entries are stored with release and read with acquire semantics, so a
+	 * thread that finds an entry also sees it fully constructed.</p>
+	 *
+	 * @param size the number of leading elements to memoize
+	 * @return a memoizing view of this sequence
+	 * @throws IllegalArgumentException if {@code size} is negative
+	 */
+	default IndexedSequence memoize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("size must be non-negative: " + size);
+		AtomicReferenceArray<Decimal> memo = new AtomicReferenceArray<>(size);
+		return n -> {
+			if (n < 0 || n >= size)
+				return get(n);
+			Decimal value = memo.getAcquire((int) n);
+			if (value == null) {
+				value = get(n);
+				memo.setRelease((int) n, value);
+			}
+			return value;
+		};
+	}
+
+	/**
+	 * Returns the factorials {@code n!}, read from the process-wide
+	 * {@link FactorialTable}.
+	 *
+	 * @return the factorial sequence
+	 */
+	static IndexedSequence factorials() {
+		return n -> FactorialTable.factorial(index(n));
+	}
+
+	/**
+	 * Returns the reciprocal factorials {@code 1/n!} rounded according to
+	 * {@code context}, read from the process-wide {@link FactorialTable}.
+	 *
+	 * @param context the math context specifying precision and rounding
+	 * @return the reciprocal factorial sequence
+	 * @throws IllegalArgumentException if {@code context} has unlimited precision
+	 */
+	static IndexedSequence reciprocalFactorials(MathContext context) {
+		if (context.getPrecision() == 0)
+			throw new IllegalArgumentException("reciprocal factorials need a limited precision");
+		return n -> FactorialTable.reciprocal(index(n), context);
+	}
+
+	/**
+	 * Checks that an index is a valid factorial argument.
+	 *
+	 * @param n the index
+	 * @return {@code n} as an {@code int}
+	 * @throws IllegalArgumentException if {@code n} is negative or larger than
+	 *                                  {@link Integer#MAX_VALUE}
+	 */
+	private static int index(long n) {
+		if (n < 0 || n > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("index out of range: " + n);
+		return (int) n;
+	}
+
+}
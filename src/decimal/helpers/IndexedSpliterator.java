@@ -0,0 +1,80 @@
+package decimal.helpers;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import decimal.Decimal;
+
+/**
+ * Spliterator over an index range of an {@link IndexedSequence}, returned by
+ * {@link IndexedSequence#spliterator(long, long)}.
+ *
+ * <p>Splits halve the remaining index range, so parallel streams evaluate
+ * disjoint ranges on different threads with no shared cursor.</p>
+ */
+final class IndexedSpliterator implements Spliterator<Decimal> {
+
+	/**
+	 * The sequence read by this spliterator.
+	 */
+	private final IndexedSequence sequence;
+
+	/**
+	 * The next index to read.
+	 */
+	private long from;
+
+	/**
+	 * The end of the range (exclusive).
+	 */
+	private final long to;
+
+	/**
+	 * Creates a spliterator over indices {@code [from, to)} of {@code sequence}.
+	 *
+	 * @param sequence the sequence to read
+	 * @param from     the first index (inclusive)
+	 * @param to       the last index (exclusive)
+	 */
+	IndexedSpliterator(IndexedSequence sequence, long from, long to) {
+		this.sequence = sequence;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Decimal> action) {
+		if (from >= to)
+			return false;
+		action.accept(sequence.get(from++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Decimal> action) {
+		for (long n = from; n < to; n++)
+			action.accept(sequence.get(n));
+		from = to;
+	}
+
+	@Override
+	public Spliterator<Decimal> trySplit() {
+		long mid = from + (to - from) / 2; // overflow-free midpoint
+		if (mid <= from)
+			return null;
+		Spliterator<Decimal> prefix = new IndexedSpliterator(sequence, from, mid);
+		from = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+}
@@ -0,0 +1,72 @@
+package decimal.helpers;
+
+import decimal.Decimal;
+
+/**
+ * Cursor over an {@link IndexedSequence}, returned by
+ * {@link IndexedSequence#supplier(long)}.
+ *
+ * <p>Follows the conventions of {@link FactorialSupplier}: the {@code nextPre}
+ * methods return the current value before advancing, and the
+ * {@code nextPost} methods advance before returning.</p>
+ *
+ * <p><strong>Developer note:</strong> The only state is the index, so
+ * advancing is free and values are only looked up when returned.</p>
+ */
+final class IndexedSupplier implements NumberSupplier {
+
+	/**
+	 * The sequence read by this cursor.
+	 */
+	private final IndexedSequence sequence;
+
+	/**
+	 * The current index.
+	 */
+	private long index;
+
+	/**
+	 * Creates a cursor over {@code sequence}, positioned at {@code start}.
+	 *
+	 * @param sequence the sequence to read
+	 * @param start    the initial index
+	 */
+	IndexedSupplier(IndexedSequence sequence, long start) {
+		this.sequence = sequence;
+		this.index = start;
+	}
+
+	@Override
+	public Decimal currentValue() {
+		return sequence.get(index);
+	}
+
+	@Override
+	public Decimal currentN() {
+		return Decimal.valueOf(index);
+	}
+
+	@Override
+	public Decimal nextPre() {
+		return nextPre(1);
+	}
+
+	@Override
+	public Decimal nextPre(int steps) {
+		Decimal toReturn = currentValue();
+		index = Math.addExact(index, steps);
+		return toReturn;
+	}
+
+	@Override
+	public Decimal nextPost() {
+		return nextPost(1);
+	}
+
+	@Override
+	public Decimal nextPost(int steps) {
+		index = Math.addExact(index, steps);
+		return currentValue();
+	}
+
+}
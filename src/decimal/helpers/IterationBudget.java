@@ -0,0 +1,133 @@
+package decimal.helpers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import decimal.Decimal;
+
+/**
+ * Limits applied to an iterative algorithm such as
+ * {@link Summation#sumInfinite(long, java.math.MathContext, IterationBudget)} or
+ * {@link NewtonRaphsonProvider#solve(Decimal, java.math.MathContext, IterationBudget)}.
+ *
+ * <p>An iteration stops as soon as any of the following holds:
+ * <ul>
+ *   <li>{@code maxIterations} iterations have been performed;</li>
+ *   <li>{@code timeLimit} has elapsed since the iteration started;</li>
+ *   <li>the wall clock has reached {@code deadline};</li>
+ *   <li>the current error estimate is at most {@code tolerance}.</li>
+ * </ul>
+ * Time limits and deadlines are checked once per iteration, so a single slow
+ * step can overrun them. The algorithm's own convergence test still applies
+ * independently. {@code timeLimit}, {@code deadline} and {@code tolerance}
+ * may be {@code null} to disable them.
+ *
+ * @param maxIterations the maximum number of iterations (must be positive)
+ * @param timeLimit     the maximum duration of the iteration, or {@code null} for none
+ * @param deadline      the instant by which the iteration must stop, or {@code null} for none
+ * @param tolerance     the error estimate at which to stop early, or {@code null} for none
+ * @see IterationResult
+ */
+public record IterationBudget(long maxIterations, Duration timeLimit, Instant deadline, Decimal tolerance) {
+
+	/**
+	 * The budget used by the overloads that do not take one: one million
+	 * iterations, with no time limit, deadline or tolerance.
+	 */
+	public static final IterationBudget DEFAULT = new IterationBudget(1_000_000, null, null, null);
+
+	/**
+	 * A budget that never stops an iteration; the algorithm's own convergence
+	 * test is the only way out, as before budgets were introduced.
+	 */
+	public static final IterationBudget UNBOUNDED = new IterationBudget(Long.MAX_VALUE, null, null, null);
+
+	/**
+	 * Validates the budget.
+	 *
+	 * @throws IllegalArgumentException if {@code maxIterations} is not positive,
+	 *         or {@code timeLimit} or {@code tolerance} is negative
+	 */
+	public IterationBudget {
+		if (maxIterations <= 0)
+			throw new IllegalArgumentException("maxIterations must be positive");
+		if (timeLimit != null && timeLimit.isNegative())
+			throw new IllegalArgumentException("timeLimit must not be negative");
+		if (tolerance != null && tolerance.isNegative())
+			throw new IllegalArgumentException("tolerance must not be negative");
+	}
+
+	/**
+	 * Returns a budget limited to the given number of iterations only.
+	 *
+	 * @param maxIterations the maximum number of iterations
+	 * @return the budget
+	 */
+	public static IterationBudget ofIterations(long maxIterations) {
+		return new IterationBudget(maxIterations, null, null, null);
+	}
+
+	/**
+	 * Returns a copy of this budget with the given time limit.
+	 *
+	 * @param timeLimit the maximum duration of the iteration
+	 * @return the new budget
+	 */
+	public IterationBudget withTimeLimit(Duration timeLimit) {
+		return new IterationBudget(maxIterations, Objects.requireNonNull(timeLimit, "timeLimit must not be null"), deadline, tolerance);
+	}
+
+	/**
+	 * Returns a copy of this budget with the given wall-clock deadline.
+	 *
+	 * @param deadline the instant by which the iteration must stop
+	 * @return the new budget
+	 */
+	public IterationBudget withDeadline(Instant deadline) {
+		return new IterationBudget(maxIterations, timeLimit, Objects.requireNonNull(deadline, "deadline must not be null"), tolerance);
+	}
+
+	/**
+	 * Returns a copy of this budget with the given tolerance.
+	 *
+	 * @param tolerance the error estimate at which to stop
+	 * @return the new budget
+	 */
+	public IterationBudget withTolerance(Decimal tolerance) {
+		return new IterationBudget(maxIterations, timeLimit, deadline, Objects.requireNonNull(tolerance, "tolerance must not be null"));
+	}
+
+	/**
+	 * Returns whether the time limit has elapsed or the deadline has passed
+	 * for an iteration that started at the given {@link System#nanoTime()}
+	 * value.
+	 *
+	 * @param startNanos the {@code System.nanoTime()} at which the iteration started
+	 * @return {@code true} if a time limit is set and has elapsed, or a
+	 *         deadline is set and has been reached
+	 */
+	boolean expired(long startNanos) {
+		if (deadline != null && !Instant.now().isBefore(deadline))
+			return true;
+		if (timeLimit == null) return false;
+		long limit;
+		try {
+			limit = timeLimit.toNanos();
+		} catch (ArithmeticException e) {
+			return false; // longer than System.nanoTime() can measure
+		}
+		return System.nanoTime() - startNanos >= limit;
+	}
+
+	/**
+	 * Returns whether the given error estimate is within the tolerance.
+	 *
+	 * @param errorEstimate the current error estimate
+	 * @return {@code true} if a tolerance is set and the estimate does not exceed it
+	 */
+	boolean withinTolerance(Decimal errorEstimate) {
+		return tolerance != null && errorEstimate.lessThanOrEqualTo(tolerance);
+	}
+
+}
@@ -0,0 +1,66 @@
+package decimal.helpers;
+
+import decimal.Decimal;
+
+/**
+ * The outcome of a budgeted iterative algorithm.
+ *
+ * <p>The error estimate is algorithm-specific: for summations it is the
+ * magnitude of the last term considered, for Newton–Raphson it is the
+ * magnitude of the last correction step.</p>
+ *
+ * @param value         the final approximation
+ * @param iterations    the number of iterations performed
+ * @param errorEstimate an estimate of the remaining error (non-negative)
+ * @param reason        why the iteration stopped
+ * @see IterationBudget
+ */
+public record IterationResult(Decimal value, long iterations, Decimal errorEstimate, TerminationReason reason) {
+
+	/**
+	 * Enumeration of the reasons an iteration can stop.
+	 *
+	 * <ul>
+	 *   <li>{@link #CONVERGED} – the algorithm's own convergence test succeeded.</li>
+	 *   <li>{@link #TOLERANCE_REACHED} – the error estimate reached the budget's tolerance.</li>
+	 *   <li>{@link #CYCLE_DETECTED} – the iteration revisited a recent value without converging.</li>
+	 *   <li>{@link #ITERATION_LIMIT} – the budget's iteration limit was exhausted.</li>
+	 *   <li>{@link #DEADLINE_EXCEEDED} – the budget's time limit elapsed or its deadline passed.</li>
+	 * </ul>
+	 */
+	public static enum TerminationReason {
+		CONVERGED,
+		TOLERANCE_REACHED,
+		CYCLE_DETECTED,
+		ITERATION_LIMIT,
+		DEADLINE_EXCEEDED,
+	}
+
+	/**
+	 * Returns {@code true} if the iteration stopped because it converged,
+	 * reached its tolerance or settled into a cycle, rather than because it
+	 * ran out of budget.
+	 *
+	 * @return {@code true} if {@link #value()} is a usable approximation
+	 */
+	public boolean converged() {
+		return switch (reason) {
+		case CONVERGED, TOLERANCE_REACHED, CYCLE_DETECTED 	-> true;
+		case ITERATION_LIMIT, DEADLINE_EXCEEDED 			-> false;
+		};
+	}
+
+	/**
+	 * Returns {@link #value()} if the iteration {@link #converged()}.
+	 *
+	 * @return the final approximation
+	 * @throws ArithmeticException if the iteration ran out of budget
+	 */
+	public Decimal requireConverged() {
+		if (!converged())
+			throw new ArithmeticException(String.format(
+					"no convergence after %d iterations (%s, error estimate %s)", iterations, reason, errorEstimate));
+		return value;
+	}
+
+}
@@ -4,6 +4,7 @@ import java.math.MathContext;
 import java.util.function.Function;
 
 import decimal.Decimal;
+import decimal.helpers.IterationResult.TerminationReason;
 
 /**
  * Utility class for solving equations using the Newton–Raphson method
@@ -24,13 +25,21 @@ import decimal.Decimal;
  * </p>
  *
  * <p>Iteration stops when successive guesses converge or repeat,
- * as tracked by a small cache of previous values.</p>
+ * as tracked by a small cache of previous values, or when an
+ * {@link IterationBudget} is exhausted.</p>
  *
  * @see Decimal
  * @see java.math.MathContext
  */
 public class NewtonRaphsonProvider {
 
+	/**
+	 * The budget used by {@link #solve(Decimal, MathContext)}: Newton's method
+	 * either converges within a few dozen iterations or not at all, so ten
+	 * thousand iterations is a generous upper bound.
+	 */
+	public static final IterationBudget DEFAULT_BUDGET = IterationBudget.ofIterations(10_000);
+
 	/**
 	 * The target function {@code f(x)} whose root is to be solved.
 	 */
@@ -105,20 +114,54 @@ public class NewtonRaphsonProvider {
 	 * If bounds or a clamping mechanism are provided, each iteration
 	 * result is adjusted accordingly.</p>
 	 *
+	 * <p>Runs under {@link #DEFAULT_BUDGET}, so a divergent or oscillating
+	 * iteration fails instead of looping forever.</p>
+	 *
 	 * @param start   the initial guess for the root
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return an approximate root of {@code f(x)} with the given precision
+	 * @throws ArithmeticException if the iteration has not converged within the default budget
 	 */
 	public Decimal solve(Decimal start, MathContext context) {
+		return solve(start, context, DEFAULT_BUDGET).requireConverged();
+	}
+
+	/**
+	 * Applies the Newton–Raphson method to solve for a root of {@code f(x)},
+	 * stopping at convergence (as described in {@link #solve(Decimal, MathContext)})
+	 * or when {@code budget} is exhausted, whichever comes first.
+	 *
+	 * <p>The error estimate of the result is the magnitude of the last
+	 * Newton step.</p>
+	 *
+	 * @param start   the initial guess for the root
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @param budget  the iteration, time and tolerance limits
+	 * @return the approximate root, the number of iterations, the error
+	 *         estimate and the reason the iteration stopped
+	 */
+	public IterationResult solve(Decimal start, MathContext context, IterationBudget budget) {
+		long startNanos = System.nanoTime();
 		Decimal result = start;
 		Cache cache = new Cache(2, start);
-		while (true) {
-			Decimal guess = clamp(result.subtract(f.apply(result).divide(fPrime.apply(result), context), context));
-			if (guess.equals(result) || cache.contains(guess)) break;
+		for (long iterations = 1; ; iterations++) {
+			Decimal delta = f.apply(result).divide(fPrime.apply(result), context);
+			Decimal guess = clamp(result.subtract(delta, context));
+			Decimal error = guess.subtract(result, context).abs();
+			if (guess.equals(result))
+				return new IterationResult(clamp(result), iterations, error, TerminationReason.CONVERGED);
+			if (cache.contains(guess))
+				return new IterationResult(clamp(result), iterations, error, TerminationReason.CYCLE_DETECTED);
 			cache.update(guess);
 			result = guess;
+
+			if (budget.withinTolerance(error))
+				return new IterationResult(clamp(result), iterations, error, TerminationReason.TOLERANCE_REACHED);
+			if (iterations >= budget.maxIterations())
+				return new IterationResult(clamp(result), iterations, error, TerminationReason.ITERATION_LIMIT);
+			if (budget.expired(startNanos))
+				return new IterationResult(clamp(result), iterations, error, TerminationReason.DEADLINE_EXCEEDED);
 		}
-		return clamp(result);
 	}
 
 	/**
@@ -1,5 +1,11 @@
 package decimal.helpers;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import decimal.Decimal;
 
 /**
@@ -9,6 +15,9 @@ import decimal.Decimal;
  * <p>The interface provides access to the current value and index, as well as
  * methods for advancing the sequence either before ({@code pre}) or after
  * returning a value ({@code post}).</p>
+ *
+ * <p>A supplier carries a cursor and is not thread-safe. For sequences that
+ * must be read from several threads, use an {@link IndexedSequence}.</p>
  */
 public interface NumberSupplier {
 
@@ -57,5 +66,52 @@ public interface NumberSupplier {
 	 * @return the current value before advancing
 	 */
 	Decimal nextPost(int steps);
-}
 
+	/**
+	 * Returns a spliterator that consumes this supplier, starting with its
+	 * current value.
+	 *
+	 * <p>The first element is read with {@link #currentValue()}, and each
+	 * later one with {@link #nextPost()}, which advances the supplier by one
+	 * step before reading. No element beyond the last one consumed is
+	 * computed, and the supplier is left positioned at that element. The
+	 * spliterator is unbounded.</p>
+	 *
+	 * <p><strong>Developer note:</strong> Splitting copies a batch of
+	 * elements into an array on the splitting thread (see
+	 * {@link Spliterators.AbstractSpliterator}), so parallel streams are safe
+	 * but only the batches, not the supplier, are processed concurrently.</p>
+	 *
+	 * @return an ordered, unbounded spliterator over the remaining values
+	 */
+	default Spliterator<Decimal> spliterator() {
+		NumberSupplier supplier = this;
+		return new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			/**
+			 * Whether the current value has been consumed already.
+			 */
+			private boolean started;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Decimal> action) {
+				Decimal value = started ? supplier.nextPost() : supplier.currentValue();
+				started = true;
+				action.accept(value);
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Returns an unbounded stream that consumes this supplier; see
+	 * {@link #spliterator()}. Limit it with {@link Stream#limit(long)} or
+	 * {@link Stream#takeWhile}.
+	 *
+	 * @return an ordered, unbounded sequential stream over the remaining values
+	 */
+	default Stream<Decimal> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+}
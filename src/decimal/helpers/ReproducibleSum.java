@@ -0,0 +1,138 @@
+package decimal.helpers;
+
+import java.math.MathContext;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+import decimal.Decimal;
+import decimal.MutableDecimal;
+
+/**
+ * Order-independent accumulator of {@link Decimal} sums.
+ *
+ * <p>Terms are added exactly, as a single unscaled integer aligned to the
+ * largest scale seen so far, and the total is rounded only when it is read
+ * with {@link #result(MathContext)}. Since exact addition is associative
+ * and commutative, the result is the same whatever the order of the terms
+ * and however they were split between partial sums, so parallel reductions
+ * give bit-identical results to sequential ones.</p>
+ *
+ * <p>Partial sums are combined with {@link #merge(ReproducibleSum)}, which
+ * makes this class usable as the mutable container of a
+ * {@link java.util.stream.Stream#collect collect} operation (see
+ * {@link #collector(MathContext)}) or as the result of a fork/join task (see
+ * {@link Summation#sumReproducible(long, long, MathContext, java.util.concurrent.ForkJoinPool)}).</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>This is a thin wrapper around {@link MutableDecimal} that only
+ *       exposes its exact operations; the rounded ones would make the result
+ *       depend on the order again.</li>
+ *   <li>Exactness has a cost when the terms span many orders of magnitude:
+ *       the held integer has as many digits as the distance between the
+ *       leading digit of the largest term and the last digit of the
+ *       smallest.</li>
+ *   <li>Instances are <em>not</em> thread-safe; give each thread its own and
+ *       merge them at the end.</li>
+ * </ul>
+ */
+public final class ReproducibleSum {
+
+	/**
+	 * The exact sum of the terms added so far.
+	 */
+	private final MutableDecimal sum = new MutableDecimal();
+
+	/**
+	 * The number of terms added so far.
+	 */
+	private long count;
+
+	/**
+	 * Creates an empty accumulator, whose sum is zero.
+	 */
+	public ReproducibleSum() {
+	}
+
+	/**
+	 * Adds a term, exactly.
+	 *
+	 * @param term the term to add
+	 * @return this accumulator
+	 */
+	public ReproducibleSum add(Decimal term) {
+		sum.addInPlace(term);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Adds the terms of another accumulator to this one, exactly.
+	 *
+	 * @param other the accumulator to merge; it is not modified
+	 * @return this accumulator
+	 */
+	public ReproducibleSum merge(ReproducibleSum other) {
+		sum.addInPlace(other.sum);
+		count += other.count;
+		return this;
+	}
+
+	/**
+	 * Returns the number of terms added, including those of merged
+	 * accumulators.
+	 *
+	 * @return the number of terms
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Returns the exact sum of the terms.
+	 *
+	 * @return the exact sum
+	 */
+	public Decimal exact() {
+		return sum.toDecimal();
+	}
+
+	/**
+	 * Returns the sum of the terms, rounded once according to
+	 * {@code context}.
+	 *
+	 * @param context the math context specifying precision and rounding
+	 * @return the rounded sum
+	 */
+	public Decimal result(MathContext context) {
+		return sum.toDecimal(context);
+	}
+
+	/**
+	 * Returns a {@link Collector} summing {@code Decimal}s reproducibly and
+	 * rounding the total once according to {@code context}.
+	 *
+	 * <p>The collector is {@link Collector.Characteristics#UNORDERED
+	 * unordered}: the result does not depend on the encounter order, so
+	 * parallel streams need not preserve it.</p>
+	 *
+	 * @param context the math context specifying precision and rounding
+	 * @return a collector of the rounded sum
+	 */
+	public static Collector<Decimal, ReproducibleSum, Decimal> collector(MathContext context) {
+		Objects.requireNonNull(context, "context");
+		return Collector.of(ReproducibleSum::new, ReproducibleSum::add, ReproducibleSum::merge,
+				sum -> sum.result(context), Collector.Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns the exact sum, as {@link MutableDecimal#toString()} would.
+	 *
+	 * @return the exact sum as a string
+	 */
+	@Override
+	public String toString() {
+		return sum.toString();
+	}
+
+}
@@ -0,0 +1,98 @@
+package decimal.helpers;
+
+import java.math.BigInteger;
+
+/**
+ * Left-to-right sliding-window decomposition of integer exponents, shared by
+ * the exponentiation engines of the library.
+ *
+ * <p>An exponent is consumed from its top bit down. Every window of up to
+ * {@code k} bits ending in a set bit costs one multiplication by a
+ * precomputed odd power {@code base^1, base^3, ..., base^(2^k - 1)}, on top
+ * of one squaring per bit. {@link #schedule(BigInteger, int)} records that
+ * sequence once, so an engine only has to replay it with its own
+ * multiplication.</p>
+ *
+ * <p><strong>Developer note:</strong> This class is an implementation
+ * detail of the library. It is public only because its users live in
+ * different packages.</p>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public final class SlidingWindow {
+
+	/**
+	 * Bit lengths of the exponent up to which each window size is used:
+	 * window size {@code k} is used while the bit length is at most
+	 * {@code WINDOW_THRESHOLDS[k - 1]} (the same cut-offs as
+	 * {@link BigInteger#modPow}).
+	 */
+	private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793, Integer.MAX_VALUE};
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private SlidingWindow() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns the window size used for an exponent of the given bit length,
+	 * chosen from {@link #WINDOW_THRESHOLDS}.
+	 *
+	 * @param bitLength the bit length of the exponent
+	 * @return the window size in bits, from {@code 1} to {@code 7}
+	 */
+	public static int windowSize(int bitLength) {
+		int window = 1;
+		while (bitLength > WINDOW_THRESHOLDS[window - 1])
+			window++;
+		return window;
+	}
+
+	/**
+	 * Decomposes a non-negative exponent into left-to-right sliding windows.
+	 *
+	 * <p>The result holds pairs {@code (s, d)} followed by one trailing
+	 * count {@code t}: starting from {@code 1}, the power is obtained by
+	 * squaring {@code s} times and multiplying by {@code base^d} for every
+	 * pair in order, then squaring {@code t} more times. Every {@code d} is
+	 * odd and below {@code 2^window}, so it indexes the odd powers as
+	 * {@code d >> 1}. The squarings of the first pair act on {@code 1} and
+	 * may be skipped. The exponent {@code 0} gives no pairs.</p>
+	 *
+	 * @param exponent the non-negative exponent
+	 * @param window   the maximum window size in bits
+	 * @return the pairs of (squarings before, odd window value) and the
+	 *         trailing squarings
+	 */
+	public static int[] schedule(BigInteger exponent, int window) {
+		int[] schedule = new int[2 * Math.max(1, exponent.bitLength())];
+		int length = 0;
+		int squarings = 0;
+		for (int i = exponent.bitLength() - 1; i >= 0;) {
+			if (!exponent.testBit(i)) {
+				squarings++;
+				i--;
+				continue;
+			}
+			int j = Math.max(i - window + 1, 0);
+			while (!exponent.testBit(j))
+				j++;
+			int digits = 0;
+			for (int b = i; b >= j; b--)
+				digits = digits << 1 | (exponent.testBit(b) ? 1 : 0);
+			schedule[length++] = squarings + (i - j + 1);
+			schedule[length++] = digits;
+			squarings = 0;
+			i = j - 1;
+		}
+		int[] trimmed = new int[length + 1];
+		System.arraycopy(schedule, 0, trimmed, 0, length);
+		trimmed[length] = squarings; // trailing zero bits
+		return trimmed;
+	}
+
+}
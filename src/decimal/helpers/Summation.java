@@ -1,9 +1,14 @@
 package decimal.helpers;
 
+import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
 
 import decimal.Decimal;
+import decimal.MutableDecimal;
+import decimal.helpers.IterationResult.TerminationReason;
 
 /**
  * Utility class for performing summation of a given function over a range of values.
@@ -20,15 +25,69 @@ import decimal.Decimal;
  *   <li>Summation assumes numeric stability: for infinite sums, convergence is
  *       detected when two successive partial sums are equal under the given
  *       {@link MathContext}.</li>
+ *   <li>Series whose terms follow a simple recurrence (powers, factorials)
+ *       should use {@link #ofRecurrence(Decimal, Recurrence)} or
+ *       {@link #ofRatio(Decimal, Ratio)} instead, so that each term is derived
+ *       from the previous one rather than recomputed from its index.</li>
+ *   <li>Finite sums that must not depend on the order of the additions
+ *       (parallel audits, reproducible reports) should use the
+ *       {@code sumReproducible} methods, which add exactly through a
+ *       {@link ReproducibleSum} and round once.</li>
  * </ul>
  */
 public class Summation {
 
 	/**
-	 * The function to be summed.
+	 * Computes a term of a series from the previous term.
+	 *
+	 * <p>Implementations should be stateless, so that the same recurrence
+	 * can be summed from several threads at once.</p>
+	 */
+	@FunctionalInterface
+	public static interface Recurrence {
+
+		/**
+		 * Returns the term at {@code index}, given the term at {@code index - 1}.
+		 *
+		 * @param previous the previous term
+		 * @param index    the index of the term to compute
+		 * @param context  the math context specifying precision and rounding
+		 * @return the term at {@code index}
+		 */
+		Decimal next(Decimal previous, long index, MathContext context);
+	}
+
+	/**
+	 * Computes the ratio between a term of a series and the previous term.
+	 */
+	@FunctionalInterface
+	public static interface Ratio {
+
+		/**
+		 * Returns {@code term(index) / term(index - 1)}.
+		 *
+		 * @param index   the index of the later term
+		 * @param context the math context specifying precision and rounding
+		 * @return the ratio of successive terms
+		 */
+		Decimal ratio(long index, MathContext context);
+	}
+
+	/**
+	 * The function to be summed, or {@code null} in recurrence mode.
 	 */
 	private Function<Decimal, Decimal> function;
 
+	/**
+	 * The first term of the series in recurrence mode.
+	 */
+	private Decimal firstTerm;
+
+	/**
+	 * The term-to-term update in recurrence mode, or {@code null}.
+	 */
+	private Recurrence recurrence;
+
 	/**
 	 * Creates a new {@code Summation} wrapper for the given function.
 	 *
@@ -38,6 +97,47 @@ public class Summation {
 		this.function = function;
 	}
 
+	/**
+	 * Creates a new {@code Summation} in recurrence mode.
+	 *
+	 * @param firstTerm  the term at the starting index
+	 * @param recurrence computes each subsequent term from the previous one
+	 */
+	private Summation(Decimal firstTerm, Recurrence recurrence) {
+		this.firstTerm = firstTerm;
+		this.recurrence = recurrence;
+	}
+
+	/**
+	 * Creates a summation of a series whose terms are derived from the
+	 * previous term by {@code recurrence}.
+	 *
+	 * <p>The index passed to the summation methods is the index of
+	 * {@code firstTerm}; the recurrence is then called with the following
+	 * indices. Infinite summation stops once a term is negligible relative to
+	 * the partial sum (see {@link #sumInfinite(long, MathContext)}).</p>
+	 *
+	 * @param firstTerm  the term at the starting index
+	 * @param recurrence computes each subsequent term from the previous one
+	 * @return a summation in recurrence mode
+	 */
+	public static Summation ofRecurrence(Decimal firstTerm, Recurrence recurrence) {
+		return new Summation(firstTerm, recurrence);
+	}
+
+	/**
+	 * Creates a summation of a series given its first term and the ratio
+	 * between successive terms, so that each term costs one multiplication
+	 * by the ratio.
+	 *
+	 * @param firstTerm the term at the starting index
+	 * @param ratio     the ratio of each term to the previous one
+	 * @return a summation in recurrence mode
+	 */
+	public static Summation ofRatio(Decimal firstTerm, Ratio ratio) {
+		return new Summation(firstTerm, (previous, index, context) -> previous.multiply(ratio.ratio(index, context), context));
+	}
+
 	/**
 	 * Computes an "infinite" summation of the wrapped function starting at
 	 * the given index, under the supplied {@link MathContext}.
@@ -45,22 +145,73 @@ public class Summation {
 	 * <p>The summation continues until convergence is detected, i.e. when
 	 * two successive partial sums are equal under the given precision.</p>
 	 *
-	 * <p><strong>Developer note:</strong> Although convergence is assumed,
-	 * divergence will result in an endless loop. Use with caution.</p>
+	 * <p>In recurrence mode, the summation instead stops at the first term
+	 * whose magnitude is below a tenth of the last digit of the partial sum
+	 * (or that is exactly zero), which avoids evaluating one final redundant
+	 * addition and does not depend on how that addition rounds. For series
+	 * whose tail is not bounded by its first term, callers should add guard
+	 * digits to {@code context}.</p>
+	 *
+	 * <p><strong>Developer note:</strong> This runs under
+	 * {@link IterationBudget#DEFAULT}, so a divergent series fails after a
+	 * bounded number of terms instead of looping forever. Use
+	 * {@link #sumInfinite(long, MathContext, IterationBudget)} to choose the
+	 * limits or to inspect how the summation ended.</p>
 	 *
 	 * @param start   the starting index (may be negative or non-negative)
 	 * @param context the math context specifying precision and rounding
 	 * @return the approximated sum of the series
+	 * @throws ArithmeticException if the series has not converged within the default budget
 	 */
 	public Decimal sumInfinite(long start, MathContext context) {
-		Decimal result = Decimal.ZERO;
+		return sumInfinite(start, context, IterationBudget.DEFAULT).requireConverged();
+	}
+
+	/**
+	 * Computes an "infinite" summation of the wrapped function starting at
+	 * the given index, stopping at convergence (as described in
+	 * {@link #sumInfinite(long, MathContext)}) or when {@code budget} is
+	 * exhausted, whichever comes first.
+	 *
+	 * <p>The error estimate of the result is the magnitude of the last term
+	 * considered.</p>
+	 *
+	 * @param start   the starting index (may be negative or non-negative)
+	 * @param context the math context specifying precision and rounding
+	 * @param budget  the iteration, time and tolerance limits
+	 * @return the partial sum, the number of terms considered, the error
+	 *         estimate and the reason the summation stopped
+	 */
+	public IterationResult sumInfinite(long start, MathContext context, IterationBudget budget) {
+		long startNanos = System.nanoTime();
+		Decimal result = recurrence != null ? firstTerm : Decimal.ZERO;
+		Decimal term = firstTerm;
+		long iterations = 0;
 		for (long i = start; ; i++) { // safe until 2^63 - 1 terms
-			Decimal newResult = result.add(function.apply(new Decimal(i)), context);
-			if (result.equals(newResult)) // assumes convergence
-				break;
-			result = newResult;
+			if (recurrence != null) {
+				if (i > start) {
+					term = recurrence.next(term, i, context);
+					if (isNegligible(term, result, context))
+						return new IterationResult(result, iterations + 1, term.abs(), TerminationReason.CONVERGED);
+					result = result.add(term, context);
+				}
+			} else {
+				term = function.apply(Decimal.valueOf(i));
+				Decimal newResult = result.add(term, context);
+				if (result.equals(newResult)) // assumes convergence
+					return new IterationResult(result, iterations + 1, term.abs(), TerminationReason.CONVERGED);
+				result = newResult;
+			}
+			iterations++;
+
+			Decimal error = term.abs();
+			if (budget.withinTolerance(error))
+				return new IterationResult(result, iterations, error, TerminationReason.TOLERANCE_REACHED);
+			if (iterations >= budget.maxIterations())
+				return new IterationResult(result, iterations, error, TerminationReason.ITERATION_LIMIT);
+			if (budget.expired(startNanos))
+				return new IterationResult(result, iterations, error, TerminationReason.DEADLINE_EXCEEDED);
 		}
-		return result;
 	}
 
 	/**
@@ -76,11 +227,301 @@ public class Summation {
 	 * @return the sum of the function applied over the range [start, end]
 	 */
 	public Decimal sum(long start, long end, MathContext context) {
-		Decimal result = Decimal.ZERO;
+		if (recurrence != null)
+			return end < start ? Decimal.ZERO : sumRecurrence(start, end, context);
+		MutableDecimal result = new MutableDecimal();
 		for (long i = start; i <= end; i++) { // safe until 2^63 - 1 terms
-			result = result.add(function.apply(new Decimal(i)), context);
+			result.addInPlace(function.apply(Decimal.valueOf(i)), context);
+		}
+		return result.toDecimal();
+	}
+
+	/**
+	 * Smallest number of indices summed sequentially by a single
+	 * {@link ParallelSum} task.
+	 */
+	private static final long MINIMUM_CHUNK = 256;
+
+	/**
+	 * Number of leaf tasks created per worker thread, so that uneven term
+	 * costs can still be balanced by work stealing.
+	 */
+	private static final long CHUNKS_PER_THREAD = 8;
+
+	/**
+	 * Computes the finite summation of the wrapped function from {@code start}
+	 * to {@code end}, inclusive, splitting the index range across the given
+	 * {@link ForkJoinPool}.
+	 *
+	 * <p>The range is split recursively in halves until the chunks are small
+	 * enough, each chunk is summed sequentially, and the partial sums are
+	 * combined pairwise up the tree. Besides using every worker, this tree
+	 * reduction keeps the partial sums of similar magnitude, which usually
+	 * rounds better than one long running sum. The result is deterministic for
+	 * a given pool parallelism, but can differ in the last digit from
+	 * {@link #sum(long, long, MathContext)} because the additions are grouped
+	 * differently.</p>
+	 *
+	 * <p>The wrapped function is called concurrently from several threads and
+	 * must therefore be thread-safe. A summation in recurrence mode cannot be
+	 * split (each term needs the previous one) and is summed sequentially.</p>
+	 *
+	 * @param start   the starting index
+	 * @param end     the ending index (inclusive)
+	 * @param context the math context specifying precision and rounding
+	 * @param pool    the pool to run the summation on
+	 * @return the sum of the function applied over the range [start, end]
+	 */
+	public Decimal sum(long start, long end, MathContext context, ForkJoinPool pool) {
+		if (recurrence != null || end < start)
+			return sum(start, end, context);
+		long count = end - start + 1;
+		long chunk = count > 0 ? Math.max(MINIMUM_CHUNK, count / (pool.getParallelism() * CHUNKS_PER_THREAD)) : Long.MAX_VALUE;
+		return pool.invoke(new ParallelSum(start, end, chunk, context));
+	}
+
+	/**
+	 * Computes the finite summation of the wrapped function from {@code start}
+	 * to {@code end}, inclusive, on a dedicated {@link ForkJoinPool} with the
+	 * given parallelism, which is shut down afterwards.
+	 *
+	 * @param start       the starting index
+	 * @param end         the ending index (inclusive)
+	 * @param context     the math context specifying precision and rounding
+	 * @param parallelism the number of worker threads to use
+	 * @return the sum of the function applied over the range [start, end]
+	 * @throws IllegalArgumentException if {@code parallelism} is not positive
+	 * @see #sum(long, long, MathContext, ForkJoinPool)
+	 */
+	public Decimal sum(long start, long end, MathContext context, int parallelism) {
+		try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+			return sum(start, end, context, pool);
 		}
+	}
+
+	/**
+	 * Computes the finite summation of the wrapped function from {@code start}
+	 * to {@code end}, inclusive, exactly, and rounds the total once under the
+	 * supplied {@link MathContext}.
+	 *
+	 * <p>Unlike {@link #sum(long, long, MathContext)}, which rounds after
+	 * every addition, the result does not depend on the order in which the
+	 * terms are added; it equals
+	 * {@link #sumReproducible(long, long, MathContext, ForkJoinPool)} for any
+	 * pool. Each term is still computed under {@code context}.</p>
+	 *
+	 * @param start   the starting index
+	 * @param end     the ending index (inclusive)
+	 * @param context the math context specifying precision and rounding
+	 * @return the correctly rounded sum of the terms over the range [start, end]
+	 * @see ReproducibleSum
+	 */
+	public Decimal sumReproducible(long start, long end, MathContext context) {
+		return accumulate(start, end, context).result(context);
+	}
+
+	/**
+	 * Computes the finite summation of the wrapped function from {@code start}
+	 * to {@code end}, inclusive, exactly, splitting the index range across
+	 * the given {@link ForkJoinPool}, and rounds the total once.
+	 *
+	 * <p>The result is bit-identical to
+	 * {@link #sumReproducible(long, long, MathContext)}, whatever the
+	 * parallelism of the pool. The wrapped function must be thread-safe, as
+	 * for {@link #sum(long, long, MathContext, ForkJoinPool)}; a summation in
+	 * recurrence mode is accumulated sequentially.</p>
+	 *
+	 * @param start   the starting index
+	 * @param end     the ending index (inclusive)
+	 * @param context the math context specifying precision and rounding
+	 * @param pool    the pool to run the summation on
+	 * @return the correctly rounded sum of the terms over the range [start, end]
+	 */
+	public Decimal sumReproducible(long start, long end, MathContext context, ForkJoinPool pool) {
+		if (recurrence != null || end < start)
+			return sumReproducible(start, end, context);
+		long count = end - start + 1;
+		long chunk = count > 0 ? Math.max(MINIMUM_CHUNK, count / (pool.getParallelism() * CHUNKS_PER_THREAD)) : Long.MAX_VALUE;
+		return pool.invoke(new ReproducibleParallelSum(start, end, chunk, context)).result(context);
+	}
+
+	/**
+	 * Accumulates the terms over {@code [start, end]} exactly.
+	 *
+	 * @param start   the index of the first term
+	 * @param end     the last index (inclusive)
+	 * @param context the math context under which each term is computed
+	 * @return the exact partial sum
+	 */
+	private ReproducibleSum accumulate(long start, long end, MathContext context) {
+		ReproducibleSum result = new ReproducibleSum();
+		if (end < start)
+			return result;
+		if (recurrence != null) {
+			Decimal term = firstTerm;
+			result.add(term);
+			for (long i = start + 1; i <= end && i > start; i++) { // i > start guards against overflow
+				term = recurrence.next(term, i, context);
+				result.add(term);
+			}
+			return result;
+		}
+		for (long i = start; i <= end && i >= start; i++) // i >= start guards against overflow
+			result.add(function.apply(Decimal.valueOf(i)));
 		return result;
 	}
-}
 
+	/**
+	 * Fork/join task summing the wrapped function over a range of indices.
+	 */
+	@SuppressWarnings("serial")
+	private class ParallelSum extends RecursiveTask<Decimal> {
+
+		/**
+		 * The first index (inclusive).
+		 */
+		private final long start;
+
+		/**
+		 * The last index (inclusive).
+		 */
+		private final long end;
+
+		/**
+		 * The largest range summed sequentially.
+		 */
+		private final long chunk;
+
+		/**
+		 * The math context specifying precision and rounding.
+		 */
+		private final MathContext context;
+
+		/**
+		 * Creates a task summing the indices in {@code [start, end]}.
+		 *
+		 * @param start   the first index (inclusive)
+		 * @param end     the last index (inclusive)
+		 * @param chunk   the largest range summed sequentially
+		 * @param context the math context specifying precision and rounding
+		 */
+		private ParallelSum(long start, long end, long chunk, MathContext context) {
+			this.start = start;
+			this.end = end;
+			this.chunk = chunk;
+			this.context = context;
+		}
+
+		@Override
+		protected Decimal compute() {
+			if (end - start < chunk && end - start >= 0)
+				return sum(start, end, context);
+			long mid = (start >> 1) + (end >> 1) + (start & end & 1); // overflow-free floor((start + end) / 2)
+			ParallelSum left = new ParallelSum(start, mid, chunk, context);
+			left.fork();
+			Decimal right = new ParallelSum(mid + 1, end, chunk, context).compute();
+			return left.join().add(right, context);
+		}
+	}
+
+	/**
+	 * Fork/join task accumulating the wrapped function exactly over a range
+	 * of indices.
+	 */
+	@SuppressWarnings("serial")
+	private class ReproducibleParallelSum extends RecursiveTask<ReproducibleSum> {
+
+		/**
+		 * The first index (inclusive).
+		 */
+		private final long start;
+
+		/**
+		 * The last index (inclusive).
+		 */
+		private final long end;
+
+		/**
+		 * The largest range accumulated sequentially.
+		 */
+		private final long chunk;
+
+		/**
+		 * The math context under which each term is computed.
+		 */
+		private final MathContext context;
+
+		/**
+		 * Creates a task accumulating the indices in {@code [start, end]}.
+		 *
+		 * @param start   the first index (inclusive)
+		 * @param end     the last index (inclusive)
+		 * @param chunk   the largest range accumulated sequentially
+		 * @param context the math context under which each term is computed
+		 */
+		private ReproducibleParallelSum(long start, long end, long chunk, MathContext context) {
+			this.start = start;
+			this.end = end;
+			this.chunk = chunk;
+			this.context = context;
+		}
+
+		@Override
+		protected ReproducibleSum compute() {
+			if (end - start < chunk && end - start >= 0)
+				return accumulate(start, end, context);
+			long mid = (start >> 1) + (end >> 1) + (start & end & 1); // overflow-free floor((start + end) / 2)
+			ReproducibleParallelSum left = new ReproducibleParallelSum(start, mid, chunk, context);
+			left.fork();
+			ReproducibleSum right = new ReproducibleParallelSum(mid + 1, end, chunk, context).compute();
+			return left.join().merge(right);
+		}
+	}
+
+	/**
+	 * Sums a series in recurrence mode over {@code [start, end]}.
+	 *
+	 * @param start   the index of the first term
+	 * @param end     the last index (inclusive)
+	 * @param context the math context specifying precision and rounding
+	 * @return the sum of the series
+	 */
+	private Decimal sumRecurrence(long start, long end, MathContext context) {
+		Decimal term = firstTerm;
+		MutableDecimal result = new MutableDecimal(term);
+		for (long i = start + 1; i <= end && i > start; i++) { // i > start guards against overflow
+			term = recurrence.next(term, i, context);
+			result.addInPlace(term, context);
+		}
+		return result.toDecimal();
+	}
+
+	/**
+	 * Returns whether {@code term} no longer affects {@code sum} at the
+	 * given precision, i.e. whether it is zero or its leading digit lies
+	 * more than {@code precision} digits below the leading digit of
+	 * {@code sum}.
+	 *
+	 * @param term    the next term of the series
+	 * @param sum     the current partial sum
+	 * @param context the math context specifying precision and rounding
+	 * @return {@code true} if adding {@code term} cannot change {@code sum}
+	 */
+	private static boolean isNegligible(Decimal term, Decimal sum, MathContext context) {
+		if (term.signum() == 0) return true;
+		if (sum.signum() == 0 || context.getPrecision() == 0) return false;
+		return exponent(term) < exponent(sum) - context.getPrecision();
+	}
+
+	/**
+	 * Returns the exponent of the leading digit of a non-zero value, i.e.
+	 * {@code floor(log10|value|)}.
+	 *
+	 * @param value the non-zero value
+	 * @return the position of its leading digit
+	 */
+	private static long exponent(Decimal value) {
+		BigDecimal bigDecimal = value.toBigDecimal();
+		return (long) bigDecimal.precision() - bigDecimal.scale() - 1;
+	}
+}
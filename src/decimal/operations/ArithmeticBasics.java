@@ -1,8 +1,13 @@
 package decimal.operations;
 
+import static decimal.helpers.CompactArithmetic.INFLATED;
+import static decimal.helpers.CompactArithmetic.fits;
+import static decimal.helpers.CompactArithmetic.scaleUp;
+
 import java.math.MathContext;
 
 import decimal.Decimal;
+import decimal.MutableDecimal;
 
 /**
  * Utility class providing basic arithmetic operations for {@link Decimal}.
@@ -18,6 +23,18 @@ import decimal.Decimal;
  *       with low-level arithmetic details.</li>
  *   <li>Each method delegates directly to the corresponding
  *       {@link BigDecimal} operation, wrapped back into a {@code Decimal}.</li>
+ *   <li>Addition, subtraction and multiplication of two compact operands
+ *       (see {@link Decimal#isCompact()}) are first tried with
+ *       overflow-checked {@code long} arithmetic. The fast path is only taken
+ *       when the exact result fits in a {@code long} and in the requested
+ *       precision, in which case {@code BigDecimal} would return exactly the
+ *       same value and scale; anything else falls through to
+ *       {@code BigDecimal}.</li>
+ *   <li>{@link #fusedMultiplyAdd} rounds the exact product and the addend
+ *       once, in {@link java.math.BigDecimal#add(java.math.BigDecimal, MathContext)},
+ *       which does not align an addend far below the rounding position.
+ *       {@link #dotProduct} accumulates in a {@link MutableDecimal}, so only
+ *       the final result is rounded.</li>
  * </ul>
  *
  * <p>All methods return new immutable {@code Decimal} instances.</p>
@@ -46,6 +63,12 @@ public class ArithmeticBasics {
 	 * @return a {@code Decimal} representing {@code firstOperand + secondOperand}
 	 */
 	public static Decimal addition(Decimal firstOperand, Decimal secondOperand, MathContext context) {
+		if (firstOperand.isCompact() && secondOperand.isCompact()) {
+			Decimal sum = compactSum(firstOperand.compactUnscaledValue(), firstOperand.scale(),
+					secondOperand.compactUnscaledValue(), secondOperand.scale(), context);
+			if (sum != null)
+				return sum;
+		}
 		return new Decimal(firstOperand.toBigDecimal().add(secondOperand.toBigDecimal(), context));
 	}
 
@@ -60,6 +83,12 @@ public class ArithmeticBasics {
 	 * @return a {@code Decimal} representing {@code firstOperand - secondOperand}
 	 */
 	public static Decimal subtraction(Decimal firstOperand, Decimal secondOperand, MathContext context) {
+		if (firstOperand.isCompact() && secondOperand.isCompact()) {
+			Decimal difference = compactSum(firstOperand.compactUnscaledValue(), firstOperand.scale(),
+					-secondOperand.compactUnscaledValue(), secondOperand.scale(), context);
+			if (difference != null)
+				return difference;
+		}
 		return new Decimal(firstOperand.toBigDecimal().subtract(secondOperand.toBigDecimal(), context));
 	}
 
@@ -74,6 +103,14 @@ public class ArithmeticBasics {
 	 * @return a {@code Decimal} representing {@code firstOperand × secondOperand}
 	 */
 	public static Decimal multiplication(Decimal firstOperand, Decimal secondOperand, MathContext context) {
+		if (firstOperand.isCompact() && secondOperand.isCompact()) {
+			long first = firstOperand.compactUnscaledValue();
+			long second = secondOperand.compactUnscaledValue();
+			long product = first * second;
+			long scale = (long) firstOperand.scale() + secondOperand.scale();
+			if (Math.multiplyHigh(first, second) == (product >> 63) && scale == (int) scale && fits(product, context))
+				return Decimal.valueOf(product, (int) scale);
+		}
 		return new Decimal(firstOperand.toBigDecimal().multiply(secondOperand.toBigDecimal(), context));
 	}
 
@@ -91,5 +128,75 @@ public class ArithmeticBasics {
 	public static Decimal division(Decimal firstOperand, Decimal secondOperand, MathContext context) {
 		return new Decimal(firstOperand.toBigDecimal().divide(secondOperand.toBigDecimal(), context));
 	}
+
+	/**
+	 * Returns a new {@code Decimal} whose value is
+	 * {@code (firstOperand × secondOperand) + addend}, computed exactly and
+	 * rounded once using the supplied {@link MathContext}.
+	 *
+	 * @param firstOperand  the multiplicand
+	 * @param secondOperand the multiplier
+	 * @param addend        the value added to the product
+	 * @param context       the {@link MathContext} specifying precision and rounding
+	 * @return a {@code Decimal} representing {@code firstOperand × secondOperand + addend}
+	 */
+	public static Decimal fusedMultiplyAdd(Decimal firstOperand, Decimal secondOperand, Decimal addend, MathContext context) {
+		return new Decimal(firstOperand.toBigDecimal().multiply(secondOperand.toBigDecimal()).add(addend.toBigDecimal(), context));
+	}
+
+	/**
+	 * Returns the dot product {@code Σ first[i] × second[i]}, accumulated
+	 * exactly and rounded once using the supplied {@link MathContext}.
+	 *
+	 * <p>Because no intermediate result is rounded, the result does not
+	 * depend on the order of the terms, and a working precision equal to the
+	 * desired accuracy is enough.</p>
+	 *
+	 * <p>Exactness has a cost when the products span many orders of
+	 * magnitude: the accumulator has as many digits as the distance between
+	 * the leading digit of the largest product and the last digit of the
+	 * smallest, whatever the precision of {@code context}.</p>
+	 *
+	 * @param first   the first vector
+	 * @param second  the second vector
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the rounded dot product, or zero if the vectors are empty
+	 * @throws IllegalArgumentException if the vectors differ in length
+	 */
+	public static Decimal dotProduct(Decimal[] first, Decimal[] second, MathContext context) {
+		if (first.length != second.length)
+			throw new IllegalArgumentException(String.format("length mismatch: %d and %d", first.length, second.length));
+		if (first.length == 0)
+			return Decimal.ZERO;
+		// seeded with the first product so the sum keeps BigDecimal's preferred scale
+		MutableDecimal sum = new MutableDecimal(first[0]).multiplyInPlace(second[0]);
+		for (int i = 1; i < first.length; i++)
+			sum.fmaInPlace(first[i], second[i]);
+		return sum.toDecimal(context);
+	}
+
+	/**
+	 * Adds two compact values with primitive arithmetic.
+	 *
+	 * @param first       the unscaled first addend
+	 * @param firstScale  the scale of the first addend
+	 * @param second      the unscaled second addend
+	 * @param secondScale the scale of the second addend
+	 * @param context     the {@link MathContext} specifying precision and rounding
+	 * @return the exact sum, or {@code null} if it does not fit in a
+	 *         {@code long} or would need rounding
+	 */
+	private static Decimal compactSum(long first, int firstScale, long second, int secondScale, MathContext context) {
+		int scale = Math.max(firstScale, secondScale);
+		if (firstScale < scale && (first = scaleUp(first, (long) scale - firstScale)) == INFLATED)
+			return null;
+		if (secondScale < scale && (second = scaleUp(second, (long) scale - secondScale)) == INFLATED)
+			return null;
+		long sum = first + second;
+		if (((first ^ sum) & (second ^ sum)) < 0 || !fits(sum, context))
+			return null;
+		return Decimal.valueOf(sum, scale);
+	}
+
 }
 
@@ -0,0 +1,304 @@
+package decimal.operations;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Utility class computing exact factorials.
+ *
+ * <p>Small arguments come from a table, moderate ones from a balanced
+ * product tree over {@code 2..n}, and large ones from Luschny's
+ * <em>prime swing</em> algorithm:
+ * {@code n! = ((n/2)!)^2 × swing(n)}, where the swing
+ * {@code n! / ((n/2)!)^2} is the product of the prime powers
+ * {@code p^e} with {@code e = Σ floor(n / p^k) mod 2}. Every such prime power
+ * is at most {@code n}, so the swing has far fewer and better balanced
+ * factors than the plain product.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Factors are first packed into {@code long}s (multiplying neighbours
+ *       while the product fits), so the product trees start from a few
+ *       large leaves instead of many tiny {@code BigInteger}s.</li>
+ *   <li>Product trees with more than {@link #SEQUENTIAL_THRESHOLD} leaves
+ *       are evaluated with fork/join on the common pool, and the swing of
+ *       each level is computed in parallel with the recursion into
+ *       {@code (n/2)!}. The large multiplications near the root use
+ *       {@link BigInteger#parallelMultiply(BigInteger)}.</li>
+ * </ul>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public class Factorial {
+
+	/**
+	 * {@code 0!} to {@code 20!}, the factorials that fit in a {@code long}.
+	 */
+	private static final long[] SMALL_FACTORIALS = {
+			1L, 1L, 2L, 6L, 24L, 120L, 720L, 5_040L, 40_320L, 362_880L, 3_628_800L,
+			39_916_800L, 479_001_600L, 6_227_020_800L, 87_178_291_200L,
+			1_307_674_368_000L, 20_922_789_888_000L, 355_687_428_096_000L,
+			6_402_373_705_728_000L, 121_645_100_408_832_000L,
+			2_432_902_008_176_640_000L
+	};
+
+	/**
+	 * Arguments from which the prime swing algorithm is used; below it the
+	 * plain product tree is faster because sieving does not pay off.
+	 */
+	private static final int PRIME_SWING_THRESHOLD = 1_024;
+
+	/**
+	 * Largest number of packed leaves multiplied sequentially by one
+	 * fork/join task.
+	 */
+	private static final int SEQUENTIAL_THRESHOLD = 256;
+
+	/**
+	 * Bit length from which both operands of a product are large enough for
+	 * {@link BigInteger#parallelMultiply(BigInteger)} to pay off.
+	 */
+	private static final int PARALLEL_MULTIPLY_BITS = 1 << 18;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private Factorial() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns {@code n!}.
+	 *
+	 * @param n the argument
+	 * @return the exact factorial of {@code n}
+	 * @throws IllegalArgumentException if {@code n} is negative
+	 */
+	public static BigInteger factorial(int n) {
+		if (n < 0)
+			throw new IllegalArgumentException("n must be non-negative: " + n);
+		if (n < SMALL_FACTORIALS.length)
+			return BigInteger.valueOf(SMALL_FACTORIALS[n]);
+		if (n < PRIME_SWING_THRESHOLD)
+			return product(2, n);
+		return primeSwing(n, primes(n));
+	}
+
+	/**
+	 * Returns the product of the integers in {@code [low, high]}, or
+	 * {@code 1} if the range is empty.
+	 *
+	 * @param low  the first factor
+	 * @param high the last factor
+	 * @return {@code low × (low + 1) × ... × high}
+	 * @throws IllegalArgumentException if {@code low} is not positive
+	 */
+	public static BigInteger product(int low, int high) {
+		if (low < 1)
+			throw new IllegalArgumentException("low must be positive: " + low);
+		Packer packer = new Packer(Math.max(0, high - low + 1));
+		for (int i = low; i <= high && i >= low; i++) // i >= low guards against overflow
+			packer.add(i);
+		return packer.product();
+	}
+
+	/**
+	 * Computes {@code n!} by the prime swing recursion.
+	 *
+	 * @param n      the argument
+	 * @param primes every prime up to at least {@code n}, in increasing order
+	 * @return {@code n!}
+	 */
+	private static BigInteger primeSwing(int n, int[] primes) {
+		if (n < PRIME_SWING_THRESHOLD)
+			return n < SMALL_FACTORIALS.length ? BigInteger.valueOf(SMALL_FACTORIALS[n]) : product(2, n);
+		ForkJoinTask<BigInteger> swing = ForkJoinTask.adapt(() -> swing(n, primes)).fork();
+		BigInteger half = primeSwing(n / 2, primes);
+		return multiply(multiply(half, half), swing.join());
+	}
+
+	/**
+	 * Computes the swing {@code n! / ((n/2)!)^2} from its prime factorization.
+	 *
+	 * @param n      the argument
+	 * @param primes every prime up to at least {@code n}, in increasing order
+	 * @return the swing of {@code n}
+	 */
+	private static BigInteger swing(int n, int[] primes) {
+		Packer packer = new Packer(primes.length);
+		for (int prime : primes) {
+			if (prime > n)
+				break;
+			int power = 1;
+			for (int q = n / prime; q > 0; q /= prime)
+				if ((q & 1) == 1)
+					power *= prime; // stays at most n
+			if (power > 1)
+				packer.add(power);
+		}
+		return packer.product();
+	}
+
+	/**
+	 * Returns the primes up to {@code n} with a sieve of Eratosthenes.
+	 *
+	 * @param n the upper bound (inclusive)
+	 * @return the primes in {@code [2, n]}, in increasing order
+	 */
+	private static int[] primes(int n) {
+		BitSet composite = new BitSet(n + 1);
+		for (long i = 2; i * i <= n; i++)
+			if (!composite.get((int) i))
+				for (long j = i * i; j <= n; j += i)
+					composite.set((int) j);
+		int[] primes = new int[Math.max(16, (int) (1.26 * n / Math.log(n)))]; // pi(n) < 1.26 n / ln n
+		int count = 0;
+		for (int i = composite.nextClearBit(2); i <= n && i >= 0; i = composite.nextClearBit(i + 1))
+			primes[count++] = i;
+		return Arrays.copyOf(primes, count);
+	}
+
+	/**
+	 * Multiplies two factors, in parallel if both are large.
+	 *
+	 * @param left  the first factor
+	 * @param right the second factor
+	 * @return {@code left × right}
+	 */
+	private static BigInteger multiply(BigInteger left, BigInteger right) {
+		if (left.bitLength() >= PARALLEL_MULTIPLY_BITS && right.bitLength() >= PARALLEL_MULTIPLY_BITS)
+			return left.parallelMultiply(right);
+		return left.multiply(right);
+	}
+
+	/**
+	 * Collects factors, packing neighbours into a single {@code long} while
+	 * their product fits, and multiplies them with a product tree.
+	 */
+	private static final class Packer {
+
+		/**
+		 * The packed factors.
+		 */
+		private long[] packed;
+
+		/**
+		 * Number of packed factors.
+		 */
+		private int size;
+
+		/**
+		 * Product of the factors added since the last packed one.
+		 */
+		private long current = 1;
+
+		/**
+		 * Creates a packer expecting about {@code factors} factors.
+		 *
+		 * @param factors an estimate of the number of factors
+		 */
+		private Packer(int factors) {
+			packed = new long[Math.max(16, factors / 2)];
+		}
+
+		/**
+		 * Adds a positive factor.
+		 *
+		 * @param factor the factor to add
+		 */
+		private void add(long factor) {
+			if (Math.multiplyHigh(current, factor) != 0 || current * factor < 0) {
+				if (size == packed.length)
+					packed = Arrays.copyOf(packed, size * 2);
+				packed[size++] = current;
+				current = factor;
+			} else {
+				current *= factor;
+			}
+		}
+
+		/**
+		 * Returns the product of every factor added.
+		 *
+		 * @return the product
+		 */
+		private BigInteger product() {
+			if (size == packed.length)
+				packed = Arrays.copyOf(packed, size + 1);
+			packed[size++] = current;
+			current = 1;
+			return new ProductTask(packed, 0, size).invoke();
+		}
+	}
+
+	/**
+	 * Fork/join task multiplying a range of packed factors with a balanced
+	 * product tree.
+	 */
+	@SuppressWarnings("serial")
+	private static final class ProductTask extends RecursiveTask<BigInteger> {
+
+		/**
+		 * The packed factors.
+		 */
+		private final long[] factors;
+
+		/**
+		 * The first factor (inclusive).
+		 */
+		private final int from;
+
+		/**
+		 * The last factor (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Creates a task multiplying {@code factors[from, to)}.
+		 *
+		 * @param factors the packed factors
+		 * @param from    the first factor (inclusive)
+		 * @param to      the last factor (exclusive)
+		 */
+		private ProductTask(long[] factors, int from, int to) {
+			this.factors = factors;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected BigInteger compute() {
+			if (to - from <= SEQUENTIAL_THRESHOLD)
+				return sequential(from, to);
+			int mid = (from + to) >>> 1;
+			ProductTask left = new ProductTask(factors, from, mid);
+			left.fork();
+			BigInteger right = new ProductTask(factors, mid, to).compute();
+			return multiply(left.join(), right);
+		}
+
+		/**
+		 * Multiplies {@code factors[low, high)} with a sequential product tree.
+		 *
+		 * @param low  the first factor (inclusive)
+		 * @param high the last factor (exclusive)
+		 * @return the product, or {@code 1} if the range is empty
+		 */
+		private BigInteger sequential(int low, int high) {
+			if (high - low <= 0)
+				return BigInteger.ONE;
+			if (high - low == 1)
+				return BigInteger.valueOf(factors[low]);
+			if (high - low == 2)
+				return BigInteger.valueOf(factors[low]).multiply(BigInteger.valueOf(factors[low + 1]));
+			int mid = (low + high) >>> 1;
+			return sequential(low, mid).multiply(sequential(mid, high));
+		}
+	}
+
+}
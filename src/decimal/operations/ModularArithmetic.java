@@ -0,0 +1,432 @@
+package decimal.operations;
+
+import java.math.BigInteger;
+
+import decimal.Decimal;
+import decimal.Decimals;
+import decimal.helpers.SlidingWindow;
+
+/**
+ * Utility class providing integer modular arithmetic for {@link Decimal}.
+ *
+ * <p>Every operation requires integer operands and works on the exact
+ * integer values, never through a {@link java.math.MathContext}, so results
+ * are exact whatever the size of the operands.</p>
+ *
+ * <p><strong>Developer notes:</strong></p>
+ * <ul>
+ *   <li>Operands whose values are held in the compact {@code long} form
+ *       (see {@link Decimal#isCompact()}) are handled with primitive
+ *       arithmetic; everything else goes through {@link BigInteger}.</li>
+ *   <li>{@link Montgomery} keeps a fixed modulus in Montgomery form, so that
+ *       many exponentiations with the same modulus (checksums, hashing)
+ *       share the set-up cost. For odd moduli below {@code 2^63} it runs
+ *       entirely on {@code long}s without allocating.</li>
+ *   <li>Moduli must be positive, as with {@link BigInteger#mod(BigInteger)};
+ *       {@link #modulo(Decimal, Decimal)} additionally accepts negative
+ *       divisors with floor-division semantics, matching
+ *       {@link Decimal#mod(Decimal, java.math.MathContext)}.</li>
+ * </ul>
+ *
+ * <p>This class cannot be instantiated.</p>
+ */
+public class ModularArithmetic {
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 *
+	 * @throws AssertionError always, since this class is not meant to be instantiated
+	 */
+	private ModularArithmetic() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * Returns {@code dividend - divisor × floor(dividend / divisor)}, the
+	 * remainder of floor division, which has the sign of {@code divisor}.
+	 *
+	 * @param dividend the integer dividend
+	 * @param divisor  the integer divisor
+	 * @return the exact floor remainder
+	 * @throws IllegalArgumentException if either operand is not an integer
+	 * @throws ArithmeticException      if {@code divisor} is zero
+	 */
+	public static Decimal modulo(Decimal dividend, Decimal divisor) {
+		Decimals.requireInteger(dividend);
+		Decimals.requireInteger(divisor);
+		if (isLong(dividend) && isLong(divisor)) {
+			if (divisor.signum() == 0)
+				throw new ArithmeticException("Division by zero");
+			return Decimal.valueOf(Math.floorMod(dividend.compactUnscaledValue(), divisor.compactUnscaledValue()));
+		}
+		BigInteger m = divisor.toBigInteger();
+		if (m.signum() == 0)
+			throw new ArithmeticException("Division by zero");
+		BigInteger remainder = dividend.toBigInteger().remainder(m);
+		if (remainder.signum() != 0 && remainder.signum() != m.signum())
+			remainder = remainder.add(m);
+		return new Decimal(remainder);
+	}
+
+	/**
+	 * Returns {@code (first × second) mod modulus}.
+	 *
+	 * @param first   the first integer factor
+	 * @param second  the second integer factor
+	 * @param modulus the positive integer modulus
+	 * @return the product reduced into {@code [0, modulus)}
+	 * @throws IllegalArgumentException if any operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive
+	 */
+	public static Decimal modMultiply(Decimal first, Decimal second, Decimal modulus) {
+		requireModulus(modulus);
+		Decimals.requireInteger(first);
+		Decimals.requireInteger(second);
+		if (isLong(first) && isLong(second) && isLong(modulus)) {
+			long m = modulus.compactUnscaledValue();
+			long a = Math.floorMod(first.compactUnscaledValue(), m);
+			long b = Math.floorMod(second.compactUnscaledValue(), m);
+			if (Math.multiplyHigh(a, b) == 0 && a * b >= 0)
+				return Decimal.valueOf(a * b % m);
+		}
+		BigInteger m = modulus.toBigInteger();
+		return new Decimal(first.toBigInteger().multiply(second.toBigInteger()).mod(m));
+	}
+
+	/**
+	 * Returns {@code base^exponent mod modulus}.
+	 *
+	 * <p>A negative exponent raises the modular inverse of {@code base}.
+	 * Odd moduli below {@code 2^63} are handled by a {@link Montgomery}
+	 * context; other moduli by {@link BigInteger#modPow(BigInteger, BigInteger)}.</p>
+	 *
+	 * @param base     the integer base
+	 * @param exponent the integer exponent
+	 * @param modulus  the positive integer modulus
+	 * @return the power reduced into {@code [0, modulus)}
+	 * @throws IllegalArgumentException if any operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive, or
+	 *                                  {@code exponent} is negative and
+	 *                                  {@code base} is not invertible
+	 */
+	public static Decimal modPow(Decimal base, Decimal exponent, Decimal modulus) {
+		return new Montgomery(modulus).modPow(base, exponent);
+	}
+
+	/**
+	 * Returns {@code value^-1 mod modulus}.
+	 *
+	 * @param value   the integer to invert
+	 * @param modulus the positive integer modulus
+	 * @return the inverse in {@code [0, modulus)}
+	 * @throws IllegalArgumentException if either operand is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive or
+	 *                                  {@code value} is not invertible
+	 */
+	public static Decimal modInverse(Decimal value, Decimal modulus) {
+		requireModulus(modulus);
+		Decimals.requireInteger(value);
+		if (isLong(value) && isLong(modulus)) {
+			long m = modulus.compactUnscaledValue();
+			return Decimal.valueOf(inverse(Math.floorMod(value.compactUnscaledValue(), m), m));
+		}
+		return new Decimal(value.toBigInteger().modInverse(modulus.toBigInteger()));
+	}
+
+	/**
+	 * Returns {@code true} if {@code value} is an integer held as a
+	 * compact {@code long} with scale 0.
+	 *
+	 * @param value an integer value
+	 * @return {@code true} if {@link Decimal#compactUnscaledValue()} is its value
+	 */
+	private static boolean isLong(Decimal value) {
+		return value.isCompact() && value.scale() == 0;
+	}
+
+	/**
+	 * Ensures {@code modulus} is a positive integer.
+	 *
+	 * @param modulus the modulus to check
+	 * @throws IllegalArgumentException if {@code modulus} is not an integer
+	 * @throws ArithmeticException      if {@code modulus} is not positive
+	 */
+	private static void requireModulus(Decimal modulus) {
+		Decimals.requireInteger(modulus);
+		if (modulus.signum() <= 0)
+			throw new ArithmeticException("modulus not positive: " + modulus);
+	}
+
+	/**
+	 * Inverts {@code value} modulo {@code modulus} with the extended Euclidean
+	 * algorithm on {@code long}s.
+	 *
+	 * @param value   a value in {@code [0, modulus)}
+	 * @param modulus the positive modulus
+	 * @return the inverse in {@code [0, modulus)}
+	 * @throws ArithmeticException if {@code value} is not invertible
+	 */
+	private static long inverse(long value, long modulus) {
+		if (modulus == 1)
+			return 0;
+		long r0 = modulus, r1 = value;
+		long t0 = 0, t1 = 1; // |t| stays below modulus
+		while (r1 != 0) {
+			long q = r0 / r1;
+			long r = r0 - q * r1;
+			r0 = r1;
+			r1 = r;
+			long t = t0 - q * t1;
+			t0 = t1;
+			t1 = t;
+		}
+		if (r0 != 1)
+			throw new ArithmeticException("not invertible: " + value + " mod " + modulus);
+		return t0 < 0 ? t0 + modulus : t0;
+	}
+
+	/**
+	 * Modular arithmetic context for a fixed modulus, using Montgomery
+	 * multiplication.
+	 *
+	 * <p>Creating a context validates the modulus and precomputes the
+	 * Montgomery constants once; {@link #modPow(Decimal, Decimal)},
+	 * {@link #modPow(Decimal[], Decimal)} and
+	 * {@link #modMultiply(Decimal, Decimal)} then reuse them. The batch
+	 * overload also decomposes the shared exponent into its windows once for
+	 * all bases.</p>
+	 *
+	 * <p><strong>Developer note:</strong> For an odd modulus {@code m < 2^63}
+	 * values are kept as {@code a·2^64 mod m} in a {@code long}, and a
+	 * product is reduced with one 64×64→128-bit multiplication and no
+	 * division (REDC), so the exponentiation loop does not allocate. Even or larger
+	 * moduli fall back to {@link BigInteger#modPow(BigInteger, BigInteger)},
+	 * which uses Montgomery multiplication internally for odd moduli.
+	 * Instances are immutable and thread-safe.</p>
+	 */
+	public static final class Montgomery {
+
+		/**
+		 * The modulus.
+		 */
+		private final Decimal modulus;
+
+		/**
+		 * The modulus as a {@code BigInteger}, for the general path.
+		 */
+		private final BigInteger bigModulus;
+
+		/**
+		 * The modulus as a {@code long}, or {@code 0} if the
+		 * {@code long} Montgomery path does not apply.
+		 */
+		private final long m;
+
+		/**
+		 * {@code -m^-1 mod 2^64}.
+		 */
+		private final long negativeInverse;
+
+		/**
+		 * {@code 2^128 mod m}, used to convert into Montgomery form.
+		 */
+		private final long rSquared;
+
+		/**
+		 * Creates a context for the given modulus.
+		 *
+		 * @param modulus the positive integer modulus
+		 * @throws IllegalArgumentException if {@code modulus} is not an integer
+		 * @throws ArithmeticException      if {@code modulus} is not positive
+		 */
+		public Montgomery(Decimal modulus) {
+			requireModulus(modulus);
+			this.modulus = modulus;
+			this.bigModulus = modulus.toBigInteger();
+			if (isLong(modulus) && (modulus.compactUnscaledValue() & 1) == 1 && modulus.compactUnscaledValue() > 1) {
+				m = modulus.compactUnscaledValue();
+				long inverse = m; // correct to 3 bits, each Newton step doubles that
+				for (int i = 0; i < 5; i++)
+					inverse *= 2 - m * inverse;
+				negativeInverse = -inverse;
+				long r = Long.remainderUnsigned(-m, m); // 2^64 mod m
+				for (int i = 0; i < Long.SIZE; i++) {
+					r <<= 1; // r < m < 2^63, so this does not overflow as unsigned
+					if (Long.compareUnsigned(r, m) >= 0)
+						r -= m;
+				}
+				rSquared = r;
+			} else {
+				m = 0;
+				negativeInverse = 0;
+				rSquared = 0;
+			}
+		}
+
+		/**
+		 * Returns the modulus of this context.
+		 *
+		 * @return the modulus
+		 */
+		public Decimal modulus() {
+			return modulus;
+		}
+
+		/**
+		 * Returns {@code (first × second) mod modulus}.
+		 *
+		 * @param first  the first integer factor
+		 * @param second the second integer factor
+		 * @return the product reduced into {@code [0, modulus)}
+		 * @throws IllegalArgumentException if either factor is not an integer
+		 */
+		public Decimal modMultiply(Decimal first, Decimal second) {
+			if (m == 0)
+				return ModularArithmetic.modMultiply(first, second, modulus);
+			long a = toMontgomery(reduce(first));
+			long b = reduce(second);
+			return Decimal.valueOf(multiply(a, b)); // (aR)·b·R^-1 = ab
+		}
+
+		/**
+		 * Returns {@code base^exponent mod modulus}.
+		 *
+		 * @param base     the integer base
+		 * @param exponent the integer exponent; if negative, the inverse of
+		 *                 {@code base} is raised to {@code -exponent}
+		 * @return the power reduced into {@code [0, modulus)}
+		 * @throws IllegalArgumentException if either operand is not an integer
+		 * @throws ArithmeticException      if {@code exponent} is negative and
+		 *                                  {@code base} is not invertible
+		 */
+		public Decimal modPow(Decimal base, Decimal exponent) {
+			return modPow(new Decimal[] {base}, exponent)[0];
+		}
+
+		/**
+		 * Returns {@code bases[i]^exponent mod modulus} for every base, sharing
+		 * the exponent's window decomposition across the batch.
+		 *
+		 * @param bases    the integer bases
+		 * @param exponent the integer exponent; if negative, the inverses of
+		 *                 the bases are raised to {@code -exponent}
+		 * @return the powers, in the order of {@code bases}
+		 * @throws IllegalArgumentException if any operand is not an integer
+		 * @throws ArithmeticException      if {@code exponent} is negative and
+		 *                                  a base is not invertible
+		 */
+		public Decimal[] modPow(Decimal[] bases, Decimal exponent) {
+			BigInteger e = Decimals.requireInteger(exponent).toBigInteger();
+			Decimal[] powers = new Decimal[bases.length];
+			if (m == 0) {
+				for (int i = 0; i < bases.length; i++)
+					powers[i] = new Decimal(Decimals.requireInteger(bases[i]).toBigInteger().modPow(e, bigModulus));
+				return powers;
+			}
+
+			BigInteger magnitude = e.abs();
+			int window = SlidingWindow.windowSize(magnitude.bitLength());
+			int[] schedule = SlidingWindow.schedule(magnitude, window);
+
+			long one = toMontgomery(1);
+			long[] oddPowers = new long[1 << (window - 1)];
+			for (int i = 0; i < bases.length; i++) {
+				long base = reduce(bases[i]);
+				if (e.signum() < 0)
+					base = inverse(base, m);
+				powers[i] = Decimal.valueOf(fromMontgomery(power(toMontgomery(base), schedule, oddPowers, one)));
+			}
+			return powers;
+		}
+
+		/**
+		 * Raises a value in Montgomery form to the power described by
+		 * {@code schedule}.
+		 *
+		 * @param base      the base in Montgomery form
+		 * @param schedule  the window decomposition of the exponent, as
+		 *                  returned by {@link SlidingWindow#schedule(BigInteger, int)}
+		 * @param oddPowers scratch space for the odd powers of {@code base}
+		 * @param one       {@code 1} in Montgomery form
+		 * @return the power in Montgomery form
+		 */
+		private long power(long base, int[] schedule, long[] oddPowers, long one) {
+			oddPowers[0] = base;
+			if (oddPowers.length > 1) {
+				long square = multiply(base, base);
+				for (int i = 1; i < oddPowers.length; i++)
+					oddPowers[i] = multiply(oddPowers[i - 1], square);
+			}
+			long result = one;
+			int last = schedule.length - 1;
+			for (int i = 0; i < last; i += 2) {
+				for (int s = 0; s < schedule[i]; s++)
+					result = multiply(result, result);
+				result = multiply(result, oddPowers[schedule[i + 1] >> 1]);
+			}
+			for (int s = 0; s < schedule[last]; s++)
+				result = multiply(result, result);
+			return result;
+		}
+
+		/**
+		 * Reduces an integer into {@code [0, m)}.
+		 *
+		 * @param value the integer to reduce
+		 * @return {@code value mod m}
+		 * @throws IllegalArgumentException if {@code value} is not an integer
+		 */
+		private long reduce(Decimal value) {
+			Decimals.requireInteger(value);
+			if (isLong(value))
+				return Math.floorMod(value.compactUnscaledValue(), m);
+			return value.toBigInteger().mod(bigModulus).longValue();
+		}
+
+		/**
+		 * Montgomery product {@code a·b·2^-64 mod m}.
+		 *
+		 * @param a a value in {@code [0, m)}
+		 * @param b a value in {@code [0, m)}
+		 * @return the reduced product in {@code [0, m)}
+		 */
+		private long multiply(long a, long b) {
+			return redc(Math.unsignedMultiplyHigh(a, b), a * b);
+		}
+
+		/**
+		 * Montgomery reduction of {@code high·2^64 + low < m·2^64}.
+		 *
+		 * @param high the high 64 bits
+		 * @param low  the low 64 bits
+		 * @return {@code (high·2^64 + low)·2^-64 mod m}
+		 */
+		private long redc(long high, long low) {
+			long u = low * negativeInverse;
+			// low + u·m ≡ 0 (mod 2^64), so its low word carries exactly when low != 0
+			long t = high + Math.unsignedMultiplyHigh(u, m) + (low != 0 ? 1 : 0);
+			return Long.compareUnsigned(t, m) >= 0 ? t - m : t;
+		}
+
+		/**
+		 * Converts a value in {@code [0, m)} into Montgomery form.
+		 *
+		 * @param value the value
+		 * @return {@code value·2^64 mod m}
+		 */
+		private long toMontgomery(long value) {
+			return multiply(value, rSquared);
+		}
+
+		/**
+		 * Converts a value out of Montgomery form.
+		 *
+		 * @param value the value in Montgomery form
+		 * @return {@code value·2^-64 mod m}
+		 */
+		private long fromMontgomery(long value) {
+			return redc(0, value);
+		}
+	}
+
+}
@@ -4,13 +4,14 @@ import static decimal.Decimal.ONE;
 import static decimal.Decimal.TWO;
 import static decimal.Decimal.ZERO;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
-import java.util.function.BiFunction;
+import java.math.RoundingMode;
 
 import decimal.Decimal;
-import decimal.Decimal.BoundType;
-import decimal.helpers.FactorialSupplier;
+import decimal.helpers.ConstantCache;
+import decimal.helpers.SlidingWindow;
 import decimal.helpers.Summation;
 
 /**
@@ -20,10 +21,13 @@ import decimal.helpers.Summation;
  * This class implements various forms of exponentiation for the
  * {@link decimal.Decimal} type, including:
  * <ul>
- *   <li>Integer exponentiation using fast exponentiation (square-and-multiply)</li>
+ *   <li>Integer exponentiation using sliding-window exponentiation over the
+ *       bits of the exponent, carried at guard-digit precision</li>
  *   <li>Real exponentiation via {@code exp} and {@code ln} functions,
- *       implemented with Taylor series and atanh-based logarithm expansion</li>
- *   <li>Range reduction techniques using {@code ln(2)} for stability</li>
+ *       implemented with an argument-reduced Taylor series and Newton's
+ *       method on {@code exp} respectively</li>
+ *   <li>Range reduction techniques using {@code ln(2)} and repeated
+ *       squaring for stability</li>
  * </ul>
  * </p>
  *
@@ -44,8 +48,8 @@ import decimal.helpers.Summation;
  *
  * @implNote
  * Internal helper methods such as {@code exp}, {@code ln}, and {@code ln2}
- * are not currently exposed and may be refactored into their own utility
- * classes in the future.
+ * are not currently exposed outside this package and may be refactored into
+ * their own utility classes in the future.
  *
  * @see decimal.Decimal
  * @see java.math.MathContext
@@ -66,97 +70,253 @@ public class Exponentiation {
 	}
 
 	/**
-	 * Computes {@code base^exponent} where the exponent is an integer.
+	 * Computes {@code base^exponent} for an integer exponent.
+	 *
+	 * @param base     the {@link Decimal} base
+	 * @param exponent the exponent
+	 * @param context  the {@link MathContext} specifying precision and rounding
+	 * @return {@code base^exponent}, rounded according to {@code context}
+	 * @throws ArithmeticException if {@code base} is zero and {@code exponent}
+	 *                             is negative, or the result overflows the scale
+	 * @see #integerPower(Decimal, BigInteger, MathContext)
+	 */
+	public static Decimal integerPower(Decimal base, long exponent, MathContext context) {
+		return integerPower(base, BigInteger.valueOf(exponent), context);
+	}
+
+	/**
+	 * Computes {@code base^exponent} for an integer exponent of any size.
 	 * <p>
-	 * This method uses two strategies depending on the size of the exponent:
-	 * <ul>
-	 *   <li>If the exponent is within {@link Decimal#INTEGER_MAX_VALUE}, it delegates
-	 *       to {@link java.math.BigDecimal#pow(int, MathContext)} for efficiency.</li>
-	 *   <li>If the exponent exceeds that range, it falls back to an iterative
-	 *       square-and-multiply algorithm using bit-shifting and odd/even checks.</li>
-	 * </ul>
+	 * The exponent is consumed as a bit pattern with left-to-right
+	 * sliding-window exponentiation: the odd powers
+	 * {@code base^1, base^3, ..., base^(2^k - 1)} are precomputed, and each
+	 * window of up to {@code k} bits ending in a set bit costs one
+	 * multiplication, on top of one squaring per bit. The window size grows
+	 * with the bit length of the exponent (see {@link SlidingWindow}).
 	 * </p>
 	 *
 	 * <p>
-	 * This method is marked private and is not exposed publicly. It is intended
-	 * as a helper for higher-level exponentiation routines.
+	 * Every intermediate product is rounded to a working precision of
+	 * {@code precision + digits(|exponent|) + GUARD_DIGITS}, not to
+	 * {@code context}. Squaring doubles the relative error already present,
+	 * so the rounding errors grow to roughly {@code |exponent|} units in the
+	 * last working digit; the extra {@code digits(|exponent|)} digits absorb
+	 * that growth and the result is rounded to {@code context} only once. A
+	 * negative exponent is handled by taking the reciprocal of the working
+	 * result, again with a single final rounding.
 	 * </p>
 	 *
-	 * @param base the {@link Decimal} base
-	 * @param exponent the exponent, required to be an integer value
-	 * @param context the {@link MathContext} specifying precision and rounding
-	 * @return the result of raising {@code base} to the given {@code exponent}
-	 * @throws ArithmeticException if {@code exponent} is negative or non-integral
-	 *                             (behavior undefined for non-integer inputs)
+	 * <p>
+	 * {@code 0}, {@code 1} and {@code -1} are answered directly for any
+	 * exponent, and {@code base^0} is {@code 1} (including {@code 0^0}). With
+	 * {@link MathContext#UNLIMITED} the power is exact.
+	 * </p>
+	 *
+	 * @param base     the {@link Decimal} base
+	 * @param exponent the exponent
+	 * @param context  the {@link MathContext} specifying precision and rounding
+	 * @return {@code base^exponent}, rounded according to {@code context}
+	 * @throws ArithmeticException if {@code base} is zero and {@code exponent}
+	 *                             is negative, or the result overflows the scale
 	 */
-	private static Decimal integerExponentiation(Decimal base, Decimal exponent, MathContext context) {
-		if (exponent.lessThanOrEqualTo(Decimal.INTEGER_MAX_VALUE)) {
-			return new Decimal(base.toBigDecimal().pow(exponent.toInt(), context));
-		} else {
-			Decimal result = ONE;
-			while (exponent.greaterThan(ZERO)) {
-				if (exponent.isOdd())
-					result = result.multiply(base, context);
-				base = base.multiply(base, context);
-				exponent = exponent.shiftRight(1);
-			}
-			return result;
+	public static Decimal integerPower(Decimal base, BigInteger exponent, MathContext context) {
+		int sign = exponent.signum();
+		if (sign == 0)
+			return ONE;
+		if (base.signum() == 0) {
+			if (sign < 0)
+				throw new ArithmeticException("Division by zero: 0^" + exponent);
+			return ZERO;
 		}
+		if (base.abs().equals(ONE))
+			return base.signum() > 0 || !exponent.testBit(0) ? ONE : ONE.negate();
+
+		BigInteger magnitude = exponent.abs();
+		MathContext working = context.getPrecision() == 0 ? MathContext.UNLIMITED
+				: new MathContext(context.getPrecision() + decimalDigits(magnitude) + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+		BigDecimal power = slidingWindowPower(base.toBigDecimal(), magnitude, working);
+		if (sign < 0)
+			return new Decimal(BigDecimal.ONE.divide(power, context));
+		return new Decimal(power.round(context));
+	}
+
+	/**
+	 * Raises {@code base} to a positive power by left-to-right sliding-window
+	 * exponentiation, rounding every product to {@code working}.
+	 *
+	 * @param base     the base
+	 * @param exponent the positive exponent
+	 * @param working  the working {@link MathContext}
+	 * @return {@code base^exponent}, carried at the working precision
+	 */
+	private static BigDecimal slidingWindowPower(BigDecimal base, BigInteger exponent, MathContext working) {
+		int window = SlidingWindow.windowSize(exponent.bitLength());
+		int[] schedule = SlidingWindow.schedule(exponent, window);
+
+		BigDecimal[] oddPowers = new BigDecimal[1 << (window - 1)]; // base^(2i + 1)
+		oddPowers[0] = base.round(working);
+		if (oddPowers.length > 1) {
+			BigDecimal square = oddPowers[0].multiply(oddPowers[0], working);
+			for (int i = 1; i < oddPowers.length; i++)
+				oddPowers[i] = oddPowers[i - 1].multiply(square, working);
+		}
+
+		BigDecimal result = oddPowers[schedule[1] >> 1]; // the exponent is positive; skip squaring 1
+		int last = schedule.length - 1;
+		for (int i = 2; i < last; i += 2) {
+			for (int s = 0; s < schedule[i]; s++)
+				result = result.multiply(result, working);
+			result = result.multiply(oddPowers[schedule[i + 1] >> 1], working);
+		}
+		for (int s = 0; s < schedule[last]; s++)
+			result = result.multiply(result, working);
+		return result;
+	}
+
+	/**
+	 * Returns the number of decimal digits of a non-negative integer, or an
+	 * upper bound exceeding it by at most one.
+	 *
+	 * @param value the value
+	 * @return about {@code floor(log10(value)) + 1}
+	 */
+	private static int decimalDigits(BigInteger value) {
+		return (int) (value.bitLength() * LOG10_2) + 1;
 	}
 
+	/**
+	 * Number of extra digits carried beyond the requested precision before
+	 * the final rounding. Shared with {@link Trigonometry} and
+	 * {@link Hyperbolic}, whose functions are built on {@code exp} and
+	 * {@code ln}.
+	 */
+	static final int GUARD_DIGITS = 10;
+
+	/**
+	 * {@code log10(2)}, used to convert between binary and decimal digit counts.
+	 */
+	private static final double LOG10_2 = Math.log10(2);
+
+	/**
+	 * {@code log10(e)}, used to estimate the decimal exponent of {@code e^x}.
+	 */
+	private static final double LOG10_E = Math.log10(Math.E);
+
+	/**
+	 * Largest exponent magnitude accepted by
+	 * {@link BigDecimal#pow(int, MathContext)}.
+	 */
+	private static final int MAX_POW_EXPONENT = 999_999_999;
+
+	/**
+	 * Precision (in digits) below which {@code ln} stops halving its Newton
+	 * precision and seeds from a {@code double} estimate instead.
+	 */
+	private static final int DOUBLE_PRECISION = 15;
+
 	/**
 	 * Computes the exponential function {@code e^exponent} for a {@link Decimal} value.
 	 * <p>
-	 * The implementation uses range reduction with {@code ln(2)} to keep the
-	 * argument within a numerically stable interval. Specifically:
+	 * The argument is reduced twice before the Taylor series is evaluated:
 	 * <ul>
-	 *   <li>If {@code exponent} is larger than {@code ln(2)/2}, the method
-	 *       reduces it via {@code exponent = k * ln(2) + r} and computes
-	 *       {@code 2^k * e^r} recursively.</li>
-	 *   <li>For small arguments, it evaluates the Taylor series expansion
-	 *       of {@code e^x} around 0 using a factorial supplier and summation.</li>
+	 *   <li>{@code exponent = k * ln(2) + r} with {@code |r| <= ln(2)/2}, so that
+	 *       {@code e^exponent = 2^k * e^r};</li>
+	 *   <li>{@code e^r = (e^(r / 2^s))^(2^s)}, where {@code s} is about
+	 *       {@code sqrt(precision)}, so that the series only needs a handful of
+	 *       terms and the result is recovered by {@code s} squarings.</li>
 	 * </ul>
-	 * </p>
-	 *
-	 * <p>
-	 * This method is currently private and not part of the public API. It may
-	 * be moved to a dedicated utility class in the future.
+	 * The series is summed through {@link Summation#ofRecurrence}, carrying
+	 * its running term, so each term costs one multiplication and one
+	 * division by a small integer. Guard digits cover
+	 * both the reduction (which needs as many extra digits as {@code exponent}
+	 * has integer digits) and the error amplification of the squarings.
 	 * </p>
 	 *
 	 * @param exponent the {@link Decimal} exponent to raise {@code e} to
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the value of {@code e^exponent}
-	 * @implNote
-	 *   The series evaluation is done via a {@code Summation} object and
-	 *   {@code FactorialSupplier}, both of which generate the Taylor expansion
-	 *   terms on demand. The method relies on {@link #integerExponentiation(Decimal, Decimal, MathContext)}
-	 *   for efficient power computation of the reduced terms.
+	 * @throws ArithmeticException if {@code context} has unlimited precision or
+	 *                             the result is out of the representable range
 	 */
-	private static Decimal exp(Decimal exponent, MathContext context) {
-		Decimal ln2 = ln2(context);
+	static Decimal exp(Decimal exponent, MathContext context) {
+		if (exponent.signum() == 0)
+			return ONE;
+		requireLimited(context);
 
-		if (exponent.greaterThan(ln2.divide(TWO, context))) {
-			Decimal k = exponent.divide(ln2, context).round();
-			Decimal r = exponent.subtract(k.multiply(ln2, context), context);
-			return integerExponentiation(TWO, k, context).multiply(exp(r, context), context);
+		int squarings = (int) Math.ceil(Math.sqrt(context.getPrecision() / LOG10_2));
+		MathContext working = new MathContext(
+				context.getPrecision() + GUARD_DIGITS + (int) Math.ceil(squarings * LOG10_2),
+				RoundingMode.HALF_EVEN);
+		// e^x = 10^(x·log10(e)), whose decimal exponent must leave room for a representable scale
+		double decimalExponent = exponent.toBigDecimal().doubleValue() * LOG10_E;
+		if (Math.abs(decimalExponent) > Integer.MAX_VALUE - (double) working.getPrecision())
+			throw new ArithmeticException(String.format("exp(%s) %s the representable range",
+					exponent.toBigDecimal(), decimalExponent > 0 ? "overflows" : "underflows"));
+		MathContext reduction = new MathContext(
+				working.getPrecision() + Math.max(0, integerDigits(exponent)),
+				RoundingMode.HALF_EVEN);
+
+		Decimal ln2 = ln2(reduction);
+		long k = exponent.divide(ln2, MathContext.DECIMAL64).round().toLong();
+		Decimal reduced = exponent.subtract(Decimal.valueOf(k).multiply(ln2, reduction), reduction)
+				.divide(new Decimal(BigInteger.ONE.shiftLeft(squarings)), working);
+
+		Decimal sum = Summation.ofRecurrence(ONE, (term, n, c) -> term.multiply(reduced, c).divide(Decimal.valueOf(n), c))
+				.sumInfinite(0, working);
+		for (int i = 0; i < squarings; i++)
+			sum = sum.multiply(sum, working);
+
+		BigDecimal scaled = sum.toBigDecimal();
+		for (long remaining = k; remaining != 0; ) { // 2^k in steps that BigDecimal.pow accepts
+			int step = (int) Math.max(-MAX_POW_EXPONENT, Math.min(MAX_POW_EXPONENT, remaining));
+			scaled = scaled.multiply(BigDecimal.TWO.pow(step, working), working);
+			remaining -= step;
 		}
+		return new Decimal(scaled.round(context));
+	}
 
-		FactorialSupplier nFactorial = new FactorialSupplier(0);
-		Summation powerSeries =
-				new Summation(n -> integerExponentiation(exponent, n, context).divide(nFactorial.nextPre(), context));
-		return powerSeries.sumInfinite(0, context); // currently implemented via Taylor series
+	/**
+	 * Constant {@code 3}: {@code ln(2) = 2·atanh(1/3)}.
+	 */
+	private static final BigInteger THREE = BigInteger.valueOf(3);
+
+	/**
+	 * Precision-keyed cache of {@code ln(2)}, used by {@link #ln2(MathContext)}.
+	 */
+	private static final ConstantCache LN2 = new ConstantCache(Exponentiation::ln2Series);
+
+	/**
+	 * Returns the natural logarithm of 2 ({@code ln(2)}) from a
+	 * precision-keyed {@link ConstantCache}.
+	 *
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the value of {@code ln(2)} to the given precision
+	 */
+	private static Decimal ln2(MathContext context) {
+		return LN2.get(context);
+	}
+
+	/**
+	 * Returns the cache backing {@code ln(2)}, e.g. to inspect its hit and
+	 * miss counters.
+	 *
+	 * @return the {@code ln(2)} cache
+	 */
+	public static ConstantCache ln2Cache() {
+		return LN2;
 	}
 
 	/**
 	 * Computes the natural logarithm of 2 ({@code ln(2)}).
 	 * <p>
-	 * The implementation uses an infinite series expansion based on
-	 * the Gregory–Leibniz / arctanh-derived identity:
+	 * The implementation uses the arctanh-derived identity
 	 * <pre>
-	 *   ln(2) = Σ ( 2 / [ (2k + 1) * 3 * 9^k ] ),  for k = 0, 1, 2, ...
+	 *   ln(2) = 2 · atanh(1/3) = Σ ( 2 / [ (2k + 1) * 3 * 9^k ] ),  for k = 0, 1, 2, ...
 	 * </pre>
-	 * This series is evaluated using a {@link Summation} object, with each term
-	 * generated by {@link #integerExponentiation(Decimal, Decimal, MathContext)}.
+	 * summed in fixed point (scaled by {@code 10^digits}) by
+	 * {@link Hyperbolic#atanhOfReciprocal(BigInteger, int)}, so each term costs
+	 * two single-word divisions. The truncation error of each term is covered
+	 * by the guard digits.
 	 * </p>
 	 *
 	 * <p>
@@ -167,86 +327,144 @@ public class Exponentiation {
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the value of {@code ln(2)} to the given precision
 	 */
-	private static Decimal _3 = new Decimal(3);
-	private static Decimal _9 = new Decimal(9);
-	private static Decimal ln2(MathContext context) {
-		return new Summation(
-				k -> TWO.divide(
-						_3.multiply(
-								TWO.multiply(k, context).add(ONE, context),
-								context
-								).multiply(
-										integerExponentiation(_9, k, context),
-										context
-										),
-						context
-						)
-				).sumInfinite(0, context);
+	private static Decimal ln2Series(MathContext context) {
+		requireLimited(context);
+		int digits = context.getPrecision() + GUARD_DIGITS;
+		BigInteger sum = Hyperbolic.atanhOfReciprocal(THREE, digits).shiftLeft(1);
+		return new Decimal(new BigDecimal(sum, digits).round(context));
 	}
 
 	/**
 	 * Computes the natural logarithm ({@code ln(x)}) of a {@link Decimal} value.
 	 * <p>
-	 * The implementation first applies range reduction to bring the argument
-	 * {@code antiLogarithm} into the interval [1, 2), adjusting by powers of 2
-	 * and tracking the exponent {@code k}. The identity
+	 * The argument is first reduced to {@code x = 2^k * m} with {@code m} in
+	 * about {@code [0.7, 1.4]}, using a {@code double} estimate of
+	 * {@code log2(x)}. The identity
 	 * <pre>
-	 *   ln(x) = k * ln(2) + ln(reducedValue)
+	 *   ln(x) = k * ln(2) + ln(m)
 	 * </pre>
 	 * is then used to reconstruct the result.
 	 * </p>
 	 *
 	 * <p>
-	 * For values in [1, 2), the function evaluates
+	 * {@code ln(m)} is the root {@code y} of {@code e^y = m}, found by Newton's
+	 * method
 	 * <pre>
-	 *   ln(x) = 2 * atanh( (x - 1) / (x + 1) )
+	 *   y' = y + m * e^(-y) - 1
 	 * </pre>
-	 * where the {@code atanh} series expansion is computed as
-	 * <pre>
-	 *   atanh(t) = Σ ( t^(2j+1) / (2j+1) ),  for j = 0, 1, 2, ...
-	 * </pre>
-	 * using a {@link Summation} helper. Internally, powers are computed via
-	 * {@link #integerExponentiation(Decimal, Decimal, MathContext)}.
-	 * </p>
-	 *
-	 * <p>
-	 * This method is private and not part of the public API. It may be moved
-	 * into a dedicated logarithm utility class in the future.
+	 * seeded with {@link Math#log(double)}. Since each step doubles the number
+	 * of correct digits, the steps run at increasing precision (roughly
+	 * doubling from twice the {@value #DOUBLE_PRECISION} digits of the seed
+	 * up to the target), so
+	 * the total cost is about two {@code exp} evaluations at full precision.
+	 * When {@code m} is close to {@code 1}, the target precision is raised by
+	 * the number of leading zeros of {@code m - 1} to keep the relative
+	 * accuracy of the small result.
 	 * </p>
 	 *
 	 * @param antiLogarithm the argument {@code x}, required to be positive
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the natural logarithm of {@code antiLogarithm}
-	 * @throws ArithmeticException if {@code antiLogarithm} is non-positive
+	 * @throws ArithmeticException if {@code antiLogarithm} is non-positive or
+	 *                             {@code context} has unlimited precision
 	 */
-	private static Decimal ln(Decimal antiLogarithm, MathContext context) {
-		long k = 0;
-		while (!antiLogarithm.inInterval(ONE, TWO, BoundType.INCLUSIVE, BoundType.EXCLUSIVE)) {
-			if (antiLogarithm.lessThan(ONE)) {
-				antiLogarithm = antiLogarithm.multiply(TWO, context);
-				k--;
-			} else if (antiLogarithm.greaterThanOrEqualTo(TWO)) {
-				antiLogarithm = antiLogarithm.divide(TWO, context);
-				k++;
-			}
-		}
+	static Decimal ln(Decimal antiLogarithm, MathContext context) {
+		if (antiLogarithm.signum() <= 0)
+			throw new ArithmeticException(String.format("ln is undefined for %s", antiLogarithm));
+		if (antiLogarithm.equals(ONE))
+			return ZERO;
+		requireLimited(context);
 
-		if (k != 0) {
-			return new Decimal(k)
-					.multiply(ln2(context), context)
-					.add(ln(antiLogarithm, context), context);
+		int precision = context.getPrecision() + GUARD_DIGITS;
+		long k = Math.round(log2(antiLogarithm.toBigDecimal()));
+		Decimal m = scaleByPowerOfTwo(antiLogarithm, -k, new MathContext(precision, RoundingMode.HALF_EVEN));
+
+		int leadingZeros = Math.max(0, -integerDigits(m.subtract(ONE, MathContext.UNLIMITED)));
+		if (leadingZeros > 0 && k != 0)
+			m = scaleByPowerOfTwo(antiLogarithm, -k, new MathContext(precision + leadingZeros, RoundingMode.HALF_EVEN));
+
+		Decimal y = new Decimal(Math.log(m.toDouble()));
+		for (int stepPrecision : newtonPrecisions(precision + leadingZeros)) {
+			MathContext step = new MathContext(stepPrecision, RoundingMode.HALF_EVEN);
+			y = y.add(m.multiply(exp(y.negate(), step), step).subtract(ONE, step), step);
 		}
 
-		Decimal t = antiLogarithm.subtract(ONE, context)
-				.divide(antiLogarithm.add(ONE, context), context);
+		if (k == 0)
+			return new Decimal(y.toBigDecimal().round(context));
+		MathContext reconstruction = new MathContext(precision + Long.toString(Math.abs(k)).length(), RoundingMode.HALF_EVEN);
+		return Decimal.valueOf(k).multiply(ln2(reconstruction), reconstruction).add(y, context);
+	}
 
-		Summation atanh = new Summation(j -> {
-			Decimal denominator = TWO.multiply(j, context).add(ONE, context);
-			return integerExponentiation(t, denominator, context)
-					.divide(denominator, context);
-		}); // atanh method could be extracted in the future
+	/**
+	 * Returns the precisions at which successive Newton steps should run to
+	 * reach {@code target} digits from a {@code double} seed, in ascending order.
+	 * The first step already runs at up to twice the seed's precision.
+	 *
+	 * @param target the final precision
+	 * @return the step precisions, ending with {@code target}
+	 */
+	private static int[] newtonPrecisions(int target) {
+		int steps = 1;
+		for (int p = target; p > 2 * DOUBLE_PRECISION - 2; p = p / 2 + 2)
+			steps++;
+		int[] precisions = new int[steps];
+		int p = target;
+		for (int i = steps - 1; i >= 0; i--, p = p / 2 + 2)
+			precisions[i] = p;
+		return precisions;
+	}
+
+	/**
+	 * Returns {@code value * 2^power}, rounded to {@code context}.
+	 *
+	 * @param value   the value to scale
+	 * @param power   the power of two to scale by (may be negative)
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the scaled value
+	 */
+	private static Decimal scaleByPowerOfTwo(Decimal value, long power, MathContext context) {
+		if (power == 0) return value;
+		return new Decimal(value.toBigDecimal().multiply(BigDecimal.TWO.pow(Math.toIntExact(power), context), context));
+	}
+
+	/**
+	 * Returns a {@code double} estimate of {@code log2(value)} for a positive
+	 * value, valid even when the value itself is outside the {@code double} range.
+	 *
+	 * @param value the positive value
+	 * @return an estimate of its base-2 logarithm
+	 */
+	private static double log2(BigDecimal value) {
+		BigInteger unscaled = value.unscaledValue();
+		int excess = Math.max(0, unscaled.bitLength() - Long.SIZE);
+		double mantissa = Math.log(unscaled.shiftRight(excess).doubleValue()) / Math.log(2);
+		return mantissa + excess - value.scale() / LOG10_2;
+	}
+
+	/**
+	 * Returns the number of digits before the decimal point of {@code value},
+	 * i.e. {@code floor(log10|value|) + 1}. Values below {@code 1} give zero or
+	 * a negative number whose magnitude is the count of leading fractional zeros.
+	 *
+	 * @param value the value to inspect
+	 * @return the position of the leading digit relative to the decimal point
+	 */
+	private static int integerDigits(Decimal value) {
+		BigDecimal bigDecimal = value.toBigDecimal();
+		return bigDecimal.signum() == 0 ? 0 : bigDecimal.precision() - bigDecimal.scale();
+	}
 
-		return TWO.multiply(atanh.sumInfinite(0, context), context);
+	/**
+	 * Rejects {@link MathContext#UNLIMITED}, under which transcendental
+	 * results cannot be represented. Shared with {@link Trigonometry} and
+	 * {@link Hyperbolic}.
+	 *
+	 * @param context the context to check
+	 * @throws ArithmeticException if {@code context} has unlimited precision
+	 */
+	static void requireLimited(MathContext context) {
+		if (context.getPrecision() == 0)
+			throw new ArithmeticException("Non-terminating result; a limited MathContext is required");
 	}
 
 	/**
@@ -256,9 +474,9 @@ public class Exponentiation {
 	 * <ul>
 	 *   <li><b>Integer exponents</b>:
 	 *     <ul>
-	 *       <li>{@code exponent > 0} → computed by {@code integerExponentiation(base, exponent, context)}.</li>
+	 *       <li>{@code exponent > 0} → computed by {@link #integerPower(Decimal, BigInteger, MathContext)}.</li>
 	 *       <li>{@code exponent < 0} → reciprocal of the corresponding positive power.</li>
-	 *       <li>{@code exponent == 0} → handled directly by {@code integerExponentiation}, including the
+	 *       <li>{@code exponent == 0} → handled directly by {@code integerPower}, including the
 	 *           case {@code 0^0}, which is defined there to return {@code ONE}.</li>
 	 *     </ul>
 	 *   </li>
@@ -280,11 +498,12 @@ public class Exponentiation {
 	 * @return {@code base} raised to {@code exponent}, evaluated with the given precision
 	 */
 	public static Decimal exponentiation(Decimal base, Decimal exponent, MathContext context) {
-		if (exponent.isInteger()) {
-			if (exponent.greaterThan(ZERO)) return integerExponentiation(base, exponent, context);
-			return ONE.divide(integerExponentiation(base, exponent.negate(), context), context);
-		}
-		return exp(exponent.multiply(ln(base, context), context), context);
+		if (exponent.isInteger())
+			return integerPower(base, exponent.toBigInteger(), context);
+		MathContext working = new MathContext(
+				context.getPrecision() + GUARD_DIGITS + Math.max(0, integerDigits(exponent)),
+				RoundingMode.HALF_EVEN);
+		return exp(exponent.multiply(ln(base, working), working), context);
 	}
 
 }
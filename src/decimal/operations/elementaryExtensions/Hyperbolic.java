@@ -0,0 +1,375 @@
+package decimal.operations.elementaryExtensions;
+
+import static decimal.Decimal.HALF;
+import static decimal.Decimal.ONE;
+import static decimal.Decimal.TWO;
+import static decimal.Decimal.ZERO;
+import static decimal.operations.elementaryExtensions.Exponentiation.GUARD_DIGITS;
+import static decimal.operations.elementaryExtensions.Exponentiation.requireLimited;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import decimal.Decimal;
+import decimal.Decimal.BoundType;
+import decimal.helpers.Summation;
+
+/**
+ * Utility class providing hyperbolic functions for {@link decimal.Decimal}.
+ *
+ * <p>This class implements {@code sinh}, {@code cosh}, {@code tanh} and
+ * their inverses under arbitrary precision, controlled by a
+ * {@link java.math.MathContext}.</p>
+ *
+ * <h2>Design Notes</h2>
+ * <ul>
+ *   <li>All methods are {@code static}; this class cannot be instantiated.</li>
+ *   <li>The direct functions derive from a single
+ *       {@code exp} evaluation, except near zero, where {@code e^x − e^-x}
+ *       would cancel and a series with triple-angle reduction is used
+ *       instead.</li>
+ *   <li>The inverse functions are expressed through the {@code atanh}
+ *       kernel where their logarithmic forms would lose digits (arguments
+ *       near zero, or near one for {@code acosh}), and through {@code ln}
+ *       elsewhere.</li>
+ * </ul>
+ *
+ * @see Trigonometry
+ * @see Exponentiation
+ */
+public class Hyperbolic {
+
+	/**
+	 * Constant representing the value {@code 3}.
+	 */
+	private static final Decimal THREE = Decimal.valueOf(3);
+
+	/**
+	 * Constant representing the value {@code 4}.
+	 */
+	private static final Decimal FOUR = Decimal.valueOf(4);
+
+	/**
+	 * Magnitude below which {@code sinh} and {@code atanh} use their series
+	 * rather than {@code exp} or {@code ln}.
+	 */
+	private static final Decimal SERIES_BOUND = HALF;
+
+	/**
+	 * Private constructor to prevent instantiation of this utility class.
+	 *
+	 * @throws AssertionError always, since instantiation is not allowed
+	 */
+	private Hyperbolic() {
+		throw new AssertionError("No instances for you!");
+	}
+
+	/**
+	 * The hyperbolic sine and cosine of the same argument, as returned by
+	 * {@link Hyperbolic#sinhcosh(Decimal, MathContext)}.
+	 *
+	 * @param sinh the hyperbolic sine of the argument
+	 * @param cosh the hyperbolic cosine of the argument
+	 */
+	public static record SinhCosh(Decimal sinh, Decimal cosh) {}
+
+	/**
+	 * Computes the hyperbolic sine and cosine of {@code x} together.
+	 *
+	 * <p>For {@code |x| ≥ 1/2} both come from one {@code e = exp(|x|)}, as
+	 * {@code (e ∓ 1/e) / 2}. Closer to zero the sine comes from its series
+	 * and the cosine from {@code √(1 + sinh²)}, which does not cancel.</p>
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the hyperbolic sine and cosine of {@code x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision or
+	 *                             the result is out of the representable range
+	 */
+	public static SinhCosh sinhcosh(Decimal x, MathContext context) {
+		requireLimited(context);
+		MathContext working = working(context);
+		if (x.abs().lessThan(SERIES_BOUND)) {
+			Decimal sinh = Sinh.reduced(x, working);
+			Decimal cosh = ONE.add(sinh.multiply(sinh, working), working).sqrt(working);
+			return new SinhCosh(new Decimal(sinh.toBigDecimal().round(context)), new Decimal(cosh.toBigDecimal().round(context)));
+		}
+		Decimal exp = Exponentiation.exp(x.abs(), working);
+		Decimal reciprocal = exp.reciprocal(working);
+		Decimal sinh = exp.subtract(reciprocal, working).multiply(HALF, working);
+		return new SinhCosh(signed(sinh, x, context), exp.add(reciprocal, working).multiply(HALF, context));
+	}
+
+	/**
+	 * Computes the hyperbolic sine of {@code x}.
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the hyperbolic sine of {@code x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision or
+	 *                             the result is out of the representable range
+	 * @see #sinhcosh(Decimal, MathContext)
+	 */
+	public static Decimal sinh(Decimal x, MathContext context) {
+		requireLimited(context);
+		MathContext working = working(context);
+		if (x.abs().lessThan(SERIES_BOUND))
+			return new Decimal(Sinh.reduced(x, working).toBigDecimal().round(context));
+		Decimal exp = Exponentiation.exp(x.abs(), working);
+		Decimal sinh = exp.subtract(exp.reciprocal(working), working).multiply(HALF, working);
+		return signed(sinh, x, context);
+	}
+
+	/**
+	 * Computes the hyperbolic cosine of {@code x} as {@code (e^x + e^-x) / 2},
+	 * from a single {@code exp} evaluation.
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the hyperbolic cosine of {@code x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision or
+	 *                             the result is out of the representable range
+	 */
+	public static Decimal cosh(Decimal x, MathContext context) {
+		requireLimited(context);
+		MathContext working = working(context);
+		Decimal exp = Exponentiation.exp(x.abs(), working);
+		return exp.add(exp.reciprocal(working), working).multiply(HALF, context);
+	}
+
+	/**
+	 * Computes the hyperbolic tangent of {@code x}.
+	 *
+	 * <p>Near zero this is {@code sinh / cosh} from
+	 * {@link #sinhcosh(Decimal, MathContext)}; elsewhere it is
+	 * {@code (t − 1) / (t + 1)} with {@code t = e^(2|x|)}.</p>
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the hyperbolic tangent of {@code x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision
+	 */
+	public static Decimal tanh(Decimal x, MathContext context) {
+		requireLimited(context);
+		MathContext working = working(context);
+		if (x.abs().lessThan(SERIES_BOUND)) {
+			SinhCosh sinhcosh = sinhcosh(x, working);
+			return sinhcosh.sinh().divide(sinhcosh.cosh(), context);
+		}
+		// beyond this, 1 − tanh|x| ≈ 2e^(−2|x|) < 10^−(p+1), so tanh|x| rounds like 1 − 10^−(p+1)
+		int precision = working.getPrecision();
+		if (x.abs().greaterThan(Decimal.valueOf((long) Math.ceil(((precision + 1) * Math.log(10) + Math.log(2)) / 2)))) {
+			Decimal nearOne = new Decimal(BigDecimal.ONE.subtract(BigDecimal.ONE.movePointLeft(precision + 1)));
+			return signed(nearOne, x, context);
+		}
+		Decimal t = Exponentiation.exp(x.abs().multiply(TWO, MathContext.UNLIMITED), working);
+		Decimal tanh = t.subtract(ONE, working).divide(t.add(ONE, working), working);
+		return signed(tanh, x, context);
+	}
+
+	/**
+	 * Computes the inverse hyperbolic sine of {@code x}.
+	 *
+	 * <p>For {@code |x| < 1} this is {@code atanh(x / √(1 + x²))}; otherwise
+	 * {@code sign(x) · ln(|x| + √(x² + 1))}, which no longer cancels.</p>
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the inverse hyperbolic sine of {@code x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision
+	 */
+	public static Decimal asinh(Decimal x, MathContext context) {
+		requireLimited(context);
+		if (x.signum() == 0)
+			return ZERO;
+		MathContext working = working(context);
+		Decimal root = ONE.add(x.multiply(x, MathContext.UNLIMITED), MathContext.UNLIMITED).sqrt(working);
+		if (x.abs().lessThan(ONE))
+			return new Decimal(Atanh.atanh(x.divide(root, working), working).toBigDecimal().round(context));
+		return signed(Exponentiation.ln(x.abs().add(root, working), working), x, context);
+	}
+
+	/**
+	 * Computes the inverse hyperbolic cosine of {@code x}.
+	 *
+	 * <p>For {@code x < 2} this is {@code 2·atanh(√((x − 1) / (x + 1)))},
+	 * which keeps full relative precision as {@code x} approaches {@code 1};
+	 * otherwise {@code ln(x + √(x² − 1))}.
+	 * The input {@code x} must be at least {@code 1}.</p>
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the non-negative inverse hyperbolic cosine of {@code x}
+	 * @throws IllegalArgumentException if {@code x} is less than {@code 1}
+	 * @throws ArithmeticException      if {@code context} has unlimited precision
+	 */
+	public static Decimal acosh(Decimal x, MathContext context) {
+		if (x.lessThan(ONE))
+			throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		requireLimited(context);
+		if (x.equals(ONE))
+			return ZERO;
+		MathContext working = working(context);
+		if (x.lessThan(TWO)) {
+			Decimal ratio = x.subtract(ONE, MathContext.UNLIMITED).divide(x.add(ONE, MathContext.UNLIMITED), working);
+			return TWO.multiply(Atanh.atanh(ratio.sqrt(working), working), context);
+		}
+		Decimal root = x.multiply(x, MathContext.UNLIMITED).subtract(ONE, MathContext.UNLIMITED).sqrt(working);
+		return Exponentiation.ln(x.add(root, working), context);
+	}
+
+	/**
+	 * Computes the inverse hyperbolic tangent of {@code x}.
+	 *
+	 * <p>For {@code |x| < 1/2} this is the {@code atanh} series after argument
+	 * halving; otherwise {@code ln((1 + x) / (1 − x)) / 2}, with both
+	 * {@code 1 ± x} computed exactly.
+	 * The input {@code x} must lie within the open interval (-1, 1).</p>
+	 *
+	 * @param x       the argument
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the inverse hyperbolic tangent of {@code x}
+	 * @throws IllegalArgumentException if {@code x} is outside the interval (-1, 1)
+	 * @throws ArithmeticException      if {@code context} has unlimited precision
+	 */
+	public static Decimal atanh(Decimal x, MathContext context) {
+		if (!x.inInterval(ONE.negate(), ONE, BoundType.EXCLUSIVE, BoundType.EXCLUSIVE))
+			throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		requireLimited(context);
+		MathContext working = working(context);
+		if (x.abs().lessThan(SERIES_BOUND))
+			return new Decimal(Atanh.atanh(x, working).toBigDecimal().round(context));
+		Decimal ratio = ONE.add(x, MathContext.UNLIMITED).divide(ONE.subtract(x, MathContext.UNLIMITED), working);
+		return Exponentiation.ln(ratio, working).multiply(HALF, context);
+	}
+
+	/**
+	 * Computes {@code atanh(1/q)} in fixed point, i.e. {@code atanh(1/q)}
+	 * scaled by {@code 10^digits} and truncated, for an integer {@code q > 1}.
+	 *
+	 * <p>Sums {@code Σ 1 / ((2k+1) q^(2k+1))} over {@link BigInteger},
+	 * carrying the running factor {@code 10^digits / q^(2k+1)} from term to
+	 * term, so each term costs two divisions, by {@code q²} and by
+	 * {@code 2k+1} (single-word for small {@code q}). Each division
+	 * truncates, so the result may be short by about one unit per term;
+	 * callers cover this with guard digits.</p>
+	 *
+	 * @param q      the reciprocal of the argument, greater than {@code 1}
+	 * @param digits the number of fractional digits of the result
+	 * @return {@code floor(atanh(1/q) · 10^digits)}, up to the truncation error
+	 */
+	static BigInteger atanhOfReciprocal(BigInteger q, int digits) {
+		BigInteger squared = q.multiply(q);
+		BigInteger factor = BigInteger.TEN.pow(digits).divide(q);
+		BigInteger sum = BigInteger.ZERO;
+		for (long k = 0; factor.signum() != 0; k++) {
+			sum = sum.add(factor.divide(BigInteger.valueOf(2 * k + 1)));
+			factor = factor.divide(squared);
+		}
+		return sum;
+	}
+
+	/**
+	 * Provides the series for the hyperbolic sine.
+	 */
+	private static class Sinh {
+
+		/**
+		 * Computes {@code sinh(x)} for {@code |x| < 1/2}, dividing it by
+		 * {@code 3^k} before the Maclaurin series
+		 * {@code sinh(x) = Σ x^(2n+1) / (2n+1)!} and undoing the division with
+		 * the triple-angle formula {@code sinh(3t) = s (3 + 4 s²)}, where
+		 * {@code s = sinh(t)}.
+		 *
+		 * <p><strong>Developer note:</strong> as for the circular sine in
+		 * {@link Trigonometry}, {@code k} grows with the square root of the
+		 * precision and {@code k / 2} extra digits cover the error growth of
+		 * the triple-angle steps. Every term of the formula is positive for
+		 * positive {@code s}, so there is no cancellation.</p>
+		 *
+		 * @param x       the argument
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the hyperbolic sine of {@code x}
+		 */
+		private static Decimal reduced(Decimal x, MathContext context) {
+			if (x.signum() == 0)
+				return ZERO;
+			int steps = (int) Math.sqrt(context.getPrecision() / 2.0);
+			MathContext working = new MathContext(context.getPrecision() + steps / 2 + 1, context.getRoundingMode());
+			Decimal t = x.divide(Exponentiation.integerPower(THREE, steps, MathContext.UNLIMITED), working);
+			Decimal ratio = t.multiply(t, working);
+			Decimal sinh = Summation.ofRecurrence(t,
+					(term, n, c) -> term.multiply(ratio, c).divide(Decimal.valueOf((2 * n) * (2 * n + 1)), c))
+					.sumInfinite(0, working);
+			for (int i = 0; i < steps; i++)
+				sinh = sinh.multiply(THREE.add(FOUR.multiply(sinh.multiply(sinh, working), working), working), working);
+			return new Decimal(sinh.toBigDecimal().round(context));
+		}
+
+	}
+
+	/**
+	 * Provides the {@code atanh} kernel shared by the inverse functions.
+	 */
+	private static class Atanh {
+
+		/**
+		 * Computes {@code atanh(x)} for {@code |x| < 1/√2 ≈ 0.71} (the bound
+		 * reached by {@code asinh}; {@code acosh} stays below {@code 1/√3} and
+		 * {@code atanh} below {@code 1/2}) by argument halving,
+		 * {@code atanh(x) = 2·atanh(x / (1 + √(1 − x²)))}, followed by the
+		 * series {@code atanh(x) = Σ x^(2n+1) / (2n+1)}.
+		 *
+		 * <p><strong>Developer note:</strong> mirrors the arctangent engine in
+		 * {@link Trigonometry}: about {@code √p} halvings, each costing a
+		 * square root, shorten the series, and the final doubling is exact.</p>
+		 *
+		 * @param x       the argument, less than {@code 1/√2} in magnitude
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the inverse hyperbolic tangent of {@code x}
+		 */
+		private static Decimal atanh(Decimal x, MathContext context) {
+			if (x.signum() == 0)
+				return ZERO;
+			int halvings = (int) Math.sqrt(context.getPrecision());
+			MathContext working = new MathContext(context.getPrecision() + halvings / 3 + 1, context.getRoundingMode());
+			for (int i = 0; i < halvings; i++)
+				x = x.divide(ONE.add(ONE.subtract(x.multiply(x, working), working).sqrt(working), working), working);
+			Decimal squared = x.multiply(x, working);
+			Decimal sum = Summation.ofRecurrence(x,
+					(term, n, c) -> term.multiply(squared, c).multiply(Decimal.valueOf(2 * n - 1), c).divide(Decimal.valueOf(2 * n + 1), c))
+					.sumInfinite(0, working);
+			return sum.multiply(new Decimal(BigInteger.ONE.shiftLeft(halvings)), context);
+		}
+
+	}
+
+	/**
+	 * Returns the precision used for intermediate values.
+	 *
+	 * @param context the caller's context
+	 * @return {@code context} widened by {@link Exponentiation#GUARD_DIGITS}
+	 */
+	private static MathContext working(MathContext context) {
+		return new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+	}
+
+	/**
+	 * Gives {@code magnitude} the sign of {@code x} and rounds it.
+	 *
+	 * <p>The sign is applied before rounding, so that {@code FLOOR} and
+	 * {@code CEILING} round negative results in the right direction.</p>
+	 *
+	 * @param magnitude the value of an odd function at {@code |x|}
+	 * @param x         the argument
+	 * @param context   the {@link MathContext} specifying precision and rounding
+	 * @return {@code magnitude} with the sign of {@code x}, rounded according
+	 *         to {@code context}
+	 */
+	private static Decimal signed(Decimal magnitude, Decimal x, MathContext context) {
+		BigDecimal value = magnitude.toBigDecimal();
+		return new Decimal(x.isNegative() ? value.negate(context) : value.round(context));
+	}
+
+}
@@ -1,9 +1,12 @@
 package decimal.operations.elementaryExtensions;
 
 import static decimal.Decimal.ONE;
+import static decimal.Decimal.TWO;
 import static decimal.Decimal.ZERO;
 import static decimal.operations.elementaryExtensions.Exponentiation.*;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Comparator;
 import java.util.List;
@@ -151,6 +154,73 @@ public class RootExtraction {
 		return result;
 	}
 	
+	/**
+	 * Number of extra digits carried by {@link #squareRoot(Decimal, MathContext)}
+	 * beyond the requested precision before the final rounding.
+	 */
+	private static final int SQUARE_ROOT_GUARD_DIGITS = 2;
+
+	/**
+	 * Computes the square root of a non-negative {@code radicand}.
+	 * <p>
+	 * This is a dedicated engine rather than the generic n-th root iteration:
+	 * the radicand's unscaled value is shifted by a power of ten so that its
+	 * integer square root carries the requested digits plus
+	 * {@value #SQUARE_ROOT_GUARD_DIGITS} guard digits, and that integer square
+	 * root and its remainder are computed by
+	 * {@link BigInteger#sqrtAndRemainder()}. When the root is exact it is
+	 * returned as is (rounded to {@code context}); otherwise a sticky digit is
+	 * appended before rounding so that every {@link java.math.RoundingMode}
+	 * rounds the same way as it would the true root.
+	 * </p>
+	 *
+	 * <p>
+	 * With {@link MathContext#UNLIMITED} the computation is delegated to
+	 * {@link java.math.BigDecimal#sqrt(MathContext)}, which only succeeds if
+	 * the root is exactly representable.
+	 * </p>
+	 *
+	 * @param radicand the value whose square root is being extracted
+	 * @param context  the {@link MathContext} specifying precision and rounding
+	 * @return the square root of {@code radicand}
+	 * @throws IllegalArgumentException if {@code radicand} is negative
+	 * @throws ArithmeticException if {@code context} is unlimited and the root is not exact
+	 */
+	public static Decimal squareRoot(Decimal radicand, MathContext context) {
+		if (radicand.isNegative())
+			throw new IllegalArgumentException(String.format("undefined for radicand %s, degree %s", radicand, 2));
+		if (radicand.signum() == 0)
+			return new Decimal(BigDecimal.ZERO.setScale(radicand.scale() / 2)); // preferred scale, as BigDecimal.sqrt
+		if (context.getPrecision() == 0)
+			return new Decimal(radicand.toBigDecimal().sqrt(context));
+
+		BigDecimal value = radicand.toBigDecimal();
+		BigInteger unscaled = value.unscaledValue();
+		int scale = value.scale();
+
+		// shift so that unscaled * 10^shift has 2 * (precision + guard) digits and an even scale
+		long shift = 2L * (context.getPrecision() + SQUARE_ROOT_GUARD_DIGITS) - value.precision();
+		if (((scale + shift) & 1) != 0) shift++;
+
+		boolean truncated = false;
+		BigInteger n;
+		if (shift >= 0)
+			n = unscaled.multiply(BigInteger.TEN.pow((int) shift));
+		else {
+			BigInteger[] quotientAndRemainder = unscaled.divideAndRemainder(BigInteger.TEN.pow((int) -shift));
+			n = quotientAndRemainder[0];
+			truncated = quotientAndRemainder[1].signum() != 0;
+		}
+
+		BigInteger[] rootAndRemainder = n.sqrtAndRemainder();
+		BigInteger root = rootAndRemainder[0];
+		int rootScale = (int) ((scale + shift) / 2);
+		BigDecimal result = !truncated && rootAndRemainder[1].signum() == 0
+				? new BigDecimal(root, rootScale)
+				: new BigDecimal(root.multiply(BigInteger.TEN).add(BigInteger.ONE), rootScale + 1);
+		return new Decimal(result.round(context));
+	}
+
     /**
      * Internal helper for computing real (non-integer) roots by definition.
      * <p>
@@ -211,6 +281,8 @@ public class RootExtraction {
 	public static Decimal rootExtraction(Decimal radicand, Decimal degree, MathContext context) {
 		if (radicand.equals(ZERO) && degree.greaterThan(ZERO))
 			return ZERO;
+		else if (degree.equals(TWO) && radicand.greaterThan(ZERO))
+			return squareRoot(radicand, context);
 		else if (degree.isInteger()) {
 			if (radicand.greaterThan(ZERO)) {
 				if (degree.greaterThan(ZERO))
@@ -4,13 +4,19 @@ import static decimal.Decimal.HALF;
 import static decimal.Decimal.ONE;
 import static decimal.Decimal.TWO;
 import static decimal.Decimal.ZERO;
+import static decimal.operations.elementaryExtensions.Exponentiation.GUARD_DIGITS;
+import static decimal.operations.elementaryExtensions.Exponentiation.requireLimited;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import decimal.Decimal;
 import decimal.Decimal.BoundType;
-import decimal.helpers.FactorialSupplier;
-import decimal.helpers.NewtonRaphsonProvider;
+import decimal.helpers.ConstantCache;
 import decimal.helpers.Summation;
 
 /**
@@ -33,8 +39,8 @@ import decimal.helpers.Summation;
  *       converge quickly.</li>
  *   <li>Both primary (sin, cos, tan) and reciprocal (csc, sec, cot)
  *       functions are included.</li>
- *   <li>Inverse trigonometric functions use iterative solvers and
- *       series-based identities to ensure precision.</li>
+ *   <li>Inverse trigonometric functions are derived from a direct
+ *       arctangent (argument halving followed by Euler's series).</li>
  * </ul>
  *
  * @see decimal.Decimal
@@ -47,6 +53,16 @@ public class Trigonometry {
 	 */
 	private static final Decimal THREE = D(3);
 
+	/**
+	 * Constant representing the value {@code 4}.
+	 */
+	private static final Decimal FOUR = D(4);
+
+	/**
+	 * Precision-keyed cache of π, shared by every function in this class.
+	 */
+	private static final ConstantCache PI = new ConstantCache(Pi::pi);
+
 	/**
 	 * Private constructor to prevent instantiation of this utility class.
 	 *
@@ -75,95 +91,216 @@ public class Trigonometry {
 	static Decimal D(Object value) {
 		return switch(value) {
 		case String string -> new Decimal(string);
-		case Long _long -> new Decimal(_long);
-		case Integer _int -> new Decimal(_int);
+		case Long _long -> Decimal.valueOf(_long);
+		case Integer _int -> Decimal.valueOf(_int);
 		case Double _double -> new Decimal(_double);
 		default -> throw new IllegalArgumentException("Unexpected value: " + value);
 		};
 	}
 
+	/**
+	 * Selects the algorithm used by {@link #pi(MathContext, PiAlgorithm)}.
+	 *
+	 * <ul>
+	 *   <li>{@link #AUTOMATIC} – BBP at low precision, binary-splitting
+	 *       Chudnovsky above; results are cached.</li>
+	 *   <li>{@link #BBP} – Bailey–Borwein–Plouffe series, uncached.</li>
+	 *   <li>{@link #CHUDNOVSKY} – binary-splitting Chudnovsky series, uncached.</li>
+	 * </ul>
+	 */
+	public static enum PiAlgorithm {
+		AUTOMATIC,
+		BBP,
+		CHUDNOVSKY,
+	}
+
 	/**
 	 * Provides algorithms for computing the constant π with arbitrary precision.
 	 *
 	 * <p>Two different approaches are included:
 	 * <ul>
-	 *   <li>{@link Chudovsky} — fast but less precise.</li>
-	 *   <li>{@link BBP} — slower but extremely precise.</li>
+	 *   <li>{@link Chudovsky} — binary splitting, fast at any precision.</li>
+	 *   <li>{@link BBP} — term-by-term series, cheap to set up at low precision.</li>
 	 * </ul>
 	 * </p>
 	 */
 	private static class Pi {
 
 		/**
-		 * Computes π using the Chudnovsky formula.
+		 * Precision (in digits) from which {@link #pi(MathContext)} switches
+		 * from BBP to the binary-splitting Chudnovsky algorithm.
+		 */
+		private static final int CROSSOVER_PRECISION = 60;
+
+		/**
+		 * Computes π with the algorithm best suited to the requested precision.
 		 *
-		 * <p>This method converges quickly and is efficient,
-		 * but the results may be less accurate at higher precisions.</p>
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return an approximation of π at the given precision
+		 */
+		private static Decimal pi(MathContext context) {
+			return context.getPrecision() < CROSSOVER_PRECISION ? BBP.pi(context) : Chudovsky.pi(context);
+		}
+
+		/**
+		 * Computes π using the Chudnovsky formula with binary splitting.
+		 *
+		 * <p>The series
+		 * <pre>
+		 *     1/π = 12 Σ (-1)^k (6k)! (13591409 + 545140134k) / ((3k)! (k!)^3 640320^(3k+3/2))
+		 * </pre>
+		 * adds roughly 14.18 digits per term. Instead of summing term by term,
+		 * the terms in {@code [a, b)} are combined into three exact integers
+		 * {@code P(a, b)}, {@code Q(a, b)} and {@code T(a, b)} by recursively
+		 * splitting the range in half, so that only a single division and one
+		 * square root are performed at the end:
+		 * <pre>
+		 *     π = 426880 √10005 · Q(0, N) / T(0, N)
+		 * </pre>
+		 * Subtrees above {@link #PARALLEL_THRESHOLD} terms are evaluated in
+		 * parallel on the common {@link ForkJoinPool}.</p>
 		 */
-		@SuppressWarnings("unused")
-		@Deprecated
 		private static class Chudovsky {
+
 			/**
-			 * Constant {@code 10005}, used as part of the multiplier in the
-			 * Chudnovsky series for π.
+			 * Number of decimal digits contributed by each term of the series.
 			 */
-			private static final Decimal D6 = D(10005);
+			private static final double DIGITS_PER_TERM = 14.181647462725477;
 
 			/**
-			 * Constant {@code 640320}, a key parameter in the Chudnovsky formula
-			 * affecting the convergence rate.
+			 * Smallest range of terms that is still split into parallel subtasks.
 			 */
-			private static final Decimal D5 = D(640320);
+			private static final long PARALLEL_THRESHOLD = 512;
 
 			/**
-			 * Constant {@code 3}, representing the exponent applied to factorial
-			 * and polynomial terms in the series.
+			 * Constant {@code 13591409}, the base term added to the numerator
+			 * in each series iteration.
 			 */
-			private static final Decimal D4 = THREE;
+			private static final BigInteger A = BigInteger.valueOf(13591409);
 
 			/**
 			 * Constant {@code 545140134}, the coefficient applied to the series
 			 * index in the numerator.
 			 */
-			private static final Decimal D3 = D(545140134);
+			private static final BigInteger B = BigInteger.valueOf(545140134);
 
 			/**
-			 * Constant {@code 13591409}, the base term added to the numerator
-			 * in each series iteration.
+			 * Constant {@code 640320³ / 24}, the per-term growth of {@code Q}.
 			 */
-			private static final Decimal D2 = D(13591409);
+			private static final BigInteger C3_OVER_24 = BigInteger.valueOf(640320).pow(3).divide(BigInteger.valueOf(24));
 
 			/**
-			 * Constant {@code 4270934400}, used in the denominator of the
-			 * multiplier for the Chudnovsky series.
+			 * Constant {@code 426880}, the multiplier of {@code √10005}.
 			 */
-			private static final Decimal D = D("4270934400");
+			private static final BigDecimal MULTIPLIER = BigDecimal.valueOf(426880);
 
 			/**
-			 * Computes π using the Chudnovsky series expansion.
+			 * Constant {@code 10005}, whose square root is part of the multiplier.
+			 */
+			private static final Decimal RADICAND = D(10005);
+
+			/**
+			 * The exact integers {@code P}, {@code Q} and {@code T} for a range of terms.
 			 *
-			 * <p>This implementation uses factorial-based summation
-			 * and converges rapidly, making it suitable when speed
-			 * is prioritized over ultimate precision.</p>
+			 * @param p the product of the term ratios' numerators
+			 * @param q the product of the term ratios' denominators
+			 * @param t the partial sum scaled by {@code q}
+			 */
+			private static record PQT(BigInteger p, BigInteger q, BigInteger t) {
+
+				/**
+				 * Combines the results of two adjacent ranges {@code [a, m)}
+				 * and {@code [m, b)} into the result for {@code [a, b)}.
+				 *
+				 * @param right the result for the upper range
+				 * @return the result for the combined range
+				 */
+				private PQT merge(PQT right) {
+					return new PQT(
+							p.multiply(right.p),
+							q.multiply(right.q),
+							right.q.multiply(t).add(p.multiply(right.t)));
+				}
+			}
+
+			/**
+			 * Fork/join task evaluating {@link PQT} over a range of terms.
+			 */
+			@SuppressWarnings("serial")
+			private static class Split extends RecursiveTask<PQT> {
+
+				/**
+				 * The first term (inclusive).
+				 */
+				private final long a;
+
+				/**
+				 * The last term (exclusive).
+				 */
+				private final long b;
+
+				/**
+				 * Creates a task evaluating the terms in {@code [a, b)}.
+				 *
+				 * @param a the first term (inclusive)
+				 * @param b the last term (exclusive)
+				 */
+				private Split(long a, long b) {
+					this.a = a;
+					this.b = b;
+				}
+
+				@Override
+				protected PQT compute() {
+					if (b - a < PARALLEL_THRESHOLD)
+						return split(a, b);
+					long m = (a + b) >>> 1;
+					Split left = new Split(a, m);
+					left.fork();
+					PQT right = new Split(m, b).compute();
+					return left.join().merge(right);
+				}
+			}
+
+			/**
+			 * Sequentially evaluates {@link PQT} over the terms in {@code [a, b)}.
+			 *
+			 * @param a the first term (inclusive)
+			 * @param b the last term (exclusive)
+			 * @return the combined {@code P}, {@code Q} and {@code T}
+			 */
+			private static PQT split(long a, long b) {
+				if (b - a == 1) {
+					if (a == 0)
+						return new PQT(BigInteger.ONE, BigInteger.ONE, A);
+					BigInteger k = BigInteger.valueOf(a);
+					BigInteger p = BigInteger.valueOf(6 * a - 5)
+							.multiply(BigInteger.valueOf(2 * a - 1))
+							.multiply(BigInteger.valueOf(6 * a - 1));
+					BigInteger q = k.multiply(k).multiply(k).multiply(C3_OVER_24);
+					BigInteger t = p.multiply(A.add(B.multiply(k)));
+					return new PQT(p, q, (a & 1) == 0 ? t : t.negate());
+				}
+				long m = (a + b) >>> 1;
+				return split(a, m).merge(split(m, b));
+			}
+
+			/**
+			 * Computes π using the binary-splitting Chudnovsky series.
 			 *
 			 * @param context the {@link MathContext} specifying precision and rounding
 			 * @return an approximation of π at the given precision
 			 */
-			
 			private static Decimal pi(MathContext context) {
-				Decimal multiplier = D6.sqrt(context).divide(D, context);
-
-				FactorialSupplier factorialSupplier = new FactorialSupplier(0);
-				FactorialSupplier factorialSupplier2 = new FactorialSupplier(0);
-				FactorialSupplier factorialSupplier3 = new FactorialSupplier(0);
-				Summation summation = new Summation(k -> {
-					Decimal numerator = factorialSupplier.nextPre(6).multiply(D2.add(D3.multiply(k, context), context), context);
-					Decimal denominator = factorialSupplier2.nextPre(3).multiply(factorialSupplier3.nextPre().pow(D4, context), context).multiply(D5.negate().pow(D4.multiply(k, context), context), context);
-					System.out.println(k);
-					return numerator.divide(denominator, context);
-				});
-
-				return ONE.divide(multiplier.multiply(summation.sumInfinite(0, context), context), context);
+				int precision = context.getPrecision();
+				if (precision == 0)
+					throw new ArithmeticException("π cannot be computed with unlimited precision");
+				MathContext working = new MathContext(precision + 10, RoundingMode.HALF_EVEN);
+				long terms = (long) (precision / DIGITS_PER_TERM) + 2;
+
+				PQT pqt = terms < PARALLEL_THRESHOLD ? split(0, terms) : ForkJoinPool.commonPool().invoke(new Split(0, terms));
+				BigDecimal numerator = MULTIPLIER.multiply(RootExtraction.squareRoot(RADICAND, working).toBigDecimal()).multiply(new BigDecimal(pqt.q()));
+				return new Decimal(numerator.divide(new BigDecimal(pqt.t()), working).round(context));
 			}
 		}
 
@@ -209,19 +346,27 @@ public class Trigonometry {
 			 * digits of π without requiring all preceding digits. This implementation
 			 * is slower than Chudnovsky’s method but provides extremely high precision.</p>
 			 *
+			 * <p>The terms are evaluated and summed with ten guard digits under
+			 * {@link RoundingMode#HALF_EVEN}, and the sum is rounded once to
+			 * {@code context}.</p>
+			 *
 			 * @param context the {@link MathContext} specifying precision and rounding
 			 * @return an approximation of π at the given precision
 			 */
 			private static Decimal pi(MathContext context) {
+				int precision = context.getPrecision();
+				if (precision == 0)
+					throw new ArithmeticException("π cannot be computed with unlimited precision");
+				MathContext working = new MathContext(precision + 10, RoundingMode.HALF_EVEN);
 				Summation summation = new Summation(k -> {
-					Decimal multiplier = ONE.divide(D.pow(k, context), context);
-					Decimal term = D2.divide(D3.multiply(k, context).add(ONE, context), context);
-					Decimal term2 = TWO.divide(D3.multiply(k, context).add(D2, context), context);
-					Decimal term3 = ONE.divide(D3.multiply(k, context).add(D4, context), context);
-					Decimal term4 = ONE.divide(D3.multiply(k, context).add(D5, context), context);
-					return multiplier.multiply(term.subtract(term2, context).subtract(term3, context).subtract(term4, context), context);
+					Decimal multiplier = ONE.divide(D.pow(k, working), working);
+					Decimal term = D2.divide(D3.multiply(k, working).add(ONE, working), working);
+					Decimal term2 = TWO.divide(D3.multiply(k, working).add(D2, working), working);
+					Decimal term3 = ONE.divide(D3.multiply(k, working).add(D4, working), working);
+					Decimal term4 = ONE.divide(D3.multiply(k, working).add(D5, working), working);
+					return multiplier.multiply(term.subtract(term2, working).subtract(term3, working).subtract(term4, working), working);
 				});
-				return summation.sumInfinite(0, context);
+				return new Decimal(summation.sumInfinite(0, working).toBigDecimal().round(context));
 			}
 
 		}
@@ -245,141 +390,315 @@ public class Trigonometry {
 		 * </pre>
 		 * and converges for all real values of {@code x}.</p>
 		 *
+		 * <p>Each term is derived from the previous one through the ratio
+		 * {@code -x² / ((2n)(2n+1))}.</p>
+		 *
 		 * @param angle   the angle in radians
 		 * @param context the {@link MathContext} specifying precision and rounding
 		 * @return the sine of {@code angle} with the given precision
 		 */
 		private static Decimal maclaurin(Decimal angle, MathContext context) {
-			FactorialSupplier factorialSupplier = new FactorialSupplier(1);
-			Summation summation = new Summation(n -> {
-				Decimal numerator = ONE.negate().pow(n, context);
-				Decimal denominator = factorialSupplier.nextPre(2);
-				Decimal multiplier = angle.pow(TWO.multiply(n, context).add(ONE, context), context);
-				Decimal result = multiplier.multiply(numerator, context).divide(denominator, context);
-				return result;
-			});
-			return summation.sumInfinite(0, context);
+			Decimal ratio = angle.multiply(angle, context).negate();
+			return Summation.ofRecurrence(angle,
+					(term, n, c) -> term.multiply(ratio, c).divide(Decimal.valueOf((2 * n) * (2 * n + 1)), c))
+					.sumInfinite(0, context);
+		}
+
+		/**
+		 * Computes {@code sin(angle)} for a range-reduced angle
+		 * ({@code |angle| ≤ π/4}), dividing it by {@code 3^k} before the series
+		 * and undoing the division with the triple-angle formula
+		 * {@code sin(3t) = t' (3 − 4 t'²)}, where {@code t' = sin(t)}.
+		 *
+		 * <p><strong>Developer note:</strong> {@code k} grows with the square
+		 * root of the precision, which balances the series length (about
+		 * {@code p / (2 log10(3^k))} terms) against the {@code k} triple-angle
+		 * steps. Each step can triple the absolute error, so {@code k / 2}
+		 * extra digits are carried.</p>
+		 *
+		 * @param angle   a range-reduced angle in radians
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the sine of {@code angle} with the given precision
+		 */
+		private static Decimal reduced(Decimal angle, MathContext context) {
+			int steps = tripleAngleSteps(context.getPrecision());
+			MathContext working = new MathContext(context.getPrecision() + steps / 2 + 1, context.getRoundingMode());
+			Decimal divisor = Decimal.valueOf(THREE_POWERS[steps]);
+			Decimal sin = maclaurin(angle.divide(divisor, working), working);
+			for (int i = 0; i < steps; i++)
+				sin = sin.multiply(THREE.subtract(FOUR.multiply(sin.multiply(sin, working), working), working), working);
+			return new Decimal(sin.toBigDecimal().round(context));
+		}
+
+		/**
+		 * Powers of three up to the largest number of triple-angle steps.
+		 */
+		private static final long[] THREE_POWERS = new long[32];
+
+		static {
+			THREE_POWERS[0] = 1;
+			for (int i = 1; i < THREE_POWERS.length; i++)
+				THREE_POWERS[i] = 3 * THREE_POWERS[i - 1];
+		}
+
+		/**
+		 * Returns the number of triple-angle steps used at a given precision.
+		 *
+		 * @param precision the working precision in digits
+		 * @return the number of steps, at most {@code THREE_POWERS.length - 1}
+		 */
+		private static int tripleAngleSteps(int precision) {
+			return Math.min(THREE_POWERS.length - 1, (int) Math.sqrt(precision / 2.0));
 		}
 	}
 
 	/**
 	 * Provides implementations of the cosine function.
 	 *
-	 * <p>Methods in this class approximate {@code cos(x)} using
-	 * series expansions.</p>
+	 * <p>Methods in this class derive {@code cos(x)} from the sine series.</p>
 	 */
 	private static class Cos {
 
 		/**
-		 * Computes {@code cos(angle)} using the Maclaurin series expansion.
+		 * Computes {@code cos(angle)} for a range-reduced angle
+		 * ({@code |angle| ≤ π/4}) with the half-angle identity
+		 * {@code cos(x) = 1 − 2 sin²(x/2)}.
 		 *
-		 * <p>The series is defined as:
-		 * <pre>
-		 *     cos(x) = Σ [(-1)^n * x^(2n)] / (2n)!
-		 * </pre>
-		 * and converges for all real values of {@code x}.</p>
+		 * <p><strong>Developer note:</strong> the identity has no cancellation
+		 * here, since the result lies in {@code [0.7, 1]}, and it lets cosine
+		 * share the triple-angle accelerated sine series.</p>
 		 *
-		 * @param angle   the angle in radians
+		 * @param angle   a range-reduced angle in radians
 		 * @param context the {@link MathContext} specifying precision and rounding
 		 * @return the cosine of {@code angle} with the given precision
 		 */
-		private static Decimal maclaurin(Decimal angle, MathContext context) {
-			FactorialSupplier factorialSupplier = new FactorialSupplier(0);
-			Summation summation = new Summation(n -> {
-				Decimal numerator = ONE.negate().pow(n, context);
-				Decimal denominator = factorialSupplier.nextPre(2);
-				Decimal multiplier = angle.pow(TWO.multiply(n, context), context);
-				Decimal result = multiplier.multiply(numerator, context).divide(denominator, context);
-				return result;
-			});
-			return summation.sumInfinite(0, context);
+		private static Decimal reduced(Decimal angle, MathContext context) {
+			Decimal sin = Sin.reduced(angle.multiply(HALF, MathContext.UNLIMITED), context);
+			return ONE.subtract(TWO.multiply(sin.multiply(sin, context), MathContext.UNLIMITED), context);
 		}
 
 	}
 
+	/**
+	 * An angle reduced to {@code [-π/4, π/4]}, together with the quadrant it
+	 * was reduced from.
+	 *
+	 * @param angle    the reduced angle {@code x − quadrant · π/2} (up to multiples of {@code 2π})
+	 * @param quadrant the number of quarter turns removed, modulo 4
+	 */
+	private static record Reduced(Decimal angle, int quadrant) {}
+
+	/**
+	 * Upper bound of angles that need no reduction, slightly below {@code π/4}.
+	 */
+	private static final Decimal QUARTER_PI_LOWER_BOUND = D("0.785");
+
+	/**
+	 * Reduces an angle by the nearest multiple of {@code π/2}, so that the
+	 * result has at least {@code precision} correct significant digits.
+	 *
+	 * <p>The subtraction {@code x − n·π/2} is carried out exactly, and
+	 * {@code π/2} is taken from the shared {@link ConstantCache} with enough
+	 * digits to cover both the integer digits of {@code x} (extra-precision
+	 * Cody–Waite reduction). That precision depends on the argument, so it is
+	 * read with {@link ConstantCache#getUnmemoized(MathContext)} and does not
+	 * grow the per-context memo. If the result cancels further, as happens when
+	 * {@code x} is very close to a multiple of {@code π/2}, the reduction is
+	 * repeated with as many more digits of {@code π} as were lost.</p>
+	 *
+	 * @param angle     the angle in radians
+	 * @param precision the number of significant digits required of the result
+	 * @return the reduced angle and its quadrant
+	 */
+	private static Reduced reduce(Decimal angle, int precision) {
+		if (angle.abs().lessThan(QUARTER_PI_LOWER_BOUND))
+			return new Reduced(angle, 0);
+
+		BigDecimal x = angle.toBigDecimal();
+		int magnitude = Math.max(1, x.precision() - x.scale());
+		int working = precision + magnitude + GUARD_DIGITS;
+		while (true) {
+			BigDecimal halfPi = PI.getUnmemoized(new MathContext(working)).toBigDecimal().multiply(HALF.toBigDecimal());
+			BigInteger n = x.divide(halfPi, new MathContext(magnitude + 3)).setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+			BigDecimal r = x.subtract(halfPi.multiply(new BigDecimal(n)));
+			// |error| <= |n| * ulp(halfPi) <= 10^(magnitude + 1 - working)
+			int correct = r.signum() == 0 ? 0 : (r.precision() - r.scale()) - (magnitude + 1 - working);
+			if (correct >= precision)
+				return new Reduced(new Decimal(r.round(new MathContext(precision))), n.intValue() & 3);
+			working += precision - correct + GUARD_DIGITS;
+		}
+	}
+
 	/**
 	 * Computes the constant π with arbitrary precision.
 	 *
-	 * <p>Currently uses the Bailey–Borwein–Plouffe (BBP) series by default,
-	 * which converges slowly but yields extremely high accuracy. The
-	 * Chudnovsky algorithm is available but disabled here.</p>
+	 * <p>Uses the Bailey–Borwein–Plouffe (BBP) series at low precision and
+	 * the binary-splitting Chudnovsky algorithm from
+	 * {@value Pi#CROSSOVER_PRECISION} digits upwards.</p>
+	 *
+	 * <p>Results are served from a precision-keyed {@link ConstantCache}, so
+	 * the series is only evaluated when a higher precision than any previous
+	 * request is needed.</p>
 	 *
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return an approximation of π at the given precision
 	 */
 	public static Decimal pi(MathContext context) {
-		//		return Pi.Chudovsky.pi(context);
-		return Pi.BBP.pi(context);
+		return PI.get(context);
+	}
+
+	/**
+	 * Computes the constant π with the given algorithm.
+	 *
+	 * <p>Only {@link PiAlgorithm#AUTOMATIC} is cached; the other choices
+	 * always evaluate their series, which is mainly useful for validating
+	 * one algorithm against the other.</p>
+	 *
+	 * @param context   the {@link MathContext} specifying precision and rounding
+	 * @param algorithm the algorithm to use
+	 * @return an approximation of π at the given precision
+	 */
+	public static Decimal pi(MathContext context, PiAlgorithm algorithm) {
+		return switch (algorithm) {
+		case AUTOMATIC 	-> pi(context);
+		case BBP 		-> Pi.BBP.pi(context);
+		case CHUDNOVSKY -> Pi.Chudovsky.pi(context);
+		};
+	}
+
+	/**
+	 * Returns the cache backing {@link #pi(MathContext)}, e.g. to inspect
+	 * its hit and miss counters.
+	 *
+	 * @return the π cache
+	 */
+	public static ConstantCache piCache() {
+		return PI;
 	}
 
 	/**
 	 * Computes the sine of the given angle.
 	 *
 	 * <p>The input is range-reduced using multiples of π/2, and the
-	 * appropriate sine or cosine Maclaurin expansion is applied
-	 * depending on the quadrant.</p>
+	 * appropriate sine or cosine expansion is applied depending on the
+	 * quadrant. The reduction is exact up to the digits of π used, which are
+	 * taken from the π cache at the precision of the argument's integer part
+	 * plus the requested precision, so large arguments (e.g. {@code 10^9})
+	 * keep every requested digit. The reduced angle is then divided by a power
+	 * of three so that the Maclaurin series converges in a few terms.</p>
 	 *
 	 * @param angle   the angle in radians
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the sine of {@code angle} with the given precision
+	 * @throws ArithmeticException if {@code context} has unlimited precision
 	 */
 	public static Decimal sin(Decimal angle, MathContext context) {
-		Decimal pi = pi(context);
-		Decimal n = TWO.multiply(angle, context).divide(pi, context).round();
-		angle = angle.subtract(n.multiply(pi, context).multiply(HALF, context), context);
-
-		n = n.and(THREE);
-		if (n.equals(ZERO))
-			return Sin.maclaurin(angle, context);
-		else if (n.equals(ONE))
-			return Cos.maclaurin(angle, context);
-		else if (n.equals(TWO))
-			return Sin.maclaurin(angle, context).negate();
-		else
-			return Cos.maclaurin(angle, context).negate();
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		Reduced reduced = reduce(angle, working.getPrecision());
+		Decimal sin = switch (reduced.quadrant()) {
+		case 0 -> Sin.reduced(reduced.angle(), working);
+		case 1 -> Cos.reduced(reduced.angle(), working);
+		case 2 -> Sin.reduced(reduced.angle(), working).negate();
+		default -> Cos.reduced(reduced.angle(), working).negate();
+		};
+		return new Decimal(sin.toBigDecimal().round(context));
 	}
 
 	/**
 	 * Computes the cosine of the given angle.
 	 *
-	 * <p>The input is range-reduced using multiples of π/2, and the
-	 * appropriate cosine or sine Maclaurin expansion is applied
-	 * depending on the quadrant.</p>
+	 * <p>The input is range-reduced using multiples of π/2 (see
+	 * {@link #sin(Decimal, MathContext)}), and the appropriate cosine or sine
+	 * expansion is applied depending on the quadrant.</p>
 	 *
 	 * @param angle   the angle in radians
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the cosine of {@code angle} with the given precision
+	 * @throws ArithmeticException if {@code context} has unlimited precision
 	 */
 	public static Decimal cos(Decimal angle, MathContext context) {
-		Decimal pi = pi(context);
-		Decimal n = TWO.multiply(angle, context).divide(pi, context).round();
-		angle = angle.subtract(n.multiply(pi, context).multiply(HALF, context), context);
-
-		n = n.and(THREE);
-		if (n.equals(ZERO))
-			return Cos.maclaurin(angle, context);
-		else if (n.equals(ONE))
-			return Sin.maclaurin(angle, context).negate();
-		else if (n.equals(TWO))
-			return Cos.maclaurin(angle, context).negate();
-		else
-			return Sin.maclaurin(angle, context);
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		Reduced reduced = reduce(angle, working.getPrecision());
+		Decimal cos = switch (reduced.quadrant()) {
+		case 0 -> Cos.reduced(reduced.angle(), working);
+		case 1 -> Sin.reduced(reduced.angle(), working).negate();
+		case 2 -> Cos.reduced(reduced.angle(), working).negate();
+		default -> Sin.reduced(reduced.angle(), working);
+		};
+		return new Decimal(cos.toBigDecimal().round(context));
+	}
+
+	/**
+	 * The sine and cosine of the same angle, as returned by
+	 * {@link Trigonometry#sincos(Decimal, MathContext)}.
+	 *
+	 * @param sin the sine of the angle
+	 * @param cos the cosine of the angle
+	 */
+	public static record SinCos(Decimal sin, Decimal cos) {}
+
+	/**
+	 * Computes the sine and cosine of the given angle together.
+	 *
+	 * <p>Both values come from a single range reduction (see
+	 * {@link #sin(Decimal, MathContext)}) and a single series: with
+	 * {@code r} the reduced angle and {@code s = sin(r/2)},
+	 * {@code cos(r) = 1 − 2s²} and {@code sin(r) = 2s·√(1 − s²)}. The square
+	 * root is well conditioned because {@code |r/2| ≤ π/8}.</p>
+	 *
+	 * @param angle   the angle in radians
+	 * @param context the {@link MathContext} specifying precision and rounding
+	 * @return the sine and cosine of {@code angle} with the given precision
+	 * @throws ArithmeticException if {@code context} has unlimited precision
+	 */
+	public static SinCos sincos(Decimal angle, MathContext context) {
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		Reduced reduced = reduce(angle, working.getPrecision());
+		Decimal half = Sin.reduced(reduced.angle().multiply(HALF, MathContext.UNLIMITED), working);
+		Decimal squared = half.multiply(half, working);
+		Decimal cos = ONE.subtract(TWO.multiply(squared, MathContext.UNLIMITED), working);
+		Decimal sin = TWO.multiply(half.multiply(ONE.subtract(squared, working).sqrt(working), working), MathContext.UNLIMITED);
+		BigDecimal s = sin.toBigDecimal();
+		BigDecimal c = cos.toBigDecimal();
+		return switch (reduced.quadrant()) {
+		case 0 -> new SinCos(new Decimal(s.round(context)), new Decimal(c.round(context)));
+		case 1 -> new SinCos(new Decimal(c.round(context)), new Decimal(s.negate(context)));
+		case 2 -> new SinCos(new Decimal(s.negate(context)), new Decimal(c.negate(context)));
+		default -> new SinCos(new Decimal(c.negate(context)), new Decimal(s.round(context)));
+		};
+	}
+
+	/**
+	 * Returns {@code context} with two more digits, for intermediate values
+	 * that are combined before the final rounding.
+	 *
+	 * @param context the caller's context
+	 * @return the widened context
+	 */
+	private static MathContext widened(MathContext context) {
+		requireLimited(context);
+		return new MathContext(context.getPrecision() + 2, context.getRoundingMode());
 	}
 
 	/**
 	 * Computes the tangent of the given angle.
 	 *
-	 * <p>This implementation currently evaluates {@code tan(x)} as
-	 * {@code sin(x) / cos(x)}. A dedicated implementation based on
-	 * series expansions (e.g., using Bernoulli or Euler up/down numbers)
-	 * may replace this in the future.</p>
+	 * <p>This implementation evaluates {@code tan(x)} as
+	 * {@code sin(x) / cos(x)}, with both values from one
+	 * {@link #sincos(Decimal, MathContext)} call. A dedicated implementation
+	 * based on series expansions (e.g., using Bernoulli or Euler up/down
+	 * numbers) may replace this in the future.</p>
 	 *
 	 * @param angle   the angle in radians
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the tangent of {@code angle} with the given precision
 	 */
 	public static Decimal tan(Decimal angle, MathContext context) {
-		return sin(angle, context).divide(cos(angle, context), context);
+		SinCos sincos = sincos(angle, widened(context));
+		return sincos.sin().divide(sincos.cos(), context);
 	}
 
 	/**
@@ -411,60 +730,67 @@ public class Trigonometry {
 	/**
 	 * Computes the cotangent of the given angle.
 	 *
-	 * <p>Defined as {@code cot(x) = cos(x) / sin(x)}.</p>
+	 * <p>Defined as {@code cot(x) = cos(x) / sin(x)}, with both values from
+	 * one {@link #sincos(Decimal, MathContext)} call.</p>
 	 *
 	 * @param angle   the angle in radians
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the cotangent of {@code angle} with the given precision
 	 */
 	public static Decimal cot(Decimal angle, MathContext context) {
-		return cos(angle, context).divide(sin(angle, context), context);
+		SinCos sincos = sincos(angle, widened(context));
+		return sincos.cos().divide(sincos.sin(), context);
 	}
 
 	/**
 	 * Computes the inverse sine (arcsine) of the given value.
 	 *
-	 * <p>Uses the Newton–Raphson method to solve {@code sin(y) = x}.
+	 * <p>Derived from the arctangent as
+	 * {@code arcsin(x) = arctan(x / √(1 − x²))}, where {@code 1 − x²} is
+	 * computed exactly; {@code ±1} map to {@code ±π/2}.
 	 * The input {@code x} must lie within the interval [-1, 1].</p>
 	 *
 	 * @param x       the input value
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the angle {@code y} such that {@code sin(y) = x}
 	 * @throws IllegalArgumentException if {@code x} is outside the interval [-1, 1]
+	 * @throws ArithmeticException      if {@code context} has unlimited precision
 	 */
 	public static Decimal arcsin(Decimal x, MathContext context) {
-		if (x.inInterval(ONE.negate(), ONE, BoundType.INCLUSIVE, BoundType.INCLUSIVE)) {
-			NewtonRaphsonProvider provider = 
-					new NewtonRaphsonProvider(
-							y -> sin(y, context).subtract(x, context), 
-							y -> cos(y, context)
-							);
-			return provider.solve(ZERO, context);
-		}
-		throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		if (!x.inInterval(ONE.negate(), ONE, BoundType.INCLUSIVE, BoundType.INCLUSIVE))
+			throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		Decimal complement = ONE.subtract(x.multiply(x, MathContext.UNLIMITED), MathContext.UNLIMITED);
+		if (complement.signum() == 0)
+			return pi(working).multiply(HALF, MathContext.UNLIMITED).multiply(D(x.signum()), context);
+		return new Decimal(Arctan.arctan(x.divide(complement.sqrt(working), working), working).toBigDecimal().round(context));
 	}
 
 	/**
 	 * Computes the inverse cosine (arccosine) of the given value.
 	 *
-	 * <p>Uses the Newton–Raphson method to solve {@code cos(y) = x}.
+	 * <p>Derived from the arctangent as
+	 * {@code arccos(x) = 2·arctan(√((1 − x) / (1 + x)))}, which, unlike
+	 * {@code π/2 − arcsin(x)}, does not cancel for {@code x} close to
+	 * {@code 1}; {@code −1} maps to {@code π}.
 	 * The input {@code x} must lie within the interval [-1, 1].</p>
 	 *
 	 * @param x       the input value
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the angle {@code y} such that {@code cos(y) = x}
 	 * @throws IllegalArgumentException if {@code x} is outside the interval [-1, 1]
+	 * @throws ArithmeticException      if {@code context} has unlimited precision
 	 */
 	public static Decimal arccos(Decimal x, MathContext context) {
-		if (x.inInterval(ONE.negate(), ONE, BoundType.INCLUSIVE, BoundType.INCLUSIVE)) {
-			NewtonRaphsonProvider provider = 
-					new NewtonRaphsonProvider(
-							y -> cos(y, context).subtract(x, context), 
-							y -> sin(y, context).negate()
-							);
-			return provider.solve(ONE, context);
-		}
-		throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		if (!x.inInterval(ONE.negate(), ONE, BoundType.INCLUSIVE, BoundType.INCLUSIVE))
+			throw new IllegalArgumentException(String.format("%s is outside of the domain of this function", x));
+		requireLimited(context);
+		if (x.equals(ONE.negate()))
+			return pi(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		Decimal ratio = ONE.subtract(x, MathContext.UNLIMITED).divide(ONE.add(x, MathContext.UNLIMITED), working);
+		return TWO.multiply(Arctan.arctan(ratio.sqrt(working), working), context);
 	}
 
 	/**
@@ -472,31 +798,75 @@ public class Trigonometry {
 	 *
 	 * <p>For |x| > 1, the identity
 	 * {@code arctan(x) = sign(x) * (π/2) − arctan(1/x)}
-	 * is applied to reduce the argument. Otherwise, the
-	 * Newton–Raphson method is used to solve {@code tan(y) = x}
-	 * within the interval [-π/2, π/2].</p>
+	 * is applied to reduce the argument. Otherwise the argument is halved
+	 * a few times with {@code arctan(x) = 2·arctan(x / (1 + √(1 + x²)))}
+	 * and the result is summed with Euler's series
+	 * {@code arctan(x) = Σ 2^(2n) (n!)² / (2n+1)! · x^(2n+1) / (1 + x²)^(n+1)},
+	 * whose terms are all positive and shrink by {@code x² / (1 + x²)} each.</p>
 	 *
 	 * @param x       the input value
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the angle {@code y} such that {@code tan(y) = x}
+	 * @throws ArithmeticException if {@code context} has unlimited precision
 	 */
 	public static Decimal arctan(Decimal x, MathContext context) {
-		Decimal pi = pi(context);
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
 		if (x.abs().greaterThan(ONE))
-			return pi.multiply(HALF, context).multiply(D(x.signum()), context).subtract(arctan(x.reciprocal(context), context), context);
-
-		Decimal max = pi.multiply(HALF, context);
-		Decimal min = max.negate();
-		NewtonRaphsonProvider provider = 
-				new NewtonRaphsonProvider(
-						y -> tan(y, context).subtract(x, context),
-						y -> sec(y, context).squared(context),
-						y -> y.subtract(pi.multiply(y.divide(pi, context).round(), context), context),
-						min,
-						max
-						);
-		Decimal solve = provider.solve(ZERO, context);
-		return solve;
+			return pi(working).multiply(HALF, MathContext.UNLIMITED).multiply(D(x.signum()), MathContext.UNLIMITED)
+					.subtract(Arctan.arctan(x.reciprocal(working), working), context);
+		return new Decimal(Arctan.arctan(x, working).toBigDecimal().round(context));
+	}
+
+	/**
+	 * Provides the arctangent engine behind the inverse trigonometric functions.
+	 */
+	private static class Arctan {
+
+		/**
+		 * Computes {@code arctan(x)} for {@code |x| ≤ 1} by argument halving
+		 * followed by Euler's series.
+		 *
+		 * <p><strong>Developer note:</strong> each halving costs a square
+		 * root and at least halves the argument, saving about
+		 * {@code p / (2 log10(1/x²))} series terms in total; their number grows
+		 * with the square root of the precision. The final doubling is exact,
+		 * and the {@code log10(2^k)} digits it shifts are carried as extra
+		 * precision.</p>
+		 *
+		 * @param x       the argument, at most {@code 1} in magnitude
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the arctangent of {@code x}
+		 */
+		private static Decimal arctan(Decimal x, MathContext context) {
+			if (x.signum() == 0)
+				return ZERO;
+			int halvings = (int) Math.sqrt(context.getPrecision());
+			MathContext working = new MathContext(context.getPrecision() + halvings / 3 + 1, context.getRoundingMode());
+			for (int i = 0; i < halvings; i++)
+				x = x.divide(ONE.add(ONE.add(x.multiply(x, working), working).sqrt(working), working), working);
+			return euler(x, working).multiply(new Decimal(BigInteger.ONE.shiftLeft(halvings)), context);
+		}
+
+		/**
+		 * Computes {@code arctan(x)} with Euler's series.
+		 *
+		 * <p>Each term is derived from the previous one through the ratio
+		 * {@code y · 2n / (2n+1)}, with {@code y = x² / (1 + x²)}.</p>
+		 *
+		 * @param x       the argument
+		 * @param context the {@link MathContext} specifying precision and rounding
+		 * @return the arctangent of {@code x}
+		 */
+		private static Decimal euler(Decimal x, MathContext context) {
+			Decimal squared = x.multiply(x, context);
+			Decimal denominator = ONE.add(squared, context);
+			Decimal y = squared.divide(denominator, context);
+			return Summation.ofRecurrence(x.divide(denominator, context),
+					(term, n, c) -> term.multiply(y, c).multiply(Decimal.valueOf(2 * n), c).divide(Decimal.valueOf(2 * n + 1), c))
+					.sumInfinite(0, context);
+		}
+
 	}
 
 	/**
@@ -530,14 +900,20 @@ public class Trigonometry {
 	 *
 	 * <p>For positive {@code x}, this is defined as
 	 * {@code arccot(x) = arctan(1 / x)}. For negative {@code x}, the
-	 * result is adjusted by adding π to ensure the correct branch.</p>
+	 * result is adjusted by adding π to ensure the correct branch, and
+	 * {@code arccot(0) = π/2}.</p>
 	 *
 	 * @param x       the input value
 	 * @param context the {@link MathContext} specifying precision and rounding
 	 * @return the angle {@code y} such that {@code cot(y) = x}
 	 */
 	public static Decimal arccot(Decimal x, MathContext context) {
-		return x.isPositive() ? arctan(x.reciprocal(context), context) : arctan(x.reciprocal(context), context).add(pi(context), context);
+		requireLimited(context);
+		MathContext working = new MathContext(context.getPrecision() + GUARD_DIGITS, context.getRoundingMode());
+		if (x.signum() == 0)
+			return pi(working).multiply(HALF, context);
+		Decimal arctan = arctan(x.reciprocal(working), working);
+		return x.isPositive() ? new Decimal(arctan.toBigDecimal().round(context)) : arctan.add(pi(working), context);
 	}
 
 }
@@ -0,0 +1,129 @@
+package decimal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DecimalCodecTest {
+
+	@Test
+	void smallIntegersTakeOneByteUpToFifteen() {
+		for (long value = -15; value <= 15; value++)
+			assertEquals(1, DecimalCodec.encode(Decimal.valueOf(value)).length, Long.toString(value));
+		assertEquals(2, DecimalCodec.encode(Decimal.valueOf(16)).length);
+		assertEquals(2, DecimalCodec.encode(Decimal.valueOf(-16)).length);
+	}
+
+	@Test
+	void valuesRoundTripThroughEveryPath() throws IOException, ClassNotFoundException {
+		for (Decimal value : values()) {
+			byte[] bytes = DecimalCodec.encode(value);
+			assertEquals(DecimalCodec.encodedSize(value), bytes.length, () -> value.toBigDecimal().toString());
+			assertRoundTrip(value, DecimalCodec.decode(bytes));
+
+			ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+			buffer.put((byte) 7);
+			DecimalCodec.encode(value, buffer).put((byte) 9);
+			buffer.flip().get();
+			assertRoundTrip(value, DecimalCodec.decode(buffer));
+			assertEquals(9, buffer.get());
+
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			value.writeTo(new DataOutputStream(stream));
+			assertArrayEquals(bytes, stream.toByteArray());
+			assertRoundTrip(value, Decimal.readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+		}
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+			out.writeObject(values());
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+			List<?> read = (List<?>) in.readObject();
+			List<Decimal> expected = values();
+			assertEquals(expected.size(), read.size());
+			for (int i = 0; i < expected.size(); i++)
+				assertRoundTrip(expected.get(i), (Decimal) read.get(i));
+		}
+	}
+
+	@Test
+	void malformedInputIsRejected() {
+		byte[][] malformed = {
+				{ 0x03 }, // reserved kind
+				{ (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x02 }, // varint past 64 bits
+				{ (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01 }, // scale beyond 32 bits
+				{ 0x01, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10 }, // magnitude longer than any BigInteger
+		};
+		for (byte[] bytes : malformed) {
+			assertThrows(IllegalArgumentException.class, () -> DecimalCodec.decode(bytes));
+			assertThrows(IOException.class, () -> Decimal.readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+		}
+	}
+
+	@Test
+	void truncatedInputIsRejected() {
+		for (Decimal value : values()) {
+			byte[] bytes = DecimalCodec.encode(value);
+			for (int length : new int[] { 0, 1, bytes.length / 2, bytes.length - 1 }) {
+				if (length >= bytes.length)
+					continue;
+				String message = value.toBigDecimal() + " cut at " + length;
+				ByteBuffer prefix = ByteBuffer.wrap(bytes, 0, length);
+				assertThrows(BufferUnderflowException.class, () -> DecimalCodec.decode(prefix), message);
+				assertThrows(EOFException.class, () -> Decimal.readFrom(new DataInputStream(new ByteArrayInputStream(bytes, 0, length))), message);
+			}
+		}
+	}
+
+	@Test
+	void hugeClaimedMagnitudesFailAtTheEndOfAShortStream() {
+		// an inflated value claiming 2^28 bytes of magnitude, followed by only a few
+		byte[] header = { 0x01, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x02, 1, 2, 3 };
+		assertThrows(EOFException.class, () -> Decimal.readFrom(new DataInputStream(new ByteArrayInputStream(header))));
+		assertThrows(BufferUnderflowException.class, () -> DecimalCodec.decode(header));
+	}
+
+	private static void assertRoundTrip(Decimal expected, Decimal actual) {
+		assertEquals(expected.toBigDecimal(), actual.toBigDecimal());
+		assertEquals(expected.scale(), actual.scale());
+	}
+
+	/**
+	 * Returns values of every kind: small integers, compact values with
+	 * positive and negative scales, and inflated values, including
+	 * magnitudes longer than the chunk the stream decoder starts from.
+	 */
+	private static List<Decimal> values() {
+		List<Decimal> values = new ArrayList<>();
+		for (long unscaled : new long[] { 0, 1, -1, 15, -16, 127, (1L << 61) - 1, -(1L << 61) + 1, 1L << 61, -(1L << 61), Long.MAX_VALUE, Long.MIN_VALUE + 1 })
+			for (int scale : new int[] { 0, 1, -1, 7, -300, Integer.MAX_VALUE, Integer.MIN_VALUE })
+				values.add(Decimal.valueOf(unscaled, scale));
+		Random random = new Random(42);
+		for (int bits : new int[] { 64, 65, 200, 8 * 8192, 8 * 8192 + 1, 8 * 40_000 }) {
+			BigInteger magnitude = new BigInteger(bits, random).setBit(bits - 1);
+			values.add(new Decimal(new BigDecimal(magnitude, 3)));
+			values.add(new Decimal(new BigDecimal(magnitude.negate(), -12)));
+		}
+		values.add(new Decimal(new BigDecimal(BigInteger.valueOf(Long.MIN_VALUE), 5)));
+		return values;
+	}
+
+}
@@ -0,0 +1,190 @@
+package decimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.operations.elementaryExtensions.Trigonometry;
+
+class DecimalVectorTest {
+
+	private static final MathContext[] CONTEXTS = {
+			MathContext.UNLIMITED, MathContext.DECIMAL64, new MathContext(5, RoundingMode.HALF_UP), new MathContext(30, RoundingMode.FLOOR)
+	};
+
+	@Test
+	void elementWiseOperationsMatchTheScalarOperations() {
+		Decimal[] first = operands(new Random(1), 600);
+		Decimal[] second = operands(new Random(2), 600);
+		for (MathContext context : CONTEXTS)
+			assertElementWise(first, second, context);
+	}
+
+	@Test
+	void scalarBroadcastMatchesTheScalarOperations() {
+		Decimal[] elements = operands(new Random(3), 200);
+		for (MathContext context : CONTEXTS) {
+			DecimalVector vector = DecimalVector.of(context, elements);
+			for (Decimal scalar : operands(new Random(4), 12)) {
+				assertElements(vector.add(scalar), elements, scalar, (a, b) -> a.add(b, context));
+				assertElements(vector.subtract(scalar), elements, scalar, (a, b) -> a.subtract(b, context));
+				assertElements(vector.multiply(scalar), elements, scalar, (a, b) -> a.multiply(b, context));
+				if (context.getPrecision() != 0 && scalar.signum() != 0)
+					assertElements(vector.divide(scalar), elements, scalar, (a, b) -> a.divide(b, context));
+			}
+		}
+	}
+
+	@Test
+	void compactResultsThatOverflowMoveToInflatedStorage() {
+		MathContext context = MathContext.UNLIMITED;
+		Decimal max = Decimal.valueOf(Long.MAX_VALUE);
+		Decimal min = Decimal.valueOf(Long.MIN_VALUE + 1);
+		DecimalVector vector = DecimalVector.of(context, Long.MAX_VALUE, Long.MIN_VALUE + 1, 3_037_000_500L, -7);
+		Decimal[] elements = vector.toArray();
+		assertElements(vector.add(max), elements, max, (a, b) -> a.add(b, context));
+		assertElements(vector.subtract(max), elements, max, (a, b) -> a.subtract(b, context));
+		assertElements(vector.subtract(min), elements, min, (a, b) -> a.subtract(b, context));
+		assertElements(vector.multiply(vector), elements, elements, (a, b) -> a.multiply(b, context));
+		// a product whose unscaled value is exactly the INFLATED marker
+		DecimalVector marker = DecimalVector.of(context, 1L << 62).multiply(Decimal.valueOf(-2));
+		assertEquals(BigDecimal.valueOf(Long.MIN_VALUE), marker.get(0).toBigDecimal());
+		// a scale that leaves the int range
+		DecimalVector tiny = DecimalVector.of(context, Decimal.valueOf(3, Integer.MAX_VALUE - 1));
+		assertThrows(ArithmeticException.class, () -> tiny.multiply(Decimal.valueOf(7, 5)));
+		// and back: an inflated sum that fits a long again is stored compact
+		DecimalVector big = DecimalVector.of(context, new Decimal(new BigDecimal("9223372036854775808")));
+		DecimalVector back = big.subtract(Decimal.ONE);
+		assertEquals(DecimalVector.of(context, Long.MAX_VALUE), back);
+		assertTrue(back.get(0).isCompact());
+		assertFalse(big.get(0).isCompact());
+	}
+
+	@Test
+	void sumAndDotMatchTheScalarReductions() {
+		for (int size : new int[] {0, 1, 17, 500}) {
+			Decimal[] first = operands(new Random(size), size);
+			Decimal[] second = operands(new Random(size + 1), size);
+			for (MathContext context : CONTEXTS)
+				assertReductions(first, second, context);
+		}
+	}
+
+	@Test
+	void largeVectorsRunInParallelWithTheSameResults() {
+		int size = DecimalVector.PARALLEL_THRESHOLD * 3 + 123;
+		Decimal[] first = operands(new Random(5), size);
+		Decimal[] second = operands(new Random(6), size);
+		for (MathContext context : new MathContext[] {MathContext.UNLIMITED, MathContext.DECIMAL64}) {
+			assertElementWise(first, second, context);
+			assertReductions(first, second, context);
+		}
+		MathContext context = MathContext.DECIMAL64;
+		DecimalVector vector = DecimalVector.generate(size, i -> first[i], context);
+		assertEquals(DecimalVector.of(context, first), vector);
+		Decimal[] angles = new Decimal[size];
+		for (int i = 0; i < size; i++)
+			angles[i] = Decimal.valueOf(i % 1000 - 500, 2);
+		DecimalVector sines = DecimalVector.of(context, angles).map(Trigonometry::sin);
+		for (int i = 0; i < size; i++)
+			assertEquals(Trigonometry.sin(angles[i], context).toBigDecimal(), sines.get(i).toBigDecimal(), "sin " + angles[i]);
+	}
+
+	@Test
+	void mismatchedSizesAndZeroDivisorsAreRejected() {
+		DecimalVector vector = DecimalVector.of(MathContext.DECIMAL64, 1, 2, 3);
+		assertThrows(IllegalArgumentException.class, () -> vector.add(DecimalVector.of(MathContext.DECIMAL64, 1, 2)));
+		assertThrows(IllegalArgumentException.class, () -> vector.dot(DecimalVector.of(MathContext.DECIMAL64, 1)));
+		assertThrows(ArithmeticException.class, () -> vector.divide(Decimal.ZERO));
+		assertThrows(ArithmeticException.class, () -> vector.divide(DecimalVector.of(MathContext.DECIMAL64, 1, 0, 1)));
+		assertThrows(IllegalArgumentException.class, () -> DecimalVector.generate(-1, i -> Decimal.ONE, MathContext.DECIMAL64));
+	}
+
+	/**
+	 * Checks every element-wise operation of two vectors against the
+	 * scalar operation on each pair of elements.
+	 */
+	private static void assertElementWise(Decimal[] first, Decimal[] second, MathContext context) {
+		DecimalVector x = DecimalVector.of(context, first);
+		DecimalVector y = DecimalVector.of(context, second);
+		assertElements(x.add(y), first, second, (a, b) -> a.add(b, context));
+		assertElements(x.subtract(y), first, second, (a, b) -> a.subtract(b, context));
+		assertElements(x.multiply(y), first, second, (a, b) -> a.multiply(b, context));
+		if (context.getPrecision() != 0)
+			assertElements(x.divide(y.map(d -> d.signum() == 0 ? Decimal.ONE : d)), first, nonZero(second),
+					(a, b) -> a.divide(b, context));
+	}
+
+	private static void assertElements(DecimalVector actual, Decimal[] first, Decimal scalar, BinaryOperator<Decimal> operation) {
+		Decimal[] second = new Decimal[first.length];
+		Arrays.fill(second, scalar);
+		assertElements(actual, first, second, operation);
+	}
+
+	/**
+	 * Compares with scale, and compares the storage too: a vector built from
+	 * the expected values must be equal to the computed one.
+	 */
+	private static void assertElements(DecimalVector actual, Decimal[] first, Decimal[] second, BinaryOperator<Decimal> operation) {
+		Decimal[] expected = new Decimal[first.length];
+		for (int i = 0; i < first.length; i++) {
+			expected[i] = operation.apply(first[i], second[i]);
+			assertEquals(expected[i].toBigDecimal(), actual.get(i).toBigDecimal(), first[i] + ", " + second[i]);
+		}
+		assertEquals(DecimalVector.of(actual.context(), expected), actual);
+	}
+
+	private static void assertReductions(Decimal[] first, Decimal[] second, MathContext context) {
+		DecimalVector x = DecimalVector.of(context, first);
+		DecimalVector y = DecimalVector.of(context, second);
+		assertEquals(Decimals.dot(first, second, context).toBigDecimal(), x.dot(y).toBigDecimal(), "dot " + context);
+		Decimal[] ones = new Decimal[first.length];
+		Arrays.fill(ones, Decimal.ONE);
+		assertEquals(Decimals.dot(first, ones, context).toBigDecimal(), x.sum().toBigDecimal(), "sum " + context);
+		BigDecimal exact = BigDecimal.ZERO;
+		for (Decimal value : first)
+			exact = exact.add(value.toBigDecimal());
+		assertEquals(0, exact.round(context).compareTo(x.sum().toBigDecimal()), "sum " + context);
+	}
+
+	private static Decimal[] nonZero(Decimal[] values) {
+		Decimal[] result = values.clone();
+		for (int i = 0; i < result.length; i++)
+			if (result[i].signum() == 0)
+				result[i] = Decimal.ONE;
+		return result;
+	}
+
+	/**
+	 * Returns operands covering the compact fast paths and their fallbacks:
+	 * small values, values near the {@code long} limits, inflated values,
+	 * zeros and negative scales.
+	 */
+	private static Decimal[] operands(Random random, int size) {
+		Decimal[] values = new Decimal[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = switch (random.nextInt(7)) {
+				case 0 -> Decimal.valueOf(random.nextInt(2_000) - 1_000, random.nextInt(6));
+				case 1 -> Decimal.valueOf(random.nextLong(), random.nextInt(40) - 20);
+				case 2 -> Decimal.valueOf(random.nextBoolean() ? Long.MAX_VALUE - random.nextInt(10) : Long.MIN_VALUE + random.nextInt(10), 3);
+				case 3 -> new Decimal(new BigDecimal(new BigInteger(70 + random.nextInt(100), random).negate(), random.nextInt(30)));
+				case 4 -> Decimal.valueOf(0, random.nextInt(10) - 5);
+				case 5 -> Decimal.valueOf(random.nextInt(), -random.nextInt(12));
+				default -> Decimal.valueOf(random.nextLong() >> random.nextInt(63), random.nextInt(20));
+			};
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,56 @@
+package decimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+class MutableDecimalTest {
+
+	/**
+	 * {@code -2^63}, whose unscaled value is the compact
+	 * {@link decimal.helpers.CompactArithmetic#INFLATED} marker.
+	 */
+	private static final BigDecimal MIN = new BigDecimal("-9223372036854775808");
+
+	/**
+	 * {@code 2^63}, one past the largest compact unscaled value.
+	 */
+	private static final BigDecimal MAX = new BigDecimal("9223372036854775808");
+
+	@Test
+	void addsUnscaledValuesAtTheLongBoundary() {
+		for (BigDecimal value : new BigDecimal[] { MIN, MAX, MIN.movePointLeft(5), MAX.movePointRight(3) }) {
+			assertEquals(value, new MutableDecimal().addInPlace(new Decimal(value)).toBigDecimal());
+			assertEquals(value.add(BigDecimal.ONE), new MutableDecimal(1).addInPlace(new Decimal(value)).toBigDecimal());
+		}
+		assertEquals(MIN, new MutableDecimal().addInPlace(Long.MIN_VALUE).toBigDecimal());
+		assertEquals(MIN.add(MIN), new MutableDecimal(Long.MIN_VALUE).addInPlace(Long.MIN_VALUE).toBigDecimal());
+	}
+
+	@Test
+	void multipliesUnscaledValuesAtTheLongBoundary() {
+		for (BigDecimal value : new BigDecimal[] { MIN, MAX, MIN.movePointLeft(5) }) {
+			assertEquals(value.multiply(BigDecimal.valueOf(3)),
+					new MutableDecimal(3).multiplyInPlace(new Decimal(value)).toBigDecimal());
+		}
+		assertEquals(MIN.multiply(BigDecimal.valueOf(-7)), new MutableDecimal(-7).multiplyInPlace(Long.MIN_VALUE).toBigDecimal());
+		assertEquals(MIN.negate().round(MathContext.DECIMAL32),
+				new MutableDecimal(-1).multiplyInPlace(Long.MIN_VALUE, MathContext.DECIMAL32).toBigDecimal());
+	}
+
+	@Test
+	void fusedMultiplyAddsProductsAtTheLongBoundary() {
+		BigDecimal scaled = MIN.movePointRight(15);
+		BigDecimal factor = new BigDecimal("-1.4E-9");
+		assertEquals(scaled.multiply(factor).add(BigDecimal.TEN),
+				new MutableDecimal(10).fmaInPlace(new Decimal(scaled), new Decimal(factor)).toBigDecimal());
+		assertEquals(MIN.add(BigDecimal.ONE),
+				new MutableDecimal(1).fmaInPlace(new Decimal(MIN), Decimal.ONE).toBigDecimal());
+		assertEquals(MAX.negate().multiply(MAX).subtract(BigDecimal.ONE),
+				new MutableDecimal(-1).fmaInPlace(new Decimal(MIN), new Decimal(MAX)).toBigDecimal());
+	}
+
+}
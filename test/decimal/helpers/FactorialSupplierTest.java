@@ -0,0 +1,55 @@
+package decimal.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+import decimal.operations.Factorial;
+
+class FactorialSupplierTest {
+
+	@Test
+	void advancesThroughAndPastTheTable() {
+		for (int start : new int[] {0, 3, 20, FactorialTable.DENSE_LIMIT - 2, FactorialTable.DENSE_LIMIT + 5}) {
+			FactorialSupplier supplier = new FactorialSupplier(start);
+			for (int n = start; n <= FactorialTable.DENSE_LIMIT + 20; n++) {
+				assertEquals(BigInteger.valueOf(n), supplier.currentN().toBigInteger());
+				assertEquals(Factorial.factorial(n), supplier.nextPre().toBigInteger(), "n = " + n);
+			}
+		}
+	}
+
+	@Test
+	void roundsToItsContext() {
+		MathContext context = new MathContext(25);
+		FactorialSupplier supplier = new FactorialSupplier(0, context);
+		BigDecimal running = BigDecimal.ONE;
+		for (int n = 1; n <= FactorialTable.DENSE_LIMIT + 50; n++) {
+			Decimal value = supplier.nextPost();
+			if (n <= FactorialTable.DENSE_LIMIT) {
+				running = new BigDecimal(Factorial.factorial(n)).round(context);
+				assertEquals(running, value.toBigDecimal(), "n = " + n);
+			} else {
+				running = running.multiply(BigDecimal.valueOf(n), context);
+				assertEquals(running, value.toBigDecimal(), "n = " + n);
+			}
+		}
+	}
+
+	@Test
+	void stepsMatchSingleAdvances() {
+		FactorialSupplier supplier = new FactorialSupplier(10);
+		assertEquals(Factorial.factorial(10), supplier.nextPre(500).toBigInteger());
+		assertEquals(Factorial.factorial(510), supplier.currentValue().toBigInteger());
+		assertEquals(Factorial.factorial(530), supplier.nextPost(20).toBigInteger());
+		assertThrows(IllegalArgumentException.class, () -> new FactorialSupplier(-1));
+		assertThrows(IllegalArgumentException.class, () -> new FactorialSupplier(new Decimal("2.5")));
+	}
+
+}
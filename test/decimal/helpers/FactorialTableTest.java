@@ -0,0 +1,116 @@
+package decimal.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+import decimal.operations.Factorial;
+
+class FactorialTableTest {
+
+	@BeforeEach
+	@AfterEach
+	void reset() {
+		FactorialTable.maxBits(FactorialTable.MAX_BITS);
+		FactorialTable.clear();
+	}
+
+	@Test
+	void factorialMatchesTheIterativeProductAcrossTheDenseLimit() {
+		BigInteger expected = BigInteger.ONE;
+		for (int n = 0; n <= FactorialTable.DENSE_LIMIT + 10; n++) {
+			if (n > 0)
+				expected = expected.multiply(BigInteger.valueOf(n));
+			assertEquals(expected, FactorialTable.factorial(n).toBigInteger(), "n = " + n);
+		}
+		assertThrows(IllegalArgumentException.class, () -> FactorialTable.factorial(-1));
+	}
+
+	@Test
+	void repeatedRequestsAreHits() {
+		for (int n : new int[] {20, 21, FactorialTable.DENSE_LIMIT, FactorialTable.DENSE_LIMIT + 1}) {
+			FactorialTable.clear();
+			Decimal first = FactorialTable.factorial(n);
+			long misses = FactorialTable.missCount();
+			long hits = FactorialTable.hitCount();
+			assertSame(first, FactorialTable.factorial(n), "n = " + n);
+			assertEquals(misses, FactorialTable.missCount(), "n = " + n);
+			assertEquals(hits + 1, FactorialTable.hitCount(), "n = " + n);
+		}
+		assertEquals(bits(FactorialTable.DENSE_LIMIT + 1), FactorialTable.cachedBits()); // only the last, evictable entry
+	}
+
+	@Test
+	void leastRecentlyUsedEntriesAreEvictedWithinTheBudget() {
+		long budget = bits(600) + bits(700) + bits(800) - 1;
+		FactorialTable.maxBits(budget);
+		FactorialTable.factorial(600);
+		FactorialTable.factorial(700);
+		FactorialTable.factorial(600); // 700 is now the eldest
+		assertEquals(bits(600) + bits(700), FactorialTable.cachedBits());
+
+		FactorialTable.factorial(800);
+		assertEquals(bits(600) + bits(800), FactorialTable.cachedBits());
+		long misses = FactorialTable.missCount();
+		FactorialTable.factorial(600);
+		FactorialTable.factorial(800);
+		assertEquals(misses, FactorialTable.missCount());
+		FactorialTable.factorial(700); // evicts 600, the eldest
+		assertEquals(misses + 1, FactorialTable.missCount());
+		assertEquals(bits(800) + bits(700), FactorialTable.cachedBits());
+
+		// larger than the whole budget: returned, never stored
+		long held = FactorialTable.cachedBits();
+		assertEquals(Factorial.factorial(3_000), FactorialTable.factorial(3_000).toBigInteger());
+		assertEquals(held, FactorialTable.cachedBits());
+
+		FactorialTable.maxBits(bits(700));
+		assertEquals(bits(700), FactorialTable.cachedBits()); // 700 was used last
+	}
+
+	@Test
+	void reciprocalRowsMatchDivision() {
+		MathContext context = new MathContext(40, RoundingMode.HALF_EVEN);
+		for (int n = 0; n <= FactorialTable.DENSE_LIMIT + 3; n++) {
+			BigDecimal expected = BigDecimal.ONE.divide(new BigDecimal(Factorial.factorial(n)), context);
+			assertEquals(expected, FactorialTable.reciprocal(n, context).toBigDecimal(), "n = " + n);
+		}
+		long misses = FactorialTable.missCount();
+		for (int n = 0; n <= FactorialTable.DENSE_LIMIT; n++)
+			FactorialTable.reciprocal(n, context);
+		assertEquals(misses, FactorialTable.missCount());
+
+		assertThrows(IllegalArgumentException.class, () -> FactorialTable.reciprocal(-1, context));
+		assertThrows(IllegalArgumentException.class, () -> FactorialTable.reciprocal(3, MathContext.UNLIMITED));
+	}
+
+	@Test
+	void onlyTheMostRecentReciprocalRowsAreKept() {
+		for (int precision = 1; precision <= FactorialTable.MAX_RECIPROCAL_CONTEXTS + 1; precision++)
+			FactorialTable.reciprocal(5, new MathContext(precision));
+		long misses = FactorialTable.missCount();
+		FactorialTable.reciprocal(5, new MathContext(FactorialTable.MAX_RECIPROCAL_CONTEXTS + 1));
+		FactorialTable.reciprocal(5, new MathContext(2));
+		assertEquals(misses, FactorialTable.missCount());
+		FactorialTable.reciprocal(5, new MathContext(1)); // evicted by the ninth context
+		assertEquals(misses + 1, FactorialTable.missCount());
+	}
+
+	/**
+	 * Returns the bit length of {@code n!}.
+	 */
+	private static long bits(int n) {
+		return Factorial.factorial(n).bitLength();
+	}
+
+}
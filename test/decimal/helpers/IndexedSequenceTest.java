@@ -0,0 +1,96 @@
+package decimal.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+import decimal.operations.Factorial;
+
+class IndexedSequenceTest {
+
+	@Test
+	void supplierStreamsEvaluateOnlyTheConsumedElements() {
+		LongAdder evaluations = new LongAdder();
+		IndexedSequence squares = n -> {
+			evaluations.increment();
+			return Decimal.valueOf(n * n);
+		};
+		NumberSupplier supplier = squares.supplier(3);
+		List<Decimal> taken = supplier.stream().limit(5).collect(Collectors.toList());
+		assertEquals(List.of(9L, 16L, 25L, 36L, 49L), taken.stream().map(Decimal::toLong).collect(Collectors.toList()));
+		assertEquals(5, evaluations.sum());
+		assertEquals(7, supplier.currentN().toLong()); // positioned at the last element consumed
+
+		List<BigInteger> factorials = new FactorialSupplier(0).stream().limit(30).map(Decimal::toBigInteger).collect(Collectors.toList());
+		for (int n = 0; n < 30; n++)
+			assertEquals(Factorial.factorial(n), factorials.get(n));
+	}
+
+	@Test
+	void memoizeComputesEachLeadingElementOnce() {
+		AtomicLongArray evaluations = new AtomicLongArray(100);
+		IndexedSequence sequence = n -> {
+			evaluations.incrementAndGet((int) n);
+			return Decimal.valueOf(n).multiply(Decimal.valueOf(n));
+		};
+		IndexedSequence memoized = sequence.memoize(50);
+		List<Decimal> values = memoized.stream(0, 100).parallel().collect(Collectors.toList());
+		for (int round = 0; round < 3; round++)
+			memoized.stream(0, 100).parallel().forEach(value -> { });
+		for (int n = 0; n < 100; n++) {
+			assertEquals(n * (long) n, values.get(n).toLong());
+			if (n < 50) {
+				assertEquals(1, evaluations.get(n), "n = " + n); // each pass reads an index once, so no races
+				assertSame(memoized.get(n), memoized.get(n));
+			} else
+				assertEquals(4, evaluations.get(n), "n = " + n);
+		}
+		assertThrows(IllegalArgumentException.class, () -> sequence.memoize(-1));
+	}
+
+	@Test
+	void spliteratorsSplitIntoDisjointSizedHalves() {
+		IndexedSequence identity = Decimal::valueOf;
+		Spliterator<Decimal> whole = identity.spliterator(10, 1_010);
+		assertEquals(1_000, whole.estimateSize());
+		assertEquals(1_000, whole.getExactSizeIfKnown());
+		assertTrue(whole.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+
+		Spliterator<Decimal> prefix = whole.trySplit();
+		assertEquals(500, prefix.estimateSize());
+		assertEquals(500, whole.estimateSize());
+		List<Long> indices = new ArrayList<>();
+		prefix.forEachRemaining(value -> indices.add(value.toLong()));
+		assertTrue(whole.tryAdvance(value -> indices.add(value.toLong())));
+		assertEquals(499, whole.estimateSize());
+		whole.forEachRemaining(value -> indices.add(value.toLong()));
+		assertEquals(LongStream.range(10, 1_010).boxed().collect(Collectors.toList()), indices);
+		assertFalse(whole.tryAdvance(value -> { }));
+		assertEquals(0, whole.estimateSize());
+
+		Spliterator<Decimal> single = identity.spliterator(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+		assertNull(single.trySplit());
+		assertEquals(1, single.estimateSize());
+		assertNull(identity.spliterator(5, 5).trySplit());
+		assertThrows(IllegalArgumentException.class, () -> identity.spliterator(5, 4));
+
+		assertEquals(LongStream.range(0, 10_000).sum(),
+				identity.stream(0, 10_000).parallel().mapToLong(Decimal::toLong).sum());
+	}
+
+}
@@ -0,0 +1,63 @@
+package decimal.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class ReproducibleSumTest {
+
+	/**
+	 * {@code -2^63}, whose unscaled value is the compact
+	 * {@link CompactArithmetic#INFLATED} marker.
+	 */
+	private static final BigDecimal MIN = new BigDecimal("-9223372036854775808");
+
+	@Test
+	void addsUnscaledValuesAtTheLongBoundary() {
+		ReproducibleSum sum = new ReproducibleSum().add(new Decimal(MIN)).add(new Decimal(MIN.negate()));
+		assertEquals(BigDecimal.ZERO, sum.exact().toBigDecimal());
+		assertEquals(2, sum.count());
+
+		ReproducibleSum other = new ReproducibleSum().add(new Decimal(MIN.movePointLeft(4)));
+		assertEquals(MIN.movePointLeft(4), sum.merge(other).exact().toBigDecimal());
+	}
+
+	@Test
+	void resultDoesNotDependOnTheOrderOfTheTerms() {
+		Random random = new Random(42);
+		List<Decimal> terms = new ArrayList<>();
+		BigDecimal expected = BigDecimal.ZERO;
+		for (int i = 0; i < 2_000; i++) {
+			BigDecimal term = i % 100 == 0 ? MIN.movePointLeft(i % 7) : BigDecimal.valueOf(random.nextLong(), random.nextInt(40) - 20);
+			terms.add(new Decimal(term));
+			expected = expected.add(term);
+		}
+		MathContext context = MathContext.DECIMAL64;
+		Decimal sequential = terms.stream().collect(ReproducibleSum.collector(context));
+		Collections.shuffle(terms, random);
+		Decimal parallel = terms.parallelStream().collect(ReproducibleSum.collector(context));
+		assertEquals(expected.round(context), sequential.toBigDecimal());
+		assertEquals(sequential.toBigDecimal(), parallel.toBigDecimal());
+	}
+
+	@Test
+	void summationReproducibleAcceptsUnscaledValuesAtTheLongBoundary() {
+		Decimal term = new Decimal(MIN);
+		Summation summation = new Summation(i -> term);
+		MathContext context = MathContext.DECIMAL128;
+		BigDecimal expected = MIN.multiply(BigDecimal.valueOf(1_000)).round(context);
+		assertEquals(expected, summation.sumReproducible(1, 1_000, context, ForkJoinPool.commonPool()).toBigDecimal());
+		assertEquals(expected, summation.sum(1, 1_000, context).toBigDecimal());
+	}
+
+}
@@ -0,0 +1,60 @@
+package decimal.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowTest {
+
+	/**
+	 * Largest bit length of the exponent for each window size, as in
+	 * {@link BigInteger#modPow}.
+	 */
+	private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+
+	@Test
+	void windowSizeChangesAtEveryThreshold() {
+		assertEquals(1, SlidingWindow.windowSize(0));
+		for (int k = 1; k <= WINDOW_THRESHOLDS.length; k++) {
+			assertEquals(k, SlidingWindow.windowSize(WINDOW_THRESHOLDS[k - 1]));
+			assertEquals(k + 1, SlidingWindow.windowSize(WINDOW_THRESHOLDS[k - 1] + 1));
+		}
+		assertEquals(7, SlidingWindow.windowSize(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void scheduleReplaysToTheExponent() {
+		Random random = new Random(7);
+		assertEquals(BigInteger.ZERO, replay(BigInteger.ZERO, 1));
+		for (int threshold : WINDOW_THRESHOLDS) {
+			for (int bits = threshold - 1; bits <= threshold + 1; bits++) {
+				for (int trial = 0; trial < 20; trial++) {
+					BigInteger exponent = new BigInteger(bits, random).setBit(bits - 1);
+					if (trial == 0)
+						exponent = BigInteger.ONE.shiftLeft(bits - 1); // a single window, then zeros
+					assertEquals(exponent, replay(exponent, SlidingWindow.windowSize(bits)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds an exponent from its schedule, checking that every window
+	 * value is odd and fits the window.
+	 */
+	private static BigInteger replay(BigInteger exponent, int window) {
+		int[] schedule = SlidingWindow.schedule(exponent, window);
+		BigInteger result = BigInteger.ZERO;
+		int last = schedule.length - 1;
+		for (int i = 0; i < last; i += 2) {
+			assertTrue((schedule[i + 1] & 1) == 1 && schedule[i + 1] < 1 << window);
+			result = result.shiftLeft(schedule[i]).add(BigInteger.valueOf(schedule[i + 1]));
+		}
+		return result.shiftLeft(schedule[last]);
+	}
+
+}
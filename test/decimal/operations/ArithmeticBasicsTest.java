@@ -0,0 +1,43 @@
+package decimal.operations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class ArithmeticBasicsTest {
+
+	@Test
+	void dotProductKeepsThePreferredScaleOfTheProducts() {
+		MathContext context = new MathContext(10);
+		Decimal first = new Decimal(new BigDecimal("1.9006102206E+15"));
+		Decimal second = new Decimal(new BigDecimal("1E+14"));
+		Decimal product = ArithmeticBasics.dotProduct(new Decimal[] { first }, new Decimal[] { second }, context);
+		assertEquals(new BigDecimal("1.900610221E+29"), product.toBigDecimal());
+		assertEquals(first.toBigDecimal().multiply(second.toBigDecimal(), MathContext.DECIMAL64),
+				ArithmeticBasics.dotProduct(new Decimal[] { first }, new Decimal[] { second }, MathContext.DECIMAL64).toBigDecimal());
+		assertEquals(ArithmeticBasics.fusedMultiplyAdd(first, second, Decimal.ZERO, context).toBigDecimal(), product.toBigDecimal());
+
+		Decimal[] column = { first, new Decimal(new BigDecimal("-2E+20")) };
+		Decimal[] weights = { second, new Decimal(new BigDecimal("3E+8")) };
+		BigDecimal expected = first.toBigDecimal().multiply(second.toBigDecimal())
+				.add(column[1].toBigDecimal().multiply(weights[1].toBigDecimal())).round(context);
+		assertEquals(expected, ArithmeticBasics.dotProduct(column, weights, context).toBigDecimal());
+	}
+
+	@Test
+	void dotProductAcceptsUnscaledValuesAtTheLongBoundary() {
+		MathContext context = MathContext.DECIMAL128;
+		BigDecimal x = new BigDecimal("-9.223372036854775808E+33");
+		BigDecimal y = new BigDecimal("-1.4E-9");
+		Decimal[] first = { Decimal.ONE, new Decimal(x) };
+		Decimal[] second = { Decimal.ONE, new Decimal(y) };
+		assertEquals(x.multiply(y).add(BigDecimal.ONE).round(context),
+				ArithmeticBasics.dotProduct(first, second, context).toBigDecimal());
+	}
+
+}
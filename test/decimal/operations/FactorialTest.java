@@ -0,0 +1,44 @@
+package decimal.operations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+class FactorialTest {
+
+	@Test
+	void factorialMatchesTheIterativeProduct() {
+		BigInteger expected = BigInteger.ONE;
+		for (int n = 0; n <= 2_100; n++) { // table, product tree, and prime swing from 1024
+			if (n > 0)
+				expected = expected.multiply(BigInteger.valueOf(n));
+			assertEquals(expected, Factorial.factorial(n), "n = " + n);
+		}
+	}
+
+	@Test
+	void productTreesAboveTheForkJoinThresholdMatch() {
+		// ten thousand factors pack into thousands of leaves, well over 256
+		BigInteger expected = BigInteger.ONE;
+		for (int i = 100_000; i <= 110_000; i++)
+			expected = expected.multiply(BigInteger.valueOf(i));
+		assertEquals(expected, Factorial.product(100_000, 110_000));
+
+		// prime swing with parallel swings and parallelMultiply near the root
+		assertEquals(Factorial.product(1, 40_000), Factorial.factorial(40_000));
+	}
+
+	@Test
+	void productHandlesEmptyAndExtremeRanges() {
+		assertEquals(BigInteger.ONE, Factorial.product(5, 4));
+		assertEquals(BigInteger.valueOf(7), Factorial.product(7, 7));
+		BigInteger max = BigInteger.valueOf(Integer.MAX_VALUE);
+		assertEquals(max.multiply(max.subtract(BigInteger.ONE)), Factorial.product(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+		assertThrows(IllegalArgumentException.class, () -> Factorial.product(0, 3));
+		assertThrows(IllegalArgumentException.class, () -> Factorial.factorial(-1));
+	}
+
+}
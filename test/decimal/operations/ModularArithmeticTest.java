@@ -0,0 +1,117 @@
+package decimal.operations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class ModularArithmeticTest {
+
+	private static final BigInteger TWO_63 = BigInteger.ONE.shiftLeft(63);
+
+	/**
+	 * Moduli around the edges of the compact and Montgomery paths.
+	 */
+	private static final BigInteger[] MODULI = {
+			BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3), BigInteger.valueOf(97), BigInteger.valueOf(1L << 32),
+			BigInteger.valueOf((1L << 32) + 15), BigInteger.valueOf((1L << 62) + 1), BigInteger.valueOf(Long.MAX_VALUE - 2),
+			BigInteger.valueOf(Long.MAX_VALUE - 1), BigInteger.valueOf(Long.MAX_VALUE), TWO_63, TWO_63.add(BigInteger.ONE),
+			BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE)
+	};
+
+	@Test
+	void moduloHasFloorSemantics() {
+		for (BigInteger a : operands(new Random(1))) {
+			for (BigInteger m : MODULI) {
+				for (BigInteger divisor : new BigInteger[] {m, m.negate()}) {
+					BigInteger expected = a.mod(m);
+					if (divisor.signum() < 0 && expected.signum() != 0)
+						expected = expected.subtract(m);
+					assertEquals(expected, ModularArithmetic.modulo(new Decimal(a), new Decimal(divisor)).toBigInteger(), a + " mod " + divisor);
+				}
+			}
+		}
+		assertEquals(BigInteger.valueOf(-1), ModularArithmetic.modulo(Decimal.valueOf(Long.MIN_VALUE + 1), Decimal.valueOf(-2)).toBigInteger());
+		assertThrows(ArithmeticException.class, () -> ModularArithmetic.modulo(Decimal.ONE, Decimal.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> ModularArithmetic.modulo(new Decimal("1.5"), Decimal.TWO));
+	}
+
+	@Test
+	void modMultiplyMatchesBigInteger() {
+		Random random = new Random(2);
+		List<BigInteger> operands = operands(random);
+		for (BigInteger m : MODULI) {
+			for (int trial = 0; trial < 200; trial++) {
+				BigInteger a = operands.get(random.nextInt(operands.size()));
+				BigInteger b = operands.get(random.nextInt(operands.size()));
+				BigInteger expected = a.multiply(b).mod(m);
+				assertEquals(expected, ModularArithmetic.modMultiply(new Decimal(a), new Decimal(b), new Decimal(m)).toBigInteger());
+				assertEquals(expected, new ModularArithmetic.Montgomery(new Decimal(m)).modMultiply(new Decimal(a), new Decimal(b)).toBigInteger());
+			}
+		}
+	}
+
+	@Test
+	void modPowMatchesBigInteger() {
+		Random random = new Random(3);
+		List<BigInteger> operands = operands(random);
+		for (BigInteger m : MODULI) {
+			ModularArithmetic.Montgomery montgomery = new ModularArithmetic.Montgomery(new Decimal(m));
+			for (int trial = 0; trial < 100; trial++) {
+				BigInteger base = operands.get(random.nextInt(operands.size()));
+				BigInteger exponent = new BigInteger(random.nextInt(300), random);
+				assertEquals(base.modPow(exponent, m), ModularArithmetic.modPow(new Decimal(base), new Decimal(exponent), new Decimal(m)).toBigInteger());
+				if (base.gcd(m).equals(BigInteger.ONE))
+					assertEquals(base.modPow(exponent.negate(), m), montgomery.modPow(new Decimal(base), new Decimal(exponent.negate())).toBigInteger());
+			}
+			BigInteger exponent = new BigInteger(1_000, random);
+			Decimal[] bases = operands.stream().limit(20).map(Decimal::new).toArray(Decimal[]::new);
+			Decimal[] powers = montgomery.modPow(bases, new Decimal(exponent));
+			for (int i = 0; i < bases.length; i++)
+				assertEquals(bases[i].toBigInteger().modPow(exponent, m), powers[i].toBigInteger());
+		}
+		assertThrows(ArithmeticException.class, () -> ModularArithmetic.modPow(Decimal.TWO, Decimal.valueOf(-1), Decimal.valueOf(4)));
+		assertThrows(ArithmeticException.class, () -> ModularArithmetic.modPow(Decimal.TWO, Decimal.ONE, Decimal.ZERO));
+	}
+
+	@Test
+	void modInverseMatchesBigInteger() {
+		Random random = new Random(4);
+		for (BigInteger a : operands(random)) {
+			for (BigInteger m : MODULI) {
+				if (a.gcd(m).equals(BigInteger.ONE))
+					assertEquals(a.modInverse(m), ModularArithmetic.modInverse(new Decimal(a), new Decimal(m)).toBigInteger(), a + "^-1 mod " + m);
+				else
+					assertThrows(ArithmeticException.class, () -> ModularArithmetic.modInverse(new Decimal(a), new Decimal(m)));
+			}
+		}
+		assertThrows(ArithmeticException.class, () -> ModularArithmetic.modInverse(Decimal.ONE, Decimal.valueOf(-5)));
+	}
+
+	/**
+	 * Returns small, word-sized and multi-word integers of both signs.
+	 */
+	private static List<BigInteger> operands(Random random) {
+		List<BigInteger> operands = new ArrayList<>();
+		for (long value : new long[] {0, 1, 2, 3, 96, Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, Long.MIN_VALUE}) {
+			operands.add(BigInteger.valueOf(value));
+			operands.add(BigInteger.valueOf(value).negate());
+		}
+		for (int i = 0; i < 30; i++) {
+			operands.add(BigInteger.valueOf(random.nextLong()));
+			operands.add(new BigInteger(64 + random.nextInt(100), random).negate());
+			operands.add(new BigInteger(64 + random.nextInt(100), random));
+		}
+		operands.add(TWO_63);
+		operands.add(TWO_63.negate());
+		return operands;
+	}
+
+}
@@ -0,0 +1,104 @@
+package decimal.operations.elementaryExtensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class ExponentiationTest {
+
+	/**
+	 * Largest bit length of the exponent for each window size.
+	 */
+	private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+
+	@Test
+	void integerPowerMatchesBigDecimalPow() {
+		Random random = new Random(13);
+		for (int exponent : new int[] {1, 2, 3, 127, 128, 129, 33_554_431, 33_554_432, 999_999_999}) {
+			for (int trial = 0; trial < 20; trial++) {
+				BigDecimal base = BigDecimal.valueOf(random.nextLong(), 18).abs().add(BigDecimal.ONE).movePointLeft(random.nextInt(3));
+				MathContext context = new MathContext(1 + random.nextInt(60), RoundingMode.HALF_EVEN);
+				if (exponent < 1_000) {
+					assertEquals(base.pow(exponent).round(context), power(base, exponent, context));
+					assertEquals(BigDecimal.ONE.divide(base.pow(exponent), context), power(base, -exponent, context));
+				} else {
+					MathContext wide = new MathContext(context.getPrecision() + 30);
+					assertEquals(base.pow(exponent, wide).round(context), power(base, exponent, context));
+					assertEquals(BigDecimal.ONE.divide(base.pow(exponent, wide), context), power(base, -exponent, context));
+				}
+			}
+		}
+	}
+
+	@Test
+	void integerPowerIsExactWhenUnlimited() {
+		BigDecimal base = new BigDecimal("-1.0000000000000000000003");
+		for (int exponent = 0; exponent <= 300; exponent++)
+			assertEquals(base.pow(exponent), power(base, exponent, MathContext.UNLIMITED));
+	}
+
+	@Test
+	void integerPowerAcceptsExponentsAtEveryWindowBoundary() {
+		Random random = new Random(17);
+		for (int threshold : WINDOW_THRESHOLDS) {
+			for (int bits : new int[] {threshold, threshold + 1}) {
+				BigInteger exponent = new BigInteger(bits, random).setBit(bits - 1);
+				int digits = exponent.toString().length();
+				// close enough to 1 that the power neither overflows nor rounds to 1
+				BigDecimal base = BigDecimal.ONE.add(new BigDecimal("7E-" + (digits + 20)));
+				MathContext context = new MathContext(digits + 40);
+				BigDecimal expected = binaryPower(base, exponent, new MathContext(context.getPrecision() + digits + 60));
+				assertEquals(expected.round(context),
+						Exponentiation.integerPower(new Decimal(base), exponent, context).toBigDecimal(), "bits " + bits);
+				assertEquals(BigDecimal.ONE.divide(expected, context),
+						Exponentiation.integerPower(new Decimal(base), exponent.negate(), context).toBigDecimal(), "bits " + bits);
+				BigDecimal signed = exponent.testBit(0) ? expected.negate() : expected;
+				assertEquals(signed.round(context),
+						Exponentiation.integerPower(new Decimal(base.negate()), exponent, context).toBigDecimal(), "bits " + bits);
+			}
+		}
+	}
+
+	@Test
+	void integerPowerHandlesTrivialBases() {
+		BigInteger huge = BigInteger.ONE.shiftLeft(2_000).add(BigInteger.ONE);
+		MathContext context = MathContext.DECIMAL64;
+		assertEquals(BigDecimal.ONE, Exponentiation.integerPower(Decimal.ONE.negate(), huge.subtract(BigInteger.ONE), context).toBigDecimal());
+		assertEquals(BigDecimal.ONE.negate(), Exponentiation.integerPower(Decimal.ONE.negate(), huge.negate(), context).toBigDecimal());
+		assertEquals(BigDecimal.ZERO, Exponentiation.integerPower(Decimal.ZERO, huge, context).toBigDecimal());
+		assertEquals(BigDecimal.ONE, Exponentiation.integerPower(Decimal.ZERO, BigInteger.ZERO, context).toBigDecimal());
+		assertThrows(ArithmeticException.class, () -> Exponentiation.integerPower(Decimal.ZERO, -1, context));
+	}
+
+	/**
+	 * Computes {@code base^exponent} through {@link Exponentiation#integerPower(Decimal, long, MathContext)}.
+	 */
+	private static BigDecimal power(BigDecimal base, long exponent, MathContext context) {
+		return Exponentiation.integerPower(new Decimal(base), exponent, context).toBigDecimal();
+	}
+
+	/**
+	 * Reference power by plain right-to-left binary exponentiation at a wide
+	 * precision, independent of the sliding windows under test.
+	 */
+	private static BigDecimal binaryPower(BigDecimal base, BigInteger exponent, MathContext context) {
+		BigDecimal result = BigDecimal.ONE;
+		BigDecimal square = base;
+		for (int i = 0; i < exponent.bitLength(); i++) {
+			if (exponent.testBit(i))
+				result = result.multiply(square, context);
+			square = square.multiply(square, context);
+		}
+		return result;
+	}
+
+}
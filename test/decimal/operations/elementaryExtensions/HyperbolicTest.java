@@ -0,0 +1,124 @@
+package decimal.operations.elementaryExtensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class HyperbolicTest {
+
+	private static final MathContext[] CONTEXTS = {
+			new MathContext(20), MathContext.DECIMAL128, new MathContext(120), new MathContext(25, RoundingMode.FLOOR)
+	};
+
+	private static final String[] ARGUMENTS = {
+			"1E-30", "-0.001", "0.3", "-0.49", "0.5", "-0.5", "1", "-2.5", "10", "100", "-1000"
+	};
+
+	/**
+	 * Below this, {@code f(x) − x} for the odd functions lies beyond every
+	 * guard digit, so directed rounding of {@code f(x)} cannot be decided.
+	 */
+	private static final BigDecimal TINY = new BigDecimal("1E-20");
+
+	@Test
+	void sinhCoshAndTanhMatchTheReference() {
+		for (MathContext context : CONTEXTS) {
+			for (String argument : ARGUMENTS) {
+				BigDecimal x = new BigDecimal(argument);
+				if (undecidable(x, context))
+					continue;
+				Decimal decimal = new Decimal(x);
+				BigDecimal sinh = Reference.sinh(x, context);
+				BigDecimal cosh = Reference.cosh(x, context);
+				assertSameValue(sinh, Hyperbolic.sinh(decimal, context), "sinh " + x + " " + context);
+				assertSameValue(cosh, Hyperbolic.cosh(decimal, context), "cosh " + x + " " + context);
+				Hyperbolic.SinhCosh sinhcosh = Hyperbolic.sinhcosh(decimal, context);
+				assertSameValue(sinh, sinhcosh.sinh(), "sinhcosh.sinh " + x + " " + context);
+				assertSameValue(cosh, sinhcosh.cosh(), "sinhcosh.cosh " + x + " " + context);
+				assertSameValue(Reference.tanh(x, context), Hyperbolic.tanh(decimal, context), "tanh " + x + " " + context);
+			}
+		}
+	}
+
+	@Test
+	void tanhAroundTheSaturationCutoff() {
+		for (RoundingMode mode : new RoundingMode[] {RoundingMode.HALF_EVEN, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR}) {
+			MathContext context = new MathContext(30, mode);
+			// the cutoff of Hyperbolic.tanh at its working precision
+			int precision = context.getPrecision() + Exponentiation.GUARD_DIGITS;
+			long cutoff = (long) Math.ceil(((precision + 1) * Math.log(10) + Math.log(2)) / 2);
+			for (long offset = -1; offset <= 1; offset++) {
+				for (BigDecimal x : new BigDecimal[] {BigDecimal.valueOf(cutoff + offset), BigDecimal.valueOf(-(cutoff + offset))}) {
+					assertSameValue(Reference.tanh(x, context), Hyperbolic.tanh(new Decimal(x), context), "tanh " + x + " " + mode);
+				}
+			}
+		}
+	}
+
+	@Test
+	void inverseFunctionsMatchTheReference() {
+		for (MathContext context : CONTEXTS) {
+			for (String argument : ARGUMENTS) {
+				BigDecimal x = new BigDecimal(argument);
+				if (undecidable(x, context))
+					continue;
+				assertSameValue(Reference.asinh(x, context), Hyperbolic.asinh(new Decimal(x), context), "asinh " + x + " " + context);
+			}
+			for (String argument : new String[] {"1.0000000001", "1.5", "1.99", "2", "3", "1E+6"}) {
+				BigDecimal x = new BigDecimal(argument);
+				assertSameValue(Reference.acosh(x, context), Hyperbolic.acosh(new Decimal(x), context), "acosh " + x + " " + context);
+			}
+			assertEquals(0, Hyperbolic.acosh(Decimal.ONE, context).signum());
+			for (String argument : new String[] {"1E-30", "-0.2", "0.49", "0.5", "-0.75", "0.999999999", "-0.9999999999999", "0.999999999999999999999999999999"}) {
+				BigDecimal x = new BigDecimal(argument);
+				if (undecidable(x, context))
+					continue;
+				assertSameValue(Reference.atanh(x, context), Hyperbolic.atanh(new Decimal(x), context), "atanh " + x + " " + context);
+			}
+		}
+	}
+
+	@Test
+	void precisionsWithMoreThanSixtyThreeHalvings() {
+		MathContext context = new MathContext(4_000); // sqrt(4010) halvings in the atanh kernel
+		for (String argument : new String[] {"0.3", "-0.45"}) {
+			BigDecimal x = new BigDecimal(argument);
+			assertSameValue(Reference.atanh(x, context), Hyperbolic.atanh(new Decimal(x), context), "atanh " + x);
+		}
+		BigDecimal x = new BigDecimal("1.2");
+		assertSameValue(Reference.acosh(x, context), Hyperbolic.acosh(new Decimal(x), context), "acosh " + x);
+	}
+
+	@Test
+	void argumentsOutsideTheDomainAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> Hyperbolic.acosh(new Decimal("0.999"), MathContext.DECIMAL64));
+		assertThrows(IllegalArgumentException.class, () -> Hyperbolic.atanh(Decimal.ONE, MathContext.DECIMAL64));
+		assertThrows(IllegalArgumentException.class, () -> Hyperbolic.atanh(Decimal.ONE.negate(), MathContext.DECIMAL64));
+		assertThrows(ArithmeticException.class, () -> Hyperbolic.sinhcosh(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Hyperbolic.tanh(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Hyperbolic.atanh(Decimal.HALF, MathContext.UNLIMITED));
+	}
+
+	private static boolean undecidable(BigDecimal x, MathContext context) {
+		RoundingMode mode = context.getRoundingMode();
+		boolean directed = mode != RoundingMode.HALF_EVEN && mode != RoundingMode.HALF_UP && mode != RoundingMode.HALF_DOWN;
+		return directed && x.abs().compareTo(TINY) < 0;
+	}
+
+	/**
+	 * Compares numerically: results that are exact or tiny may carry fewer
+	 * trailing zeros than the rounded reference.
+	 */
+	private static void assertSameValue(BigDecimal expected, Decimal actual, String message) {
+		BigDecimal value = actual.toBigDecimal();
+		assertEquals(0, expected.compareTo(value), () -> message + ": expected " + expected + " but was " + value);
+	}
+
+}
@@ -0,0 +1,100 @@
+package decimal.operations.elementaryExtensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class InverseTrigonometryTest {
+
+	private static final String[] ARGUMENTS = {
+			"1E-40", "-1E-9", "0.001", "0.1", "-0.3", "0.5", "0.7071067811865475244", "-0.9", "0.99", "0.9999999999", "1", "-1",
+			"1.0000000001", "2", "-3.5", "10", "12345.678", "-1E+20"
+	};
+
+	@Test
+	void arctanAndArccotMatchTheReference() {
+		for (MathContext context : new MathContext[] {new MathContext(20), MathContext.DECIMAL128, new MathContext(150)}) {
+			BigDecimal pi = Reference.pi(new MathContext(context.getPrecision() + Reference.EXTRA_DIGITS));
+			for (String argument : ARGUMENTS) {
+				BigDecimal x = new BigDecimal(argument);
+				BigDecimal atan = Reference.atan(x, new MathContext(context.getPrecision() + Reference.EXTRA_DIGITS));
+				assertSameValue(atan.round(context), Trigonometry.arctan(new Decimal(x), context), "atan " + x);
+				// arccot(x) = π/2 − arctan(x), in (0, π)
+				BigDecimal acot = pi.divide(BigDecimal.valueOf(2)).subtract(atan).round(context);
+				assertSameValue(acot, Trigonometry.arccot(new Decimal(x), context), "acot " + x);
+			}
+			assertSameValue(pi.divide(BigDecimal.valueOf(2)).round(context), Trigonometry.arccot(Decimal.ZERO, context));
+		}
+	}
+
+	@Test
+	void arcsinAndArccosMatchTheReference() {
+		for (MathContext context : new MathContext[] {new MathContext(20), MathContext.DECIMAL128, new MathContext(150)}) {
+			MathContext wide = new MathContext(context.getPrecision() + Reference.EXTRA_DIGITS);
+			BigDecimal pi = Reference.pi(wide);
+			for (String argument : ARGUMENTS) {
+				BigDecimal x = new BigDecimal(argument);
+				if (x.abs().compareTo(BigDecimal.ONE) > 0) {
+					assertThrows(IllegalArgumentException.class, () -> Trigonometry.arcsin(new Decimal(x), context));
+					assertThrows(IllegalArgumentException.class, () -> Trigonometry.arccos(new Decimal(x), context));
+					continue;
+				}
+				BigDecimal asin;
+				BigDecimal acos;
+				if (x.abs().compareTo(BigDecimal.ONE) == 0) {
+					asin = pi.divide(BigDecimal.valueOf(2 * x.signum()));
+					acos = x.signum() > 0 ? BigDecimal.ZERO : pi;
+				} else {
+					// asin(x) = atan(x / √(1 − x²)), acos(x) = 2 atan(√((1 − x) / (1 + x))), evaluated wide
+					MathContext wider = new MathContext(wide.getPrecision() + 20);
+					asin = Reference.atan(x.divide(BigDecimal.ONE.subtract(x.multiply(x)).sqrt(wider), wider), wide);
+					acos = Reference.atan(BigDecimal.ONE.subtract(x).divide(BigDecimal.ONE.add(x), wider).sqrt(wider), wide)
+							.multiply(BigDecimal.valueOf(2));
+				}
+				assertSameValue(asin.round(context), Trigonometry.arcsin(new Decimal(x), context), "asin " + x);
+				assertSameValue(acos.round(context), Trigonometry.arccos(new Decimal(x), context), "acos " + x);
+			}
+		}
+	}
+
+	@Test
+	void precisionsWithMoreThanSixtyThreeHalvings() {
+		MathContext context = new MathContext(4_100); // sqrt(4110) halvings
+		BigDecimal x = new BigDecimal("0.3");
+		MathContext wide = new MathContext(context.getPrecision() + Reference.EXTRA_DIGITS);
+		BigDecimal atan = Reference.atan(x, wide);
+		assertSameValue(atan.round(context), Trigonometry.arctan(new Decimal(x), context));
+		BigDecimal pi = Reference.pi(wide);
+		assertSameValue(pi.divide(BigDecimal.valueOf(2)).subtract(atan).round(context),
+				Trigonometry.arccot(new Decimal(x), context));
+		assertSameValue(pi.divide(BigDecimal.valueOf(4)).round(context), Trigonometry.arctan(Decimal.ONE, context));
+	}
+
+	@Test
+	void unlimitedPrecisionIsRejected() {
+		assertThrows(ArithmeticException.class, () -> Trigonometry.arctan(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Trigonometry.arccot(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Trigonometry.arcsin(Decimal.HALF, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Trigonometry.arccos(Decimal.HALF, MathContext.UNLIMITED));
+	}
+
+	private static void assertSameValue(BigDecimal expected, Decimal actual) {
+		assertSameValue(expected, actual, null);
+	}
+
+	/**
+	 * Compares numerically: results that are exact or tiny may carry fewer
+	 * trailing zeros than the rounded reference.
+	 */
+	private static void assertSameValue(BigDecimal expected, Decimal actual, String message) {
+		BigDecimal value = actual.toBigDecimal();
+		assertEquals(0, expected.compareTo(value), () -> (message == null ? "" : message + " ") + "expected " + expected + " but was " + value);
+	}
+
+}
@@ -0,0 +1,252 @@
+package decimal.operations.elementaryExtensions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Reference implementations of the elementary functions on
+ * {@link BigDecimal}, for checking the library against.
+ *
+ * <p>Every function is evaluated with plain Taylor series and textbook
+ * identities at {@link #EXTRA_DIGITS} more digits than requested and then
+ * rounded once, so it shares no code or algorithm with the library.</p>
+ */
+final class Reference {
+
+	/**
+	 * Digits carried beyond the requested precision.
+	 */
+	static final int EXTRA_DIGITS = 30;
+
+	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+	private Reference() {
+	}
+
+	/**
+	 * Returns {@code π} by Machin's formula {@code 16 atan(1/5) − 4 atan(1/239)}.
+	 */
+	static BigDecimal pi(MathContext context) {
+		MathContext wide = wide(context, 0);
+		BigDecimal pi = atanReciprocal(5, wide).multiply(BigDecimal.valueOf(16))
+				.subtract(atanReciprocal(239, wide).multiply(BigDecimal.valueOf(4)));
+		return pi.round(context);
+	}
+
+	/**
+	 * Returns {@code sin(x)}.
+	 */
+	static BigDecimal sin(BigDecimal x, MathContext context) {
+		return sincos(x, context, true);
+	}
+
+	/**
+	 * Returns {@code cos(x)}.
+	 */
+	static BigDecimal cos(BigDecimal x, MathContext context) {
+		return sincos(x, context, false);
+	}
+
+	/**
+	 * Returns {@code atan(x)}, using {@code atan(x) = 2 atan(x / (1 + √(1 + x²)))}
+	 * until the series converges quickly.
+	 */
+	static BigDecimal atan(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, 0);
+		int doublings = 0;
+		BigDecimal y = x;
+		while (y.abs().compareTo(new BigDecimal("0.01")) > 0) {
+			y = y.divide(BigDecimal.ONE.add(BigDecimal.ONE.add(y.multiply(y, wide)).sqrt(wide)), wide);
+			doublings++;
+		}
+		BigDecimal square = y.multiply(y, wide);
+		BigDecimal term = y;
+		BigDecimal sum = y;
+		BigDecimal epsilon = BigDecimal.ONE.movePointLeft(wide.getPrecision() + 5);
+		for (int k = 3; term.abs().compareTo(epsilon) > 0; k += 2) {
+			term = term.multiply(square, wide).negate();
+			sum = sum.add(term.divide(BigDecimal.valueOf(k), wide), wide);
+		}
+		return sum.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(doublings))).round(context);
+	}
+
+	/**
+	 * Returns {@code e^x}, by the Taylor series of {@code e^(x / 2^k)} squared
+	 * {@code k} times.
+	 */
+	static BigDecimal exp(BigDecimal x, MathContext context) {
+		int k = Math.max(0, (int) Math.ceil(Math.log(Math.abs(x.doubleValue()) + 1) / Math.log(2)) + 8);
+		MathContext wide = wide(context, k);
+		BigDecimal y = x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(k)), wide);
+		BigDecimal term = BigDecimal.ONE;
+		BigDecimal sum = BigDecimal.ONE;
+		BigDecimal epsilon = BigDecimal.ONE.movePointLeft(wide.getPrecision() + 5);
+		for (int n = 1; term.abs().compareTo(epsilon) > 0; n++) {
+			term = term.multiply(y, wide).divide(BigDecimal.valueOf(n), wide);
+			sum = sum.add(term, wide);
+		}
+		for (int i = 0; i < k; i++)
+			sum = sum.multiply(sum, wide);
+		return sum.round(context);
+	}
+
+	/**
+	 * Returns {@code ln(x)} for a positive {@code x}, as
+	 * {@code k ln(2) + 2 atanh((m − 1) / (m + 1))} with {@code x = m·2^k}.
+	 */
+	static BigDecimal ln(BigDecimal x, MathContext context) {
+		int k = x.unscaledValue().bitLength() - (int) Math.ceil(x.scale() * Math.log(10) / Math.log(2));
+		MathContext wide = wide(context, Math.abs(k) / 3 + 10);
+		BigDecimal m = k >= 0 ? x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(k)), wide)
+				: x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(-k)));
+		BigDecimal lnM = TWO.multiply(atanhSeries(m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), wide), wide));
+		BigDecimal ln2 = TWO.multiply(atanhSeries(BigDecimal.ONE.divide(BigDecimal.valueOf(3), wide), wide));
+		return lnM.add(ln2.multiply(BigDecimal.valueOf(k)), wide).round(context);
+	}
+
+	/**
+	 * Returns {@code sinh(x) = (e^x − e^−x) / 2}, widened for cancellation near zero.
+	 */
+	static BigDecimal sinh(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, cancellation(x));
+		BigDecimal e = exp(x, wide);
+		return e.subtract(BigDecimal.ONE.divide(e, wide), wide).divide(TWO, wide).round(context);
+	}
+
+	/**
+	 * Returns {@code cosh(x) = (e^x + e^−x) / 2}.
+	 */
+	static BigDecimal cosh(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, 0);
+		BigDecimal e = exp(x, wide);
+		return e.add(BigDecimal.ONE.divide(e, wide), wide).divide(TWO, wide).round(context);
+	}
+
+	/**
+	 * Returns {@code tanh(x) = (e^2x − 1) / (e^2x + 1)}, widened by the
+	 * digits of {@code 1 − |tanh(x)| ≈ 2e^−2|x|} so directed rounding still
+	 * sees that the result is below one.
+	 */
+	static BigDecimal tanh(BigDecimal x, MathContext context) {
+		int saturation = (int) Math.ceil(2 * Math.abs(x.doubleValue()) / Math.log(10));
+		MathContext wide = wide(context, cancellation(x) + saturation);
+		BigDecimal e = exp(x.multiply(TWO), wide);
+		return e.subtract(BigDecimal.ONE).divide(e.add(BigDecimal.ONE), wide).round(context);
+	}
+
+	/**
+	 * Returns {@code asinh(x) = sign(x) ln(|x| + √(x² + 1))}.
+	 */
+	static BigDecimal asinh(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, cancellation(x));
+		BigDecimal a = x.abs();
+		BigDecimal value = ln(a.add(a.multiply(a).add(BigDecimal.ONE).sqrt(wide)), wide);
+		return (x.signum() < 0 ? value.negate() : value).round(context);
+	}
+
+	/**
+	 * Returns {@code acosh(x) = ln(x + √(x² − 1))} for {@code x ≥ 1}.
+	 */
+	static BigDecimal acosh(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, cancellation(x.subtract(BigDecimal.ONE)));
+		return ln(x.add(x.multiply(x).subtract(BigDecimal.ONE).sqrt(wide)), wide).round(context);
+	}
+
+	/**
+	 * Returns {@code atanh(x) = ln((1 + x) / (1 − x)) / 2} for {@code |x| < 1}.
+	 */
+	static BigDecimal atanh(BigDecimal x, MathContext context) {
+		MathContext wide = wide(context, cancellation(x));
+		BigDecimal ratio = BigDecimal.ONE.add(x).divide(BigDecimal.ONE.subtract(x), wide);
+		return ln(ratio, wide).divide(TWO, wide).round(context);
+	}
+
+	/**
+	 * Returns one unit in the last place of {@code x} rounded to
+	 * {@code context}.
+	 */
+	static BigDecimal ulp(BigDecimal x, MathContext context) {
+		return BigDecimal.ONE.movePointLeft(context.getPrecision() - (x.precision() - x.scale()));
+	}
+
+	private static BigDecimal sincos(BigDecimal x, MathContext context, boolean sine) {
+		if (x.signum() == 0)
+			return sine ? BigDecimal.ZERO : BigDecimal.ONE.round(context);
+		int magnitude = Math.max(1, x.precision() - x.scale());
+		// |x| near a multiple of π/2 can cancel up to its own digits
+		MathContext wide = wide(context, magnitude + x.precision());
+		BigDecimal halfPi = pi(wide).divide(TWO, wide);
+		BigInteger quarterTurns = x.divide(halfPi, new MathContext(magnitude + 5)).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+		BigDecimal r = x.subtract(halfPi.multiply(new BigDecimal(quarterTurns)), wide);
+		int quadrant = quarterTurns.mod(BigInteger.valueOf(4)).intValue();
+		boolean useSine = sine == (quadrant % 2 == 0);
+		BigDecimal value = useSine ? sinSeries(r, wide) : cosSeries(r, wide);
+		boolean negate = sine ? quadrant >= 2 : quadrant == 1 || quadrant == 2;
+		return (negate ? value.negate() : value).round(context);
+	}
+
+	private static BigDecimal sinSeries(BigDecimal x, MathContext context) {
+		BigDecimal square = x.multiply(x, context);
+		BigDecimal term = x;
+		BigDecimal sum = x;
+		BigDecimal epsilon = x.abs().movePointLeft(context.getPrecision() + 5);
+		for (int n = 2; term.abs().compareTo(epsilon) > 0; n += 2) {
+			term = term.multiply(square, context).divide(BigDecimal.valueOf((long) n * (n + 1)), context).negate();
+			sum = sum.add(term, context);
+		}
+		return sum;
+	}
+
+	private static BigDecimal cosSeries(BigDecimal x, MathContext context) {
+		BigDecimal square = x.multiply(x, context);
+		BigDecimal term = BigDecimal.ONE;
+		BigDecimal sum = BigDecimal.ONE;
+		BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision() + 5);
+		for (int n = 1; term.abs().compareTo(epsilon) > 0; n += 2) {
+			term = term.multiply(square, context).divide(BigDecimal.valueOf((long) n * (n + 1)), context).negate();
+			sum = sum.add(term, context);
+		}
+		return sum;
+	}
+
+	private static BigDecimal atanReciprocal(int n, MathContext context) {
+		BigDecimal x = BigDecimal.ONE.divide(BigDecimal.valueOf(n), context);
+		BigDecimal square = x.multiply(x, context);
+		BigDecimal term = x;
+		BigDecimal sum = x;
+		BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision() + 5);
+		for (int k = 3; term.compareTo(epsilon) > 0; k += 2) {
+			term = term.multiply(square, context);
+			BigDecimal contribution = term.divide(BigDecimal.valueOf(k), context);
+			sum = (k & 2) != 0 ? sum.subtract(contribution, context) : sum.add(contribution, context);
+		}
+		return sum;
+	}
+
+	private static BigDecimal atanhSeries(BigDecimal z, MathContext context) {
+		BigDecimal square = z.multiply(z, context);
+		BigDecimal term = z;
+		BigDecimal sum = z;
+		BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision() + 5);
+		for (int k = 3; term.abs().compareTo(epsilon) > 0; k += 2) {
+			term = term.multiply(square, context);
+			sum = sum.add(term.divide(BigDecimal.valueOf(k), context), context);
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the number of leading digits that cancel when {@code x} is
+	 * close to zero, so the widened context still covers every digit.
+	 */
+	private static int cancellation(BigDecimal x) {
+		return x.signum() == 0 ? 0 : Math.max(0, -(x.precision() - x.scale()));
+	}
+
+	private static MathContext wide(MathContext context, int more) {
+		return new MathContext(context.getPrecision() + EXTRA_DIGITS + more, RoundingMode.HALF_EVEN);
+	}
+
+}
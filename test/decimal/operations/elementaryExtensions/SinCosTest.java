@@ -0,0 +1,59 @@
+package decimal.operations.elementaryExtensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class SinCosTest {
+
+	@Test
+	void sincosMatchesSinAndCosToOneUlp() {
+		for (MathContext context : new MathContext[] {new MathContext(20), MathContext.DECIMAL128, new MathContext(120)}) {
+			for (BigDecimal x : TrigonometryTest.angles(context)) {
+				Trigonometry.SinCos sincos = Trigonometry.sincos(new Decimal(x), context);
+				assertWithinOneUlp(Trigonometry.sin(new Decimal(x), context).toBigDecimal(), sincos.sin().toBigDecimal(), context, "sin " + x);
+				assertWithinOneUlp(Trigonometry.cos(new Decimal(x), context).toBigDecimal(), sincos.cos().toBigDecimal(), context, "cos " + x);
+			}
+		}
+	}
+
+	@Test
+	void tanAndCotNearTheirPoles() {
+		MathContext context = new MathContext(30);
+		BigDecimal halfPi = Reference.pi(new MathContext(120)).divide(BigDecimal.valueOf(2));
+		for (int k = -3; k <= 3; k++) {
+			BigDecimal pole = halfPi.multiply(BigDecimal.valueOf(k));
+			for (int digits : new int[] {8, 20, 40, 60}) {
+				for (BigDecimal x : new BigDecimal[] {pole.round(new MathContext(digits)), pole.add(BigDecimal.ONE.movePointLeft(digits))}) {
+					if (x.signum() == 0)
+						continue;
+					BigDecimal sin = Reference.sin(x, new MathContext(context.getPrecision() + 10));
+					BigDecimal cos = Reference.cos(x, new MathContext(context.getPrecision() + 10));
+					// odd k: tan has a pole and cot a zero; even k: the other way round
+					assertWithinOneUlp(sin.divide(cos, context), Trigonometry.tan(new Decimal(x), context).toBigDecimal(), context, "tan " + x);
+					assertWithinOneUlp(cos.divide(sin, context), Trigonometry.cot(new Decimal(x), context).toBigDecimal(), context, "cot " + x);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asserts that {@code actual} differs from {@code expected} by at most
+	 * one unit in the last place of {@code context}.
+	 */
+	private static void assertWithinOneUlp(BigDecimal expected, BigDecimal actual, MathContext context, String message) {
+		if (expected.signum() == 0) {
+			assertEquals(0, actual.signum(), message);
+			return;
+		}
+		BigDecimal difference = expected.subtract(actual).abs();
+		assertTrue(difference.compareTo(Reference.ulp(expected, context)) <= 0, message + ": expected " + expected + " but was " + actual);
+	}
+
+}
@@ -0,0 +1,86 @@
+package decimal.operations.elementaryExtensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import decimal.Decimal;
+
+class TrigonometryTest {
+
+	@Test
+	void sinAndCosMatchTheReference() {
+		for (MathContext context : new MathContext[] {new MathContext(20), MathContext.DECIMAL128, new MathContext(120)}) {
+			for (BigDecimal x : angles(context)) {
+				assertEquals(Reference.sin(x, context), Trigonometry.sin(new Decimal(x), context).toBigDecimal(), "sin " + x);
+				assertEquals(Reference.cos(x, context), Trigonometry.cos(new Decimal(x), context).toBigDecimal(), "cos " + x);
+			}
+		}
+	}
+
+	@Test
+	void hugeArgumentsNearMultiplesOfHalfPiKeepEveryDigit() {
+		MathContext context = new MathContext(30);
+		BigDecimal halfPi = Reference.pi(new MathContext(200)).divide(BigDecimal.valueOf(2));
+		for (String quarterTurns : new String[] {"1", "2", "3", "4", "1000001", "123456789012345", "100000000000000000000000000003"}) {
+			BigDecimal multiple = halfPi.multiply(new BigDecimal(quarterTurns));
+			for (int digits : new int[] {25, 45, 70}) {
+				BigDecimal x = multiple.round(new MathContext(digits)); // within 10^-digits relative of the multiple
+				assertEquals(Reference.sin(x, context), Trigonometry.sin(new Decimal(x), context).toBigDecimal(), "sin " + x);
+				assertEquals(Reference.cos(x, context), Trigonometry.cos(new Decimal(x), context).toBigDecimal(), "cos " + x);
+			}
+		}
+	}
+
+	@Test
+	void zeroAndUnlimitedPrecision() {
+		MathContext context = MathContext.DECIMAL64;
+		for (String zero : new String[] {"0", "-0", "0.000", "-0E+5"}) {
+			assertEquals(0, Trigonometry.sin(new Decimal(zero), context).toBigDecimal().signum(), zero);
+			assertEquals(0, BigDecimal.ONE.compareTo(Trigonometry.cos(new Decimal(zero), context).toBigDecimal()), zero);
+			assertEquals(0, Trigonometry.sincos(new Decimal(zero), context).sin().toBigDecimal().signum(), zero);
+			assertEquals(0, BigDecimal.ONE.compareTo(Trigonometry.sincos(new Decimal(zero), context).cos().toBigDecimal()), zero);
+		}
+		assertThrows(ArithmeticException.class, () -> Trigonometry.sin(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Trigonometry.cos(Decimal.ONE, MathContext.UNLIMITED));
+		assertThrows(ArithmeticException.class, () -> Trigonometry.sincos(Decimal.ONE, MathContext.UNLIMITED));
+	}
+
+	@Test
+	void reductionDoesNotGrowThePiMemo() {
+		MathContext context = MathContext.DECIMAL64;
+		Trigonometry.sin(new Decimal("1E+40"), context); // warm up the master value
+		int before = Trigonometry.piCache().memoizedContexts();
+		for (int exponent = 1; exponent < 40; exponent++)
+			Trigonometry.sin(new Decimal("3.7E+" + exponent), context);
+		assertEquals(before, Trigonometry.piCache().memoizedContexts());
+	}
+
+	/**
+	 * Returns angles of every quadrant and magnitude, including quadrant
+	 * boundaries approximated to the precision of {@code context}.
+	 */
+	static List<BigDecimal> angles(MathContext context) {
+		Random random = new Random(context.getPrecision());
+		List<BigDecimal> angles = new ArrayList<>();
+		for (String x : new String[] {"1E-30", "-1E-7", "0.5", "0.785", "0.7853981633974483096156608458198757", "1", "-1.5", "2",
+				"3", "3.14159", "-4", "6.28318530717958647692528676655900577", "10", "100", "1E+9", "-1E+9", "123456789.123456789", "1E+25"})
+			angles.add(new BigDecimal(x));
+		BigDecimal halfPi = Reference.pi(new MathContext(context.getPrecision() + 10)).divide(BigDecimal.valueOf(2));
+		for (int k = -4; k <= 4; k++)
+			if (k != 0)
+				angles.add(halfPi.multiply(BigDecimal.valueOf(k)).round(context)); // quadrant boundaries
+		for (int i = 0; i < 40; i++)
+			angles.add(new BigDecimal(new BigInteger(80, random), 20).movePointLeft(random.nextInt(6)).multiply(BigDecimal.valueOf(random.nextBoolean() ? 1 : -1)));
+		return angles;
+	}
+
+}